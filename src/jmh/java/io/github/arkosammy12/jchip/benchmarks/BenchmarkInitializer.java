@@ -0,0 +1,125 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
+import io.github.arkosammy12.jchip.main.HeadlessEmulatorHost;
+import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.util.Variant;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+// Emulator settings for a synthetic benchmark ROM. The ROM database is loaded once and shared by every benchmark.
+public final class BenchmarkInitializer implements EmulatorInitializer {
+
+    private static final Chip8Database DATABASE = new Chip8Database();
+
+    private final Variant variant;
+    private final RomImage rom;
+    private final QuirkProfile quirkProfile;
+
+    public BenchmarkInitializer(Variant variant, byte[] rom, QuirkProfile quirkProfile) {
+        this.variant = variant;
+        this.rom = RomImage.of(rom);
+        this.quirkProfile = quirkProfile;
+    }
+
+    public static Emulator createEmulator(Variant variant, InstructionMix mix) {
+        return createEmulator(variant, mix, QuirkProfile.VARIANT_DEFAULT);
+    }
+
+    public static Emulator createEmulator(Variant variant, InstructionMix mix, QuirkProfile quirkProfile) {
+        return new HeadlessEmulatorHost(DATABASE).createEmulator(new BenchmarkInitializer(variant, mix.assemble(variant), quirkProfile));
+    }
+
+    @Override
+    public Optional<Path> getRomPath() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<RomImage> getRomImage() {
+        return Optional.of(this.rom);
+    }
+
+    @Override
+    public Optional<Variant> getVariant() {
+        return Optional.of(this.variant);
+    }
+
+    @Override
+    public Optional<DisplayAngle> getDisplayAngle() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<KeyboardLayout> getKeyboardLayout() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> useVariantQuirks() {
+        return Optional.of(this.quirkProfile == QuirkProfile.VARIANT_DEFAULT);
+    }
+
+    @Override
+    public Optional<Integer> getInstructionsPerFrame() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ColorPalette> getColorPalette() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doVFReset() {
+        return this.quirkProfile.getQuirk();
+    }
+
+    @Override
+    public Optional<Chip8EmulatorSettings.MemoryIncrementQuirk> getMemoryIncrementQuirk() {
+        return this.quirkProfile.getQuirk().map(enabled -> enabled ? Chip8EmulatorSettings.MemoryIncrementQuirk.INCREMENT_X_1 : Chip8EmulatorSettings.MemoryIncrementQuirk.NONE);
+    }
+
+    @Override
+    public Optional<Boolean> doDisplayWait() {
+        return this.quirkProfile.getQuirk();
+    }
+
+    @Override
+    public Optional<Boolean> doClipping() {
+        return this.quirkProfile.getQuirk();
+    }
+
+    @Override
+    public Optional<Boolean> doShiftVXInPlace() {
+        return this.quirkProfile.getQuirk();
+    }
+
+    @Override
+    public Optional<Boolean> doJumpWithVX() {
+        return this.quirkProfile.getQuirk();
+    }
+
+    public enum QuirkProfile {
+        VARIANT_DEFAULT,
+        ALL_ENABLED,
+        ALL_DISABLED;
+
+        private Optional<Boolean> getQuirk() {
+            return switch (this) {
+                case VARIANT_DEFAULT -> Optional.empty();
+                case ALL_ENABLED -> Optional.of(true);
+                case ALL_DISABLED -> Optional.of(false);
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.disassembler.AbstractDisassembler;
+import io.github.arkosammy12.jchip.disassembler.Disassembler;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Disassembler costs seen by the emulator thread, which queues traced addresses every instruction while the
+// debugger is open, and by the UI, which looks entries up by address and ordinal when painting the disassembly view.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DisassemblerBenchmark {
+
+    private static final int TRACE_RANGE = 30;
+    private static final long STATIC_DISASSEMBLY_TIMEOUT = 10_000;
+    private static final long STATIC_DISASSEMBLY_SETTLE_TIME = 100;
+
+    @Param({"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "HYBRID_CHIP_8"})
+    public Variant variant;
+
+    private Emulator emulator;
+    private AbstractDisassembler<?> disassembler;
+    private int[] addresses;
+    private int addressIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.emulator = BenchmarkInitializer.createEmulator(this.variant, InstructionMix.ALU);
+        Disassembler disassembler = Objects.requireNonNull(this.emulator.getDisassembler());
+        this.disassembler = (AbstractDisassembler<?>) disassembler;
+        this.disassembler.setEnabled(true);
+
+        // Let the background thread finish the static pass over memory, so that lookups see a full listing
+        long deadline = System.currentTimeMillis() + STATIC_DISASSEMBLY_TIMEOUT;
+        int lastSize = -1;
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(STATIC_DISASSEMBLY_SETTLE_TIME);
+            int size = this.disassembler.getSize();
+            if (size == lastSize) {
+                break;
+            }
+            lastSize = size;
+        }
+
+        int memorySize = this.emulator.getBusView().getMemorySize();
+        this.addresses = new int[1024];
+        for (int i = 0; i < this.addresses.length; i++) {
+            this.addresses[i] = (int) ((i * 2654435761L) % memorySize);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.emulator.close();
+    }
+
+    @Benchmark
+    public void traceInsert() {
+        this.disassembler.disassembleRange(this.nextAddress(), TRACE_RANGE, true);
+    }
+
+    @Benchmark
+    public Disassembler.Entry lookup() {
+        return this.disassembler.getEntry(this.disassembler.getOrdinalForAddress(this.nextAddress()));
+    }
+
+    private int nextAddress() {
+        int address = this.addresses[this.addressIndex];
+        this.addressIndex = (this.addressIndex + 1) & (this.addresses.length - 1);
+        return address;
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.cpu.Processor;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Sprite drawing and scrolling throughput per display type, measured in instructions of a DXYN or scroll heavy loop.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "--add-modules=jdk.incubator.vector"})
+public class DisplayBenchmark {
+
+    private static final int CYCLES_PER_INVOCATION = 1024;
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+    public int drawSprites(DrawState state) {
+        return runCycles(state.processor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+    public int scroll(ScrollState state) {
+        return runCycles(state.processor);
+    }
+
+    private static int runCycles(Processor processor) {
+        int flags = 0;
+        for (int i = 0; i < CYCLES_PER_INVOCATION; i++) {
+            flags |= processor.cycle();
+        }
+        return flags;
+    }
+
+    @State(Scope.Thread)
+    public static class DrawState {
+
+        @Param({"CHIP_8", "SUPER_CHIP_11", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+        public Variant variant;
+
+        private Emulator emulator;
+        private Processor processor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.emulator = BenchmarkInitializer.createEmulator(this.variant, InstructionMix.getDrawMix(this.variant));
+            this.processor = this.emulator.getProcessor();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            this.emulator.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class ScrollState {
+
+        @Param({"SUPER_CHIP_11", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+        public Variant variant;
+
+        private Emulator emulator;
+        private Processor processor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.emulator = BenchmarkInitializer.createEmulator(this.variant, InstructionMix.SCROLL);
+            this.processor = this.emulator.getProcessor();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            this.emulator.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.cpu.Processor;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Interpreter throughput of the variants that ignore quirks, on the same instruction mixes as InstructionThroughputBenchmark.
+// The cycle benchmark counts CHIP-8 instructions for STRICT CHIP-8 and CDP1802 machine cycles for HYBRID CHIP-8.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "--add-modules=jdk.incubator.vector"})
+public class FixedQuirkThroughputBenchmark {
+
+    private static final int CYCLES_PER_INVOCATION = 1024;
+
+    @Param({"STRICT_CHIP_8", "HYBRID_CHIP_8"})
+    public Variant variant;
+
+    @Param({"ALU", "MEMORY", "BRANCH"})
+    public InstructionMix mix;
+
+    private Emulator emulator;
+    private Processor processor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.emulator = BenchmarkInitializer.createEmulator(this.variant, this.mix);
+        this.processor = this.emulator.getProcessor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.emulator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+    public int cycle() {
+        Processor processor = this.processor;
+        int flags = 0;
+        for (int i = 0; i < CYCLES_PER_INVOCATION; i++) {
+            flags |= processor.cycle();
+        }
+        return flags;
+    }
+
+    @Benchmark
+    public int executeFrame() {
+        this.emulator.executeFrame();
+        return this.emulator.getCurrentInstructionsPerFrame();
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.util.Variant;
+
+// Synthetic CHIP-8 programs written for 0x200. Each one runs its prefix once and then loops forever,
+// with sprite data and scratch memory placed after the code at 0x300. Addresses are relocated for variants that load programs elsewhere.
+public enum InstructionMix {
+    ALU(
+            new int[0],
+            new int[] {0x6005, 0x610A, 0x7101, 0x8014, 0x8105, 0x8012, 0x8101, 0x8013, 0x8016, 0x810E, 0x8017, 0xC0FF, 0xA300, 0xF11E, 0x8120},
+            new int[0]
+    ),
+    MEMORY(
+            new int[0],
+            new int[] {0xA380, 0x6012, 0x6134, 0xF033, 0xA390, 0xF355, 0xA390, 0xF365, 0xF029},
+            new int[0]
+    ),
+    // The call lands on the 00EE placed right after the closing jump
+    BRANCH(
+            new int[0],
+            new int[] {0x6000, 0x3001, 0x4001, 0x1200, 0x220C},
+            new int[] {0x00EE}
+    ),
+    DRAW(
+            new int[0],
+            new int[] {0xA300, 0x6000, 0x6100, 0xD01F, 0x7008, 0xD01F, 0x7008, 0xD01F, 0x7008, 0xD01F},
+            new int[0]
+    ),
+    MEGA_DRAW(
+            new int[] {0x0011, 0x0310, 0x0410},
+            new int[] {0xA300, 0x6000, 0x6100, 0xD010, 0x7010, 0xD010, 0x7010, 0xD010},
+            new int[0]
+    ),
+    SCROLL(
+            new int[] {0x00FF},
+            new int[] {0xA300, 0x6000, 0x6100, 0xD010, 0x00C4, 0x00FB, 0x00FC, 0x7010},
+            new int[0]
+    );
+
+    private static final int ROM_START = 0x200;
+    private static final int CHIP_8X_ROM_START = 0x300;
+    private static final int DATA_OFFSET = 0x100;
+    private static final int DATA_SIZE = 0x100;
+
+    private final int[] prefix;
+    private final int[] loop;
+    private final int[] suffix;
+
+    InstructionMix(int[] prefix, int[] loop, int[] suffix) {
+        this.prefix = prefix;
+        this.loop = loop;
+        this.suffix = suffix;
+    }
+
+    public byte[] assemble(Variant variant) {
+        int relocation = (variant == Variant.CHIP_8X ? CHIP_8X_ROM_START : ROM_START) - ROM_START;
+        byte[] rom = new byte[DATA_OFFSET + DATA_SIZE];
+        int offset = 0;
+        for (int instruction : this.prefix) {
+            offset = putInstruction(rom, offset, relocate(instruction, relocation));
+        }
+        int loopStart = ROM_START + offset;
+        for (int instruction : this.loop) {
+            offset = putInstruction(rom, offset, relocate(instruction, relocation));
+        }
+        offset = putInstruction(rom, offset, relocate(0x1000 | loopStart, relocation));
+        for (int instruction : this.suffix) {
+            offset = putInstruction(rom, offset, relocate(instruction, relocation));
+        }
+        if (offset > DATA_OFFSET) {
+            throw new IllegalStateException("Instruction mix " + this + " overlaps its data!");
+        }
+        for (int i = 0; i < DATA_SIZE; i++) {
+            rom[DATA_OFFSET + i] = (byte) (i % 2 == 0 ? 0xAA : 0x55);
+        }
+        return rom;
+    }
+
+    // The MEGA-CHIP display has a separate drawing path once mega mode is on
+    public static InstructionMix getDrawMix(Variant variant) {
+        return variant == Variant.MEGA_CHIP ? MEGA_DRAW : DRAW;
+    }
+
+    // 1NNN, 2NNN and ANNN are the only instructions the mixes use with an absolute address
+    private static int relocate(int instruction, int relocation) {
+        return switch (instruction >>> 12) {
+            case 0x1, 0x2, 0xA -> (instruction & 0xF000) | ((instruction + relocation) & 0x0FFF);
+            default -> instruction;
+        };
+    }
+
+    private static int putInstruction(byte[] rom, int offset, int instruction) {
+        rom[offset] = (byte) (instruction >>> 8);
+        rom[offset + 1] = (byte) instruction;
+        return offset + 2;
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.cpu.Processor;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Interpreter throughput per CHIP-8 variant and quirk profile on synthetic instruction mixes. The cycle benchmark counts
+// CHIP-8 instructions, and the frame benchmark goes through the whole emulator frame, including timers and sound.
+// STRICT CHIP-8 and HYBRID CHIP-8 ignore quirks, so they are measured by FixedQuirkThroughputBenchmark instead.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "--add-modules=jdk.incubator.vector"})
+public class InstructionThroughputBenchmark {
+
+    private static final int CYCLES_PER_INVOCATION = 1024;
+
+    @Param({"CHIP_8", "CHIP_8X", "CHIP_48", "SUPER_CHIP_10", "SUPER_CHIP_11", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    public Variant variant;
+
+    @Param({"ALU", "MEMORY", "BRANCH"})
+    public InstructionMix mix;
+
+    @Param({"VARIANT_DEFAULT", "ALL_ENABLED", "ALL_DISABLED"})
+    public BenchmarkInitializer.QuirkProfile quirks;
+
+    private Emulator emulator;
+    private Processor processor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.emulator = BenchmarkInitializer.createEmulator(this.variant, this.mix, this.quirks);
+        this.processor = this.emulator.getProcessor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.emulator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CYCLES_PER_INVOCATION)
+    public int cycle() {
+        Processor processor = this.processor;
+        int flags = 0;
+        for (int i = 0; i < CYCLES_PER_INVOCATION; i++) {
+            flags |= processor.cycle();
+        }
+        return flags;
+    }
+
+    @Benchmark
+    public int executeFrame() {
+        this.emulator.executeFrame();
+        return this.emulator.getCurrentInstructionsPerFrame();
+    }
+
+}
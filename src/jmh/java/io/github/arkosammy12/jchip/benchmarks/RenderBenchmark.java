@@ -0,0 +1,62 @@
+package io.github.arkosammy12.jchip.benchmarks;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.video.Display;
+import io.github.arkosammy12.jchip.ui.renderer.DisplayRenderer;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of turning a display's state into image pixels, once per frame. populateRenderBuffer is the part paid on the
+// emulator thread, and renderFrame adds the copy into the image data done on the render thread.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "--add-modules=jdk.incubator.vector"})
+public class RenderBenchmark {
+
+    private static final int WARMUP_FRAMES = 30;
+
+    @Param({"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64", "HYBRID_CHIP_8"})
+    public Variant variant;
+
+    private Emulator emulator;
+    private Display<?> display;
+    private int[] renderBuffer;
+    private int[] pixels;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.emulator = BenchmarkInitializer.createEmulator(this.variant, InstructionMix.getDrawMix(this.variant));
+        // Put something on the screen before measuring
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            this.emulator.executeFrame();
+        }
+        this.display = this.emulator.getDisplay();
+        int pixelCount = this.display.getImageWidth() * this.display.getImageHeight();
+        this.renderBuffer = new int[pixelCount];
+        this.pixels = new int[pixelCount];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.emulator.close();
+    }
+
+    @Benchmark
+    public int[] populateRenderBuffer() {
+        this.display.populateRenderBuffer(this.renderBuffer);
+        return this.renderBuffer;
+    }
+
+    @Benchmark
+    public int[] renderFrame() {
+        this.display.populateRenderBuffer(this.renderBuffer);
+        DisplayRenderer.copyToImage(this.renderBuffer, this.pixels);
+        return this.pixels;
+    }
+
+}
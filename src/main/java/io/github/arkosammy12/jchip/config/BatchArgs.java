@@ -0,0 +1,86 @@
+package io.github.arkosammy12.jchip.config;
+
+import io.github.arkosammy12.jchip.main.Main;
+import io.github.arkosammy12.jchip.util.Variant;
+import picocli.CommandLine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@CommandLine.Command(
+        name = "jchip batch",
+        mixinStandardHelpOptions = true,
+        version = Main.VERSION_STRING,
+        description = "Runs every ROM in a directory against a matrix of variants and quirks without a window or audio device, and prints a report."
+)
+public class BatchArgs {
+
+    @CommandLine.Option(
+            names = {"--directory", "-d"},
+            required = true,
+            description = "The directory containing the ROM files to run. Subdirectories are included."
+    )
+    private Path romDirectory;
+
+    @CommandLine.Option(
+            names = {"--variants", "-v"},
+            converter = Variant.Converter.class,
+            split = ",",
+            description = "The comma separated list of variants to run each ROM on. Leave unspecified to use the variant detected for each ROM."
+    )
+    private List<Variant> variants = new ArrayList<>();
+
+    @CommandLine.Option(
+            names = "--quirk-matrix",
+            description = "Run every combination of the CHIP-8 quirks instead of only the default quirks of each variant."
+    )
+    private boolean quirkMatrix;
+
+    @CommandLine.Option(
+            names = "--frames",
+            defaultValue = "600",
+            description = "The amount of frames to run each configuration for. Defaults to ${DEFAULT-VALUE}."
+    )
+    private int frames;
+
+    @CommandLine.Option(
+            names = {"--threads", "-t"},
+            defaultValue = "0",
+            description = "The amount of configurations to run in parallel. Defaults to the amount of available processors."
+    )
+    private int threads;
+
+    @CommandLine.Option(
+            names = {"--report", "-o"},
+            defaultValue = CommandLine.Option.NULL_VALUE,
+            description = "The file to write the tab separated report to. Defaults to the standard output."
+    )
+    private Optional<Path> reportPath;
+
+    public Path getRomDirectory() {
+        return this.romDirectory.toAbsolutePath();
+    }
+
+    public List<Variant> getVariants() {
+        return List.copyOf(this.variants);
+    }
+
+    public boolean useQuirkMatrix() {
+        return this.quirkMatrix;
+    }
+
+    public int getFrames() {
+        return this.frames;
+    }
+
+    public int getThreads() {
+        return this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public Optional<Path> getReportPath() {
+        return this.reportPath.map(Path::toAbsolutePath);
+    }
+
+}
@@ -3,12 +3,13 @@ package io.github.arkosammy12.jchip.config;
 import io.github.arkosammy12.jchip.main.Main;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
-import io.github.arkosammy12.jchip.config.settings.EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
 import io.github.arkosammy12.jchip.util.KeyboardLayout;
 import io.github.arkosammy12.jchip.emulators.video.BuiltInColorPalette;
 import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
+import org.jetbrains.annotations.Nullable;
 import picocli.CommandLine;
 
 import java.nio.file.Path;
@@ -124,9 +125,36 @@ public class CLIArgs implements EmulatorInitializer {
     )
     private Optional<Boolean> doJumpWithVX;
 
+    @CommandLine.Option(
+            names = "--headless",
+            description = "Run the ROM without a window or audio device and print the final framebuffer hash, MIPS and wall time."
+    )
+    private boolean headless;
+
+    @CommandLine.Option(
+            names = "--frames",
+            defaultValue = "600",
+            description = "The amount of frames to run in headless mode. Defaults to ${DEFAULT-VALUE}."
+    )
+    private int headlessFrames;
+
+    @Nullable
+    private RomImage romImage;
+
+    public boolean isHeadless() {
+        return this.headless;
+    }
+
+    public int getHeadlessFrames() {
+        return this.headlessFrames;
+    }
+
     @Override
-    public Optional<byte[]> getRawRom() {
-        return Optional.of(EmulatorSettings.readRawRom(romPath.toAbsolutePath()));
+    public Optional<RomImage> getRomImage() {
+        if (this.romImage == null) {
+            this.romImage = RomImage.open(this.romPath.toAbsolutePath());
+        }
+        return Optional.of(this.romImage);
     }
 
     @Override
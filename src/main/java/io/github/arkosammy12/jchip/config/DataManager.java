@@ -2,7 +2,11 @@ package io.github.arkosammy12.jchip.config;
 
 import io.github.arkosammy12.jchip.config.initializers.ApplicationInitializer;
 import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
+import io.github.arkosammy12.jchip.emulators.state.RewindBuffer;
+import io.github.arkosammy12.jchip.main.AudioRenderer;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.FastForwardSpeed;
 import io.github.arkosammy12.jchip.util.KeyboardLayout;
 import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.emulators.video.BuiltInColorPalette;
@@ -46,8 +50,11 @@ public final class DataManager implements ApplicationInitializer {
 
     public static final String VOLUME = "settings.volume";
     public static final String MUTED = "settings.muted";
+    public static final String AUDIO_LATENCY = "settings.audio_latency";
     public static final String KEYBOARD_LAYOUT = "settings.keyboard_layout";
     public static final String SHOW_INFO_BAR = "settings.show_info_bar";
+    public static final String REWIND_BUFFER_SIZE = "settings.rewind_buffer_size";
+    public static final String FAST_FORWARD_SPEED = "settings.fast_forward_speed";
 
     public static final String SHOW_DEBUGGER = "debug.show_debugger";
     public static final String SHOW_DISASSEMBLER = "debug.show_disassembler";
@@ -57,11 +64,20 @@ public final class DataManager implements ApplicationInitializer {
 
     private static final Path APP_DIR = Path.of(AppDirsFactory.getInstance().getUserDataDir("jchip", null, null));
     private static final Path DATA_FILE = APP_DIR.resolve("data.toml");
+    private static final Path SAVE_STATE_DIR = APP_DIR.resolve("states");
 
     private final Map<String, Object> transientEntries = new ConcurrentHashMap<>();
     private final Map<String, Object> persistentEntries = new ConcurrentHashMap<>();
 
     public DataManager() {
+        this(true);
+    }
+
+    // Batch runs pass false, so that every instance starts from the same empty state instead of the user's data file
+    public DataManager(boolean loadDataFile) {
+        if (!loadDataFile) {
+            return;
+        }
         if (!Files.exists(DATA_FILE)) {
             Logger.warn("Found no existing data file at \"{}\"", DATA_FILE);
             return;
@@ -191,13 +207,17 @@ public final class DataManager implements ApplicationInitializer {
         }
     }
 
+    public Path getSaveStateDirectory() {
+        return SAVE_STATE_DIR;
+    }
+
     @Override
     public Optional<Path> getRomPath() {
         return Optional.empty();
     }
 
     @Override
-    public Optional<byte[]> getRawRom() {
+    public Optional<RomImage> getRomImage() {
         return Optional.empty();
     }
 
@@ -221,6 +241,21 @@ public final class DataManager implements ApplicationInitializer {
         return this.getPersistent(MUTED).flatMap(v -> tryOptional(() -> Boolean.valueOf(v)));
     }
 
+    @Override
+    public Optional<Integer> getAudioLatency() {
+        return this.getPersistent(AUDIO_LATENCY).flatMap(v -> tryOptional(() -> Integer.valueOf(v))).filter(i -> i >= 1 && i <= AudioRenderer.MAX_TARGET_FRAME_LATENCY);
+    }
+
+    @Override
+    public Optional<Integer> getRewindBufferSize() {
+        return this.getPersistent(REWIND_BUFFER_SIZE).flatMap(v -> tryOptional(() -> Integer.valueOf(v))).filter(i -> i >= 0 && i <= RewindBuffer.MAX_CAPACITY_MEGABYTES);
+    }
+
+    @Override
+    public Optional<FastForwardSpeed> getFastForwardSpeed() {
+        return this.getPersistent(FAST_FORWARD_SPEED).map(str -> getEnumFromSerialized(FastForwardSpeed.class, str));
+    }
+
     @Override
     public Optional<Boolean> getShowingInfoBar() {
         return this.getPersistent(SHOW_INFO_BAR).flatMap(v -> tryOptional(() -> Boolean.valueOf(v)));
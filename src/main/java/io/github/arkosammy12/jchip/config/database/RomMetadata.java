@@ -0,0 +1,145 @@
+package io.github.arkosammy12.jchip.config.database;
+
+import io.github.arkosammy12.jchip.config.initializers.Chip8Initializer;
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.emulators.video.BuiltInColorPalette;
+import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
+import io.github.arkosammy12.jchip.emulators.video.CustomColorPalette;
+import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static io.github.arkosammy12.jchip.util.Variant.*;
+
+public final class RomMetadata implements Chip8Initializer {
+
+    @Nullable
+    private final ProgramEntry programEntry;
+
+    @Nullable
+    private final RomEntry romEntry;
+
+    @Nullable
+    private final PlatformEntry platformEntry;
+
+    RomMetadata(@Nullable ProgramEntry programEntry, @Nullable RomEntry romEntry, @Nullable PlatformEntry platformEntry) {
+        this.programEntry = programEntry;
+        this.romEntry = romEntry;
+        this.platformEntry = platformEntry;
+    }
+
+    public Optional<String> getProgramTitle() {
+        return Optional.ofNullable(this.programEntry).flatMap(ProgramEntry::getTitle);
+    }
+
+    @Override
+    public Optional<Integer> getInstructionsPerFrame() {
+        return Optional.ofNullable(this.romEntry).flatMap(RomEntry::getTickRate);
+    }
+
+    @Override
+    public Optional<ColorPalette> getColorPalette() {
+        Optional<List<String>> colorsOptional = Optional.ofNullable(this.romEntry)
+                .flatMap(RomEntry::getColors)
+                .flatMap(RomEntry.Colors::getPixels);
+        if (colorsOptional.isPresent()) {
+            List<String> pixels = colorsOptional.get();
+            if (!pixels.isEmpty()) {
+                int[][] customPixelColors = new int[pixels.size()][3];
+                for (int i = 0; i < pixels.size(); i++) {
+                    String hex = pixels.get(i);
+                    customPixelColors[i][0] = Integer.parseInt(hex.substring(1, 3), 16);
+                    customPixelColors[i][1] = Integer.parseInt(hex.substring(3, 5), 16);
+                    customPixelColors[i][2] = Integer.parseInt(hex.substring(5, 7), 16);
+                }
+                return Optional.of(new CustomColorPalette(BuiltInColorPalette.CADMIUM, customPixelColors));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<DisplayAngle> getDisplayAngle() {
+        return Optional.ofNullable(this.romEntry)
+                .flatMap(RomEntry::getScreenRotation)
+                .map(DisplayAngle::getDisplayAngleForIntValue);
+    }
+
+    @Override
+    public Optional<Variant> getVariant() {
+        return Optional.ofNullable(this.platformEntry)
+                .flatMap(PlatformEntry::getId)
+                .flatMap(RomMetadata::getVariantForPlatformId);
+    }
+
+    @Override
+    public Optional<Boolean> doVFReset() {
+        return getQuirk(Quirks::getLogic);
+    }
+
+    @Override
+    public Optional<Chip8EmulatorSettings.MemoryIncrementQuirk> getMemoryIncrementQuirk() {
+        Optional<Boolean> leaveIUnchanged = getQuirk(Quirks::getMemoryLeaveIUnchanged);
+        if (leaveIUnchanged.isEmpty()) {
+            return Optional.empty();
+        }
+        if (leaveIUnchanged.get()) {
+            return Optional.of(Chip8EmulatorSettings.MemoryIncrementQuirk.NONE);
+        }
+        return getQuirk(Quirks::getMemoryIncrementByX).map(incrementByX -> incrementByX ? Chip8EmulatorSettings.MemoryIncrementQuirk.INCREMENT_X : Chip8EmulatorSettings.MemoryIncrementQuirk.INCREMENT_X_1);
+    }
+
+    @Override
+    public Optional<Boolean> doDisplayWait() {
+        return getQuirk(Quirks::getVBlank);
+    }
+
+    @Override
+    public Optional<Boolean> doClipping() {
+        return getQuirk(Quirks::getWrap).map(v -> !v);
+    }
+
+    @Override
+    public Optional<Boolean> doShiftVXInPlace() {
+        return getQuirk(Quirks::getShift);
+    }
+
+    @Override
+    public Optional<Boolean> doJumpWithVX() {
+        return getQuirk(Quirks::getJump);
+    }
+
+    private <T> Optional<T> getQuirk(Function<Quirks, Optional<T>> getter) {
+        return Optional.ofNullable(this.romEntry)
+                .flatMap(RomEntry::getQuirkyPlatforms)
+                .flatMap(quirkyPlatforms ->
+                        Optional.ofNullable(this.platformEntry)
+                                .flatMap(PlatformEntry::getId)
+                                .flatMap(platformId -> Optional.ofNullable(quirkyPlatforms.get(platformId)))
+                )
+                .flatMap(getter)
+                .or(() -> Optional.ofNullable(this.platformEntry)
+                        .flatMap(PlatformEntry::getQuirks)
+                        .flatMap(getter)
+                );
+    }
+
+    private static Optional<Variant> getVariantForPlatformId(String id) {
+        return switch (id) {
+            case "originalChip8", "modernChip8" -> Optional.of(CHIP_8);
+            case "hybridVIP" -> Optional.of(HYBRID_CHIP_8);
+            case "chip8x" -> Optional.of(CHIP_8X);
+            case "chip48" -> Optional.of(CHIP_48);
+            case "superchip1" -> Optional.of(SUPER_CHIP_10);
+            case "superchip" -> Optional.of(SUPER_CHIP_11);
+            case "megachip8" -> Optional.of(MEGA_CHIP);
+            case "xochip" -> Optional.of(XO_CHIP);
+            default -> Optional.empty();
+        };
+    }
+
+}
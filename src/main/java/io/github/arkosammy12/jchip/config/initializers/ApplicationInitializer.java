@@ -1,5 +1,7 @@
 package io.github.arkosammy12.jchip.config.initializers;
 
+import io.github.arkosammy12.jchip.util.FastForwardSpeed;
+
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,13 @@ public interface ApplicationInitializer extends EmulatorInitializer {
 
     Optional<Boolean> getMuted();
 
+    // Frames worth of audio kept queued on the audio device
+    Optional<Integer> getAudioLatency();
+
+    Optional<Integer> getRewindBufferSize();
+
+    Optional<FastForwardSpeed> getFastForwardSpeed();
+
     Optional<Boolean> getShowingInfoBar();
 
     Optional<Boolean> getShowingDebugger();
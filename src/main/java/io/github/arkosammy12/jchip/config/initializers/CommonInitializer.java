@@ -1,5 +1,6 @@
 package io.github.arkosammy12.jchip.config.initializers;
 
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
 import io.github.arkosammy12.jchip.util.KeyboardLayout;
 import io.github.arkosammy12.jchip.util.Variant;
@@ -11,7 +12,7 @@ public interface CommonInitializer {
 
     Optional<Path> getRomPath();
 
-    Optional<byte[]> getRawRom();
+    Optional<RomImage> getRomImage();
 
     Optional<Variant> getVariant();
 
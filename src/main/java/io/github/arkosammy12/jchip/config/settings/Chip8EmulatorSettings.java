@@ -1,9 +1,9 @@
 package io.github.arkosammy12.jchip.config.settings;
 
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.config.Serializable;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
-import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.config.database.RomMetadata;
 import io.github.arkosammy12.jchip.emulators.*;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
 import io.github.arkosammy12.jchip.util.DisplayNameProvider;
@@ -34,16 +34,15 @@ public class Chip8EmulatorSettings extends AbstractEmulatorSettings {
     private final boolean doShiftVXInPlace;
     private final boolean doJumpWithVX;
 
-    public Chip8EmulatorSettings(Jchip jchip, EmulatorInitializer initializer) {
-        super(jchip, initializer);
+    public Chip8EmulatorSettings(EmulatorHost host, EmulatorInitializer initializer) {
+        super(host, initializer);
 
-        Chip8Database database = jchip.getDatabase();
-        database.fetchDataForRom(this.getRawRom());
+        RomMetadata romMetadata = host.getDatabase().fetchDataForRom(this.getRomImage());
 
-        this.romTitle = database.getProgramTitle().orElse(initializer.getRomPath().map(path -> path.getFileName().toString()).orElse(null));
-        this.colorPalette = initializer.getColorPalette().orElse(database.getColorPalette().orElse(BuiltInColorPalette.CADMIUM));
-        this.displayAngle = initializer.getDisplayAngle().orElse(database.getDisplayAngle().orElse(DisplayAngle.DEG_0));
-        this.variant = initializer.getVariant().orElse(database.getVariant().orElse(CHIP_8));
+        this.romTitle = romMetadata.getProgramTitle().orElse(initializer.getRomPath().map(path -> path.getFileName().toString()).orElse(null));
+        this.colorPalette = initializer.getColorPalette().orElse(romMetadata.getColorPalette().orElse(BuiltInColorPalette.CADMIUM));
+        this.displayAngle = initializer.getDisplayAngle().orElse(romMetadata.getDisplayAngle().orElse(DisplayAngle.DEG_0));
+        this.variant = initializer.getVariant().orElse(romMetadata.getVariant().orElse(CHIP_8));
 
         DefaultQuirkSet defaultQuirkset = getDefaultQuirkSet(this.variant).orElse(new DefaultQuirkSet(false, MemoryIncrementQuirk.NONE, false, false, false, false, _ -> 0));
         this.hexSpriteFont = getHexSpriteFont(this.variant);
@@ -57,13 +56,13 @@ public class Chip8EmulatorSettings extends AbstractEmulatorSettings {
             this.doJumpWithVX = defaultQuirkset.doJumpWithVX();
             this.instructionsPerFrame = defaultQuirkset.instructionsPerFrame().applyAsInt(this.doDisplayWait);
         } else {
-            this.doVFReset = initializer.doVFReset().orElse(database.doVFReset().orElse(defaultQuirkset.doVFReset()));
-            this.memoryIncrementQuirk = initializer.getMemoryIncrementQuirk().orElse(database.getMemoryIncrementQuirk().orElse(defaultQuirkset.memoryIncrementQuirk()));
-            this.doDisplayWait = initializer.doDisplayWait().orElse(database.doDisplayWait().orElse((defaultQuirkset.doDisplayWait())));
-            this.doClipping = initializer.doClipping().orElse(database.doClipping().orElse(defaultQuirkset.doClipping()));
-            this.doShiftVXInPlace = initializer.doShiftVXInPlace().orElse(database.doShiftVXInPlace().orElse(defaultQuirkset.doShiftVXInPlace()));
-            this.doJumpWithVX = initializer.doJumpWithVX().orElse(database.doJumpWithVX().orElse(defaultQuirkset.doJumpWithVX()));
-            this.instructionsPerFrame = initializer.getInstructionsPerFrame().orElse(database.getInstructionsPerFrame().orElse(defaultQuirkset.instructionsPerFrame().applyAsInt(this.doDisplayWait)));
+            this.doVFReset = initializer.doVFReset().orElse(romMetadata.doVFReset().orElse(defaultQuirkset.doVFReset()));
+            this.memoryIncrementQuirk = initializer.getMemoryIncrementQuirk().orElse(romMetadata.getMemoryIncrementQuirk().orElse(defaultQuirkset.memoryIncrementQuirk()));
+            this.doDisplayWait = initializer.doDisplayWait().orElse(romMetadata.doDisplayWait().orElse((defaultQuirkset.doDisplayWait())));
+            this.doClipping = initializer.doClipping().orElse(romMetadata.doClipping().orElse(defaultQuirkset.doClipping()));
+            this.doShiftVXInPlace = initializer.doShiftVXInPlace().orElse(romMetadata.doShiftVXInPlace().orElse(defaultQuirkset.doShiftVXInPlace()));
+            this.doJumpWithVX = initializer.doJumpWithVX().orElse(romMetadata.doJumpWithVX().orElse(defaultQuirkset.doJumpWithVX()));
+            this.instructionsPerFrame = initializer.getInstructionsPerFrame().orElse(romMetadata.getInstructionsPerFrame().orElse(defaultQuirkset.instructionsPerFrame().applyAsInt(this.doDisplayWait)));
         }
     }
 
@@ -1,6 +1,6 @@
 package io.github.arkosammy12.jchip.config.settings;
 
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.config.initializers.CommonInitializer;
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
 import io.github.arkosammy12.jchip.emulators.Emulator;
@@ -19,8 +19,8 @@ public class CosmacVipEmulatorSettings extends AbstractEmulatorSettings {
     private final Variant variant;
     private final Chip8Interpreter chip8Interpreter;
 
-    public CosmacVipEmulatorSettings(Jchip jchip, Chip8Interpreter chip8Interpreter, CommonInitializer settings) {
-        super(jchip, settings);
+    public CosmacVipEmulatorSettings(EmulatorHost host, Chip8Interpreter chip8Interpreter, CommonInitializer settings) {
+        super(host, settings);
 
         this.displayAngle = settings.getDisplayAngle().orElse(DisplayAngle.DEG_0);
         this.romTitle = settings.getRomPath().map(path -> path.getFileName().toString()).orElse(null);
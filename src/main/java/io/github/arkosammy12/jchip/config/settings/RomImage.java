@@ -0,0 +1,128 @@
+package io.github.arkosammy12.jchip.config.settings;
+
+import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+
+// Read-only copy of a ROM file. The file is memory mapped only while the image is created: the hashes are computed off the mapping,
+// which is then copied into the heap with a single bulk copy and unmapped. Keeping the mapping alive instead would let a file truncated
+// or rewritten in place fault or change bus memory behind the hashes, while the heap copy costs no more than reading the file.
+// Loading the image into bus memory is another single bulk copy. The same image is meant to be handed to every emulator created for the same file,
+// so that resets, save states and rewinding never go back to the file.
+public final class RomImage {
+
+    private static final int MAX_LENGTH = 1 << 24;
+
+    private final byte[] data;
+    @Nullable
+    private final Path path;
+    @Nullable
+    private final BasicFileAttributes attributes;
+
+    private final String sha1Hash;
+    private final int crc32;
+
+    // The contents are hashed from the given buffer, which holds the same bytes as data
+    private RomImage(byte[] data, ByteBuffer contents, @Nullable Path path, @Nullable BasicFileAttributes attributes) {
+        this.data = data;
+        this.path = path;
+        this.attributes = attributes;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(contents.duplicate());
+            this.sha1Hash = HexFormat.of().formatHex(digest.digest());
+        } catch (Exception e) {
+            throw new EmulatorException("Failed to hash ROM!", e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(contents.duplicate());
+        this.crc32 = (int) crc.getValue();
+    }
+
+    public static RomImage open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ); Arena arena = Arena.ofConfined()) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long size = channel.size();
+            if (size > MAX_LENGTH) {
+                throw new EmulatorException("ROM file " + path + " is too large!");
+            }
+            byte[] data = new byte[(int) size];
+            ByteBuffer contents = ByteBuffer.wrap(data);
+            if (size > 0) {
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+                MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, 0, data, 0, data.length);
+                contents = segment.asByteBuffer();
+            }
+            return new RomImage(data, contents, path, attributes);
+        } catch (EmulatorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EmulatorException("Failed to read ROM file from path: " + path, e);
+        }
+    }
+
+    public static RomImage of(byte[] data) {
+        byte[] copy = data.clone();
+        return new RomImage(copy, ByteBuffer.wrap(copy), null, null);
+    }
+
+    // Returns this image if its file is unchanged since it was read, or a fresh image of the file otherwise
+    public RomImage refresh() {
+        Path path = this.path;
+        BasicFileAttributes attributes = this.attributes;
+        if (path == null || attributes == null) {
+            return this;
+        }
+        try {
+            BasicFileAttributes current = Files.readAttributes(path, BasicFileAttributes.class);
+            if (current.size() == attributes.size() && current.lastModifiedTime().equals(attributes.lastModifiedTime())) {
+                return this;
+            }
+        } catch (Exception _) {
+            // The file is gone, keep using the image that is already loaded
+            return this;
+        }
+        return open(path);
+    }
+
+    public int getLength() {
+        return this.data.length;
+    }
+
+    public int readByte(int offset) {
+        return this.data[offset] & 0xFF;
+    }
+
+    public void copyTo(int offset, byte[] destination, int destinationOffset, int length) {
+        System.arraycopy(this.data, offset, destination, destinationOffset, length);
+    }
+
+    public void copyTo(byte[] destination, int destinationOffset) {
+        this.copyTo(0, destination, destinationOffset, this.getLength());
+    }
+
+    public byte[] toByteArray() {
+        return this.data.clone();
+    }
+
+    public String getSha1Hash() {
+        return this.sha1Hash;
+    }
+
+    public int getCrc32() {
+        return this.crc32;
+    }
+
+}
@@ -3,6 +3,7 @@ package io.github.arkosammy12.jchip.disassembler;
 import io.github.arkosammy12.jchip.emulators.Emulator;
 import io.github.arkosammy12.jchip.emulators.bus.Bus;
 import io.github.arkosammy12.jchip.emulators.bus.BusView;
+import io.github.arkosammy12.jchip.emulators.bus.WriteTracker;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import org.jctools.queues.MpscBlockingConsumerArrayQueue;
 import org.jetbrains.annotations.NotNull;
@@ -296,11 +297,19 @@ public abstract class AbstractDisassembler<E extends Emulator> implements Disass
         }
     }
 
+    // Entries whose bytes haven't been written since they were last validated are skipped when the bus is tracking writes
     private void validateEntry(Entry entry) {
         int address = entry.getAddress();
         int length = entry.getLength();
         int bytecode = entry.getByteCode();
 
+        WriteTracker writeTracker = this.emulator.getBusView() instanceof Bus bus ? bus.getWriteTracker() : null;
+        long epoch = writeTracker != null ? writeTracker.getEpoch() : -1;
+        if (writeTracker != null && entry.validatedEpoch >= 0 && entry.getText() != null && !writeTracker.isRangeWrittenSince(address, length, entry.validatedEpoch)) {
+            return;
+        }
+        entry.validatedEpoch = epoch;
+
         int currentLength = this.getLengthForInstructionAt(address);
         int currentBytecode = this.getBytecodeForInstructionAt(address);
 
@@ -341,6 +350,7 @@ public abstract class AbstractDisassembler<E extends Emulator> implements Disass
         private volatile int length;
         private volatile int bytecode;
         private volatile String text;
+        private volatile long validatedEpoch = -1;
 
         private Entry(int address, int length, int bytecode, @NotNull Type type) {
             this.instructionAddress = address;
@@ -2,7 +2,7 @@ package io.github.arkosammy12.jchip.emulators;
 
 import io.github.arkosammy12.jchip.emulators.cpu.Chip8Processor;
 import io.github.arkosammy12.jchip.emulators.misc.Keypad;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
 import io.github.arkosammy12.jchip.disassembler.Chip8Disassembler;
 import io.github.arkosammy12.jchip.disassembler.Disassembler;
@@ -16,6 +16,8 @@ import io.github.arkosammy12.jchip.emulators.sound.SoundSystem;
 import io.github.arkosammy12.jchip.ui.debugger.DebuggerSchema;
 import io.github.arkosammy12.jchip.util.*;
 import io.github.arkosammy12.jchip.emulators.video.Chip8Display;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,9 +30,7 @@ import static io.github.arkosammy12.jchip.emulators.cpu.Chip8Processor.isSet;
 
 public class Chip8Emulator implements Emulator {
 
-    private static final int IPF_THROTTLE_THRESHOLD = 1000000;
-
-    protected final Jchip jchip;
+    protected final EmulatorHost host;
 
     private final Chip8Processor<?> processor;
     private final Chip8Bus bus;
@@ -42,19 +42,16 @@ public class Chip8Emulator implements Emulator {
     private final Chip8EmulatorSettings emulatorSettings;
     private final DebuggerSchema debuggerSchema;
     protected final AbstractDisassembler<?> disassembler;
-    private final int targetInstructionsPerFrame;
-    private final long frameInterval = 1_000_000_000L / this.getFramerate();
+    private final InstructionRateGovernor governor;
 
-    private int currentInstructionsPerFrame;
     private int waitFrames = 0;
 
     public Chip8Emulator(Chip8EmulatorSettings emulatorSettings) {
         try {
-            this.jchip = emulatorSettings.getJchip();
+            this.host = emulatorSettings.getHost();
             this.emulatorSettings = emulatorSettings;
             this.variant = emulatorSettings.getVariant();
-            this.targetInstructionsPerFrame = emulatorSettings.getInstructionsPerFrame();
-            this.currentInstructionsPerFrame = targetInstructionsPerFrame;
+            this.governor = new InstructionRateGovernor(emulatorSettings.getInstructionsPerFrame(), this.getFramerate(), !this.host.isHeadless());
             this.keypad = new Keypad(this);
 
             this.soundSystem = this.createSoundSystem();
@@ -153,7 +150,11 @@ public class Chip8Emulator implements Emulator {
 
     @Override
     public int getCurrentInstructionsPerFrame() {
-        return this.currentInstructionsPerFrame;
+        return this.governor.getInstructionsPerFrame();
+    }
+
+    public InstructionRateGovernor getGovernor() {
+        return this.governor;
     }
 
     @Override
@@ -164,15 +165,35 @@ public class Chip8Emulator implements Emulator {
     @Override
     public void executeFrame() throws InvalidInstructionException {
         long startOfFrame = System.nanoTime();
+        long instructionsAtStartOfFrame = this.getProcessor().getInstructionCounter();
         this.runInstructionLoop();
+        long endOfExecution = System.nanoTime();
         this.getDisplay().flush();
         this.getSoundSystem().pushSamples(this.getProcessor().getSoundTimer());
         long endOfFrame = System.nanoTime();
-        long frameTime = endOfFrame - startOfFrame;
-        if (this.targetInstructionsPerFrame >= IPF_THROTTLE_THRESHOLD) {
-            long adjust = (frameTime - this.frameInterval) / 100;
-            this.currentInstructionsPerFrame = Math.clamp(this.currentInstructionsPerFrame - adjust, 1, this.targetInstructionsPerFrame);
-        }
+        this.governor.onFrame(this.getProcessor().getInstructionCounter() - instructionsAtStartOfFrame, endOfExecution - startOfFrame, endOfFrame - startOfFrame);
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeInt(this.governor.getInstructionsPerFrame());
+        writer.writeInt(this.waitFrames);
+        this.getProcessor().saveState(writer);
+        this.getBus().saveState(writer);
+        this.getDisplay().saveState(writer);
+        this.getSoundSystem().saveState(writer);
+        this.getKeypad().saveState(writer);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.governor.setInstructionsPerFrame(reader.readInt());
+        this.waitFrames = reader.readInt();
+        this.getProcessor().loadState(reader);
+        this.getBus().loadState(reader);
+        this.getDisplay().loadState(reader);
+        this.getSoundSystem().loadState(reader);
+        this.getKeypad().loadState(reader);
     }
 
     private void runInstructionLoop() throws InvalidInstructionException {
@@ -189,7 +210,8 @@ public class Chip8Emulator implements Emulator {
     }
 
     private void runInstructions() {
-        for (int i = 0; i < this.currentInstructionsPerFrame; i++) {
+        int instructionsPerFrame = this.governor.getInstructionsPerFrame();
+        for (int i = 0; i < instructionsPerFrame; i++) {
             if (this.runInstruction()) {
                 break;
             }
@@ -197,10 +219,11 @@ public class Chip8Emulator implements Emulator {
     }
 
     private void runInstructionsDebug() {
-        for (int i = 0; i < this.currentInstructionsPerFrame; i++) {
+        int instructionsPerFrame = this.governor.getInstructionsPerFrame();
+        for (int i = 0; i < instructionsPerFrame; i++) {
             this.disassembler.disassemble(this.getProcessor().getProgramCounter());
             if (this.disassembler.checkBreakpoint(this.getProcessor().getProgramCounter())) {
-                this.jchip.onBreakpoint();
+                this.host.onBreakpoint();
                 break;
             }
             if (this.runInstruction()) {
@@ -222,7 +245,7 @@ public class Chip8Emulator implements Emulator {
 
     @Override
     public void executeCycle() {
-        if (this.getProcessor().getInstructionCounter() % this.currentInstructionsPerFrame == 0) {
+        if (this.getProcessor().getInstructionCounter() % this.governor.getInstructionsPerFrame() == 0) {
             this.getProcessor().decrementTimers();
         }
         this.disassembler.disassembleRange(this.getProcessor().getProgramCounter(), 30, true);
@@ -247,7 +270,7 @@ public class Chip8Emulator implements Emulator {
     }
 
     private void terminate() {
-        this.jchip.stop();
+        this.host.stop();
     }
 
     @Override
@@ -1,7 +1,7 @@
 package io.github.arkosammy12.jchip.emulators;
 
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.config.settings.CosmacVipEmulatorSettings;
 import io.github.arkosammy12.jchip.config.settings.EmulatorSettings;
 import io.github.arkosammy12.jchip.emulators.cpu.CDP1802;
@@ -21,6 +21,8 @@ import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.emulators.misc.cosmacvip.CosmacVIPKeypad;
 import io.github.arkosammy12.jchip.emulators.video.CDP1861;
 import io.github.arkosammy12.jchip.emulators.video.VP590;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 import org.jetbrains.annotations.Nullable;
 
 import java.awt.event.KeyAdapter;
@@ -36,7 +38,7 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
     public static final int CYCLES_PER_FRAME = 3668;
     public static final String REGISTERS_ENTRY_KEY = "cosmacvip.processor.registers";
 
-    private final Jchip jchip;
+    private final EmulatorHost host;
     private final CosmacVipEmulatorSettings settings;
     private final CosmacVipEmulatorSettings.Chip8Interpreter chip8Interpreter;
     private final DebuggerSchema debuggerSchema;
@@ -48,14 +50,26 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
     private final CDP1861<?> display;
     private final SoundSystem soundSystem;
     private final CosmacVIPKeypad keypad;
-    private final List<IODevice> ioDevices;
+    private final IODevice[] ioDevices;
+    // Device answering each of the 3-bit I/O port numbers, if any
+    private final @Nullable IODevice[] inputPortDevices = new IODevice[8];
+    private final @Nullable IODevice[] outputPortDevices = new IODevice[8];
+
+    // I/O devices are only cycled when one of them has an event scheduled. The cycles in between are owed to them
+    // and only paid back when they are next cycled or accessed.
+    private int cyclesUntilIoEvent;
+    private int pendingIoCycles;
+    private CDP1802.DmaStatus dmaStatus = CDP1802.DmaStatus.NONE;
+    private @Nullable IODevice dmaInDevice;
+    private @Nullable IODevice dmaOutDevice;
+    private boolean interrupting;
 
     private final int frameRate;
     private int currentInstructionsPerFrame;
 
     public CosmacVipEmulator(CosmacVipEmulatorSettings emulatorSettings, CosmacVipEmulatorSettings.Chip8Interpreter chip8Interpreter) {
         try {
-            this.jchip = emulatorSettings.getJchip();
+            this.host = emulatorSettings.getHost();
             this.settings = emulatorSettings;
             this.chip8Interpreter = chip8Interpreter;
             this.variant = emulatorSettings.getVariant();
@@ -66,19 +80,29 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
                 this.display = new VP590<>(this);
                 VP595 vp595 = new VP595(this);
                 this.soundSystem = vp595;
-                this.ioDevices = List.of(this.display, this.keypad, vp595);
+                this.ioDevices = new IODevice[]{this.display, this.keypad, vp595};
                 this.frameRate = 61;
             } else {
                 this.bus = new CosmacVipBus(this);
                 this.display = new CDP1861<>(this);
                 this.soundSystem = new Chip8SoundSystem(this);
-                this.ioDevices = List.of(this.display, this.keypad);
+                this.ioDevices = new IODevice[]{this.display, this.keypad};
                 this.frameRate = 60;
             }
+            for (int port = 0; port < 8; port++) {
+                for (IODevice ioDevice : this.ioDevices) {
+                    if (this.inputPortDevices[port] == null && ioDevice.isInputPort(port)) {
+                        this.inputPortDevices[port] = ioDevice;
+                    }
+                    if (this.outputPortDevices[port] == null && ioDevice.isOutputPort(port)) {
+                        this.outputPortDevices[port] = ioDevice;
+                    }
+                }
+            }
             this.debuggerSchema = this.createDebuggerSchema();
             this.disassembler = new CosmacVipDisassembler<>(this);
             this.disassembler.setProgramCounterSupplier(this::getActualCurrentInstructionAddress);
-            this.processor.loadState(this.jchip.getDataManager());
+            this.processor.loadState(this.host.getDataManager());
         } catch (Exception e) {
             throw new EmulatorException(e);
         }
@@ -139,66 +163,52 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
     }
 
     public int dispatchInput(int ioPort) {
-        for (IODevice ioDevice : this.ioDevices) {
-            if (ioDevice.isInputPort(ioPort)) {
-                return ioDevice.onInput(ioPort);
-            }
+        IODevice ioDevice = this.inputPortDevices[ioPort & 7];
+        if (ioDevice == null) {
+            return 0xFF;
         }
-        return 0xFF;
+        this.catchUpIoDevices();
+        // Give the device a chance to react to the input on this same cycle
+        this.cyclesUntilIoEvent = 0;
+        return ioDevice.onInput(ioPort);
     }
 
     public void dispatchOutput(int ioPort, int value) {
         if ((ioPort & 4) != 0) {
             this.bus.unlatchAddressMsb();
         }
-        for (IODevice ioDevice : this.ioDevices) {
-            if (ioDevice.isOutputPort(ioPort)) {
-                ioDevice.onOutput(ioPort, value);
-                return;
-            }
+        IODevice ioDevice = this.outputPortDevices[ioPort & 7];
+        if (ioDevice == null) {
+            return;
         }
+        this.catchUpIoDevices();
+        this.cyclesUntilIoEvent = 0;
+        ioDevice.onOutput(ioPort, value);
     }
 
     public CDP1802.DmaStatus getDmaStatus() {
-        CDP1802.DmaStatus highestStatus = CDP1802.DmaStatus.NONE;
-        for (IODevice ioDevice : this.ioDevices) {
-            switch (ioDevice.getDmaStatus()) {
-                case IN -> highestStatus = IN;
-                case OUT -> {
-                    if (highestStatus == CDP1802.DmaStatus.NONE) {
-                        highestStatus = OUT;
-                    }
-                }
-            }
-        }
-        return highestStatus;
+        return this.dmaStatus;
     }
 
     public void dispatchDmaOut(int dmaOutAddress, int value) {
-        for (IODevice ioDevice : this.ioDevices) {
-            if (ioDevice.getDmaStatus() == CDP1802.DmaStatus.OUT) {
-                ioDevice.doDmaOut(dmaOutAddress, value);
-                return;
-            }
+        IODevice ioDevice = this.dmaOutDevice;
+        if (ioDevice != null) {
+            this.catchUpIoDevices();
+            ioDevice.doDmaOut(dmaOutAddress, value);
         }
     }
 
     public int dispatchDmaIn(int dmaInAddress) {
-        for (IODevice ioDevice : this.ioDevices) {
-            if (ioDevice.getDmaStatus() == CDP1802.DmaStatus.IN) {
-                return ioDevice.doDmaIn(dmaInAddress);
-            }
+        IODevice ioDevice = this.dmaInDevice;
+        if (ioDevice == null) {
+            return 0xFF;
         }
-        return 0xFF;
+        this.catchUpIoDevices();
+        return ioDevice.doDmaIn(dmaInAddress);
     }
 
     public boolean anyInterrupting() {
-        for (IODevice ioDevice : this.ioDevices) {
-            if (ioDevice.isInterrupting()) {
-                return true;
-            }
-        }
-        return false;
+        return this.interrupting;
     }
 
     @Override
@@ -213,9 +223,43 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
     }
 
     private void runCycles() {
-        for (int i = 0; i < CYCLES_PER_FRAME; i++) {
-            this.runCycle();
+        int cycles = 0;
+        while (cycles < CYCLES_PER_FRAME) {
+            int fastCycles = this.runFastCycles(CYCLES_PER_FRAME - cycles);
+            if (fastCycles > 0) {
+                cycles += fastCycles;
+            } else {
+                this.runCycle();
+                cycles++;
+            }
+        }
+    }
+
+    // Away from device events nothing can interrupt the processor mid-instruction, so whole instructions, or whole stretches
+    // of idling, can run without stepping through every machine state. Returns the cycles run, or 0 if single-stepping is needed.
+    private int runFastCycles(int maxCycles) {
+        int window = Math.min(maxCycles, this.cyclesUntilIoEvent);
+        if (window < CDP1802.MAX_INSTRUCTION_CYCLES || this.dmaStatus != CDP1802.DmaStatus.NONE) {
+            return 0;
+        }
+        CDP1802.State currentState = this.processor.getCurrentState();
+        if (currentState == CDP1802.State.S0_FETCH) {
+            int cycles = this.processor.runInstruction();
+            if (cycles == 0) {
+                throw new InvalidInstructionException((this.processor.getI() << 4) | this.processor.getN(), this.getVariant());
+            }
+            this.skipIoCycles(cycles);
+            // I/O instructions come back right after their fetch, and IDL leaves the processor in S1
+            if (!this.processor.getCurrentState().isS1Execute()) {
+                this.currentInstructionsPerFrame++;
+            }
+            return cycles;
+        }
+        if (this.processor.isIdling() && !(this.interrupting && this.processor.getIE())) {
+            this.skipIoCycles(window);
+            return window;
         }
+        return 0;
     }
 
     private void runCyclesDebug() {
@@ -224,7 +268,7 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
             this.runCycle();
             this.disassembler.disassemble(this.getActualCurrentInstructionAddress());
             if (currentState == CDP1802.State.S0_FETCH && this.disassembler.checkBreakpoint(this.getActualCurrentInstructionAddress())) {
-                this.jchip.onBreakpoint();
+                this.host.onBreakpoint();
                 break;
             }
         }
@@ -232,9 +276,7 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
 
     private void runCycle() {
         CDP1802.State currentState = this.processor.getCurrentState();
-        this.cycleCpu();
-        this.cycleIoDevices();
-        this.processor.nextState();
+        this.stepCycle();
 
         CDP1802.State nextState = this.processor.getCurrentState();
         if (currentState.isS1Execute() && !nextState.isS1Execute()) {
@@ -244,13 +286,21 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
 
     @Override
     public void executeCycle() {
-        this.cycleCpu();
-        this.cycleIoDevices();
-        this.processor.nextState();
+        this.stepCycle();
         this.display.flush();
         this.disassembler.disassembleRange(this.getActualCurrentInstructionAddress(), 30, true);
     }
 
+    private void stepCycle() {
+        this.cycleCpu();
+        if (this.cyclesUntilIoEvent > 0) {
+            this.skipIoCycles(1);
+        } else {
+            this.cycleIoDevices();
+        }
+        this.processor.nextState();
+    }
+
     private void cycleCpu() {
         int flags = this.processor.cycle();
         if (!isHandled(flags)) {
@@ -263,10 +313,85 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
         return this.bus.isAddressMsbLatched() ? address | 0x8000 : address;
     }
 
+    private void skipIoCycles(int cycles) {
+        this.cyclesUntilIoEvent -= cycles;
+        this.pendingIoCycles += cycles;
+    }
+
     private void cycleIoDevices() {
+        this.catchUpIoDevices();
+        int cyclesUntilIoEvent = Integer.MAX_VALUE;
         for (IODevice ioDevice : this.ioDevices) {
             ioDevice.cycle();
+            cyclesUntilIoEvent = Math.min(cyclesUntilIoEvent, ioDevice.getCyclesUntilNextEvent());
+        }
+        this.cyclesUntilIoEvent = cyclesUntilIoEvent;
+        this.updateIoDeviceOutputs();
+    }
+
+    private void catchUpIoDevices() {
+        int pendingIoCycles = this.pendingIoCycles;
+        if (pendingIoCycles > 0) {
+            for (IODevice ioDevice : this.ioDevices) {
+                ioDevice.advance(pendingIoCycles);
+            }
+            this.pendingIoCycles = 0;
+        }
+    }
+
+    // DMA and interrupt requests can only change when the devices are cycled, so they are gathered once here instead of on every state
+    private void updateIoDeviceOutputs() {
+        CDP1802.DmaStatus dmaStatus = CDP1802.DmaStatus.NONE;
+        IODevice dmaInDevice = null;
+        IODevice dmaOutDevice = null;
+        boolean interrupting = false;
+        for (IODevice ioDevice : this.ioDevices) {
+            switch (ioDevice.getDmaStatus()) {
+                case IN -> {
+                    dmaStatus = IN;
+                    if (dmaInDevice == null) {
+                        dmaInDevice = ioDevice;
+                    }
+                }
+                case OUT -> {
+                    if (dmaStatus == CDP1802.DmaStatus.NONE) {
+                        dmaStatus = OUT;
+                    }
+                    if (dmaOutDevice == null) {
+                        dmaOutDevice = ioDevice;
+                    }
+                }
+            }
+            interrupting |= ioDevice.isInterrupting();
         }
+        this.dmaStatus = dmaStatus;
+        this.dmaInDevice = dmaInDevice;
+        this.dmaOutDevice = dmaOutDevice;
+        this.interrupting = interrupting;
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        this.catchUpIoDevices();
+        writer.writeInt(this.currentInstructionsPerFrame);
+        this.processor.saveState(writer);
+        this.bus.saveState(writer);
+        this.display.saveState(writer);
+        this.soundSystem.saveState(writer);
+        this.keypad.saveState(writer);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.currentInstructionsPerFrame = reader.readInt();
+        this.processor.loadState(reader);
+        this.bus.loadState(reader);
+        this.display.loadState(reader);
+        this.soundSystem.loadState(reader);
+        this.keypad.loadState(reader);
+        this.pendingIoCycles = 0;
+        this.cyclesUntilIoEvent = 0;
+        this.updateIoDeviceOutputs();
     }
 
     @Override
@@ -285,7 +410,7 @@ public class CosmacVipEmulator implements Emulator, CDP1802.SystemBus {
     public void close() {
         try {
             if (this.processor != null) {
-                this.processor.saveState(this.jchip.getDataManager());
+                this.processor.saveState(this.host.getDataManager());
             }
             if (this.display != null) {
                 this.display.close();
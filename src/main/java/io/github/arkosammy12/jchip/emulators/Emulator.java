@@ -5,6 +5,7 @@ import io.github.arkosammy12.jchip.emulators.cpu.Processor;
 import io.github.arkosammy12.jchip.disassembler.Disassembler;
 import io.github.arkosammy12.jchip.emulators.bus.BusView;
 import io.github.arkosammy12.jchip.emulators.sound.SoundSystem;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
 import io.github.arkosammy12.jchip.ui.debugger.DebuggerSchema;
 import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.emulators.video.Display;
@@ -13,7 +14,7 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.event.KeyAdapter;
 import java.util.List;
 
-public interface Emulator extends AutoCloseable {
+public interface Emulator extends AutoCloseable, StateSerializable {
 
     Processor getProcessor();
 
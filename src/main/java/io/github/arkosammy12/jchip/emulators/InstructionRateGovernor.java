@@ -0,0 +1,117 @@
+package io.github.arkosammy12.jchip.emulators;
+
+// Decides how many instructions a Chip8Emulator runs per frame, so that a frame keeps fitting into a budget below the frame interval,
+// leaving the rest of the interval to rendering, audio and the UI. The host cost of a single instruction and the fixed cost of a frame
+// are tracked as exponentially weighted averages so that isolated slow frames don't make the IPF oscillate.
+// The IPF is only lowered once frames have gone over budget several times in a row, so that a single hitch such as a GC pause or a window
+// resize leaves it alone, while recovering towards the target IPF is gradual.
+public final class InstructionRateGovernor {
+
+    private static final double BUDGET_FRACTION = 0.75;
+    private static final double SMOOTHING = 0.1;
+    private static final double MAX_INCREASE = 1.05;
+    private static final int MIN_SAMPLE_INSTRUCTIONS = 256;
+    private static final int SUSTAINED_OVERRUN_FRAMES = 8;
+
+    private final int targetInstructionsPerFrame;
+    private final long frameBudget;
+    private final boolean enabled;
+
+    private int instructionsPerFrame;
+    private double instructionCost = -1;
+    private double frameOverhead = 0;
+    private long lastFrameTime;
+    private int consecutiveOverBudgetFrames;
+    private long overBudgetFrames;
+    private long limitedFrames;
+
+    // Disabled governors always run the target IPF, which keeps headless runs deterministic
+    public InstructionRateGovernor(int targetInstructionsPerFrame, int framerate, boolean enabled) {
+        this.targetInstructionsPerFrame = targetInstructionsPerFrame;
+        this.frameBudget = (long) ((1_000_000_000L / framerate) * BUDGET_FRACTION);
+        this.enabled = enabled;
+        this.instructionsPerFrame = targetInstructionsPerFrame;
+    }
+
+    public int getInstructionsPerFrame() {
+        return this.instructionsPerFrame;
+    }
+
+    // The cycle accurate core doesn't run by IPF and has a target of 0, which has to be restored as is
+    public void setInstructionsPerFrame(int instructionsPerFrame) {
+        this.instructionsPerFrame = Math.clamp(instructionsPerFrame, Math.min(1, this.targetInstructionsPerFrame), this.targetInstructionsPerFrame);
+    }
+
+    public int getTargetInstructionsPerFrame() {
+        return this.targetInstructionsPerFrame;
+    }
+
+    public boolean isLimiting() {
+        return this.instructionsPerFrame < this.targetInstructionsPerFrame;
+    }
+
+    // Average host time spent per instruction in nanoseconds, or a negative value if not enough instructions have run to measure it yet
+    public double getInstructionCost() {
+        return this.instructionCost;
+    }
+
+    // Average host time in nanoseconds spent on the parts of a frame that don't scale with the IPF, such as flushing the display and pushing audio
+    public double getFrameOverhead() {
+        return this.frameOverhead;
+    }
+
+    public long getFrameBudget() {
+        return this.frameBudget;
+    }
+
+    public long getLastFrameTime() {
+        return this.lastFrameTime;
+    }
+
+    public long getOverBudgetFrames() {
+        return this.overBudgetFrames;
+    }
+
+    public long getLimitedFrames() {
+        return this.limitedFrames;
+    }
+
+    public void onFrame(long executedInstructions, long executionTime, long frameTime) {
+        this.lastFrameTime = frameTime;
+        if (!this.enabled) {
+            return;
+        }
+        this.frameOverhead += SMOOTHING * (Math.max(0, frameTime - executionTime) - this.frameOverhead);
+
+        if (executedInstructions >= MIN_SAMPLE_INSTRUCTIONS) {
+            double frameCost = (double) executionTime / executedInstructions;
+            this.instructionCost = this.instructionCost < 0 ? frameCost : this.instructionCost + SMOOTHING * (frameCost - this.instructionCost);
+        }
+        if (frameTime > this.frameBudget) {
+            this.overBudgetFrames++;
+            this.consecutiveOverBudgetFrames = Math.min(this.consecutiveOverBudgetFrames + 1, SUSTAINED_OVERRUN_FRAMES);
+        } else {
+            this.consecutiveOverBudgetFrames = 0;
+        }
+        double cost = this.instructionCost;
+        if (cost <= 0) {
+            return;
+        }
+
+        // When the fixed part of the frame alone doesn't fit the budget, running fewer instructions can't bring the frame back into it
+        double availableTime = this.frameBudget - this.frameOverhead;
+        int limit = availableTime > 0 ? (int) Math.clamp(availableTime / cost, 1, this.targetInstructionsPerFrame) : this.targetInstructionsPerFrame;
+        if (limit < this.instructionsPerFrame) {
+            if (this.consecutiveOverBudgetFrames >= SUSTAINED_OVERRUN_FRAMES) {
+                this.instructionsPerFrame = limit;
+            }
+        } else {
+            int increased = Math.max(this.instructionsPerFrame + 1, (int) (this.instructionsPerFrame * MAX_INCREASE));
+            this.instructionsPerFrame = Math.min(limit, increased);
+        }
+        if (this.isLimiting()) {
+            this.limitedFrames++;
+        }
+    }
+
+}
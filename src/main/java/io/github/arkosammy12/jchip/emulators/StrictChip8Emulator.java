@@ -5,6 +5,8 @@ import io.github.arkosammy12.jchip.emulators.cpu.StrictChip8Processor;
 import io.github.arkosammy12.jchip.emulators.bus.StrictChip8Bus;
 import io.github.arkosammy12.jchip.ui.debugger.DebuggerSchema;
 import io.github.arkosammy12.jchip.emulators.video.StrictChip8Display;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -74,6 +76,22 @@ public final class StrictChip8Emulator extends Chip8Emulator {
         return this.bus;
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeLong(this.machineCycles);
+        writer.writeLong(this.nextFrame);
+        writer.writeInt(this.cycleCounter);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.machineCycles = reader.readLong();
+        this.nextFrame = reader.readLong();
+        this.cycleCounter = reader.readInt();
+    }
+
     @Override
     public int getCurrentInstructionsPerFrame() {
         int ret = this.cycleCounter;
@@ -102,7 +120,7 @@ public final class StrictChip8Emulator extends Chip8Emulator {
         while (this.machineCycles < nextFrame) {
             this.disassembler.disassemble(this.getProcessor().getProgramCounter());
             if (this.disassembler.checkBreakpoint(this.getProcessor().getProgramCounter())) {
-                this.jchip.onBreakpoint();
+                this.host.onBreakpoint();
                 break;
             }
             this.runCycle();
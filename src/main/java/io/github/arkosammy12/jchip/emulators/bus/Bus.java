@@ -1,9 +1,52 @@
 package io.github.arkosammy12.jchip.emulators.bus;
 
+import org.jetbrains.annotations.Nullable;
+
 public interface Bus {
 
     int readByte(int address);
 
     void writeByte(int address, int value);
 
+    // Bulk transfers behave exactly like the equivalent sequence of readByte and writeByte calls, including wrapping around
+    // the end of the address space. Buses backed by plain arrays override these to move whole runs of bytes at once.
+    default void readBytes(int address, byte[] destination, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            destination[offset + i] = (byte) this.readByte(address + i);
+        }
+    }
+
+    // Reads each byte as an unsigned value into an int array, such as a register file
+    default void readBytes(int address, int[] destination, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            destination[offset + i] = this.readByte(address + i);
+        }
+    }
+
+    default void writeBytes(int address, byte[] source, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            this.writeByte(address + i, source[offset + i]);
+        }
+    }
+
+    default void writeBytes(int address, int[] source, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            this.writeByte(address + i, source[offset + i]);
+        }
+    }
+
+    // Copies front to back one byte at a time, so overlapping ranges behave like a byte by byte copy loop running on the emulated CPU
+    default void copy(int sourceAddress, int destinationAddress, int length) {
+        for (int i = 0; i < length; i++) {
+            this.writeByte(destinationAddress + i, this.readByte(sourceAddress + i));
+        }
+    }
+
+    // Write tracking is off until a tracker is attached, and costs a single null check per write while off.
+    // Trackers must be attached from the emulator thread.
+    void setWriteTracker(@Nullable WriteTracker writeTracker);
+
+    @Nullable
+    WriteTracker getWriteTracker();
+
 }
@@ -1,28 +1,50 @@
 package io.github.arkosammy12.jchip.emulators.bus;
 
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
 import io.github.arkosammy12.jchip.exceptions.EmulatorException;
 import io.github.arkosammy12.jchip.util.HexSpriteFont;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+import org.jetbrains.annotations.Nullable;
 
-public class Chip8Bus implements Bus, BusView {
+import java.util.Arrays;
+
+public class Chip8Bus implements Bus, BusView, StateSerializable {
 
     private static final int MEMORY_BOUNDS_MASK = 0xFFF;
     private static final int MEMORY_SIZE = MEMORY_BOUNDS_MASK + 1;
     private static final int PROGRAM_START = 0x200;
 
-    protected final int[] bytes;
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    // One byte per cell, which keeps the 16 MB address space of MEGA-CHIP at 16 MB of heap. Reads mask the sign back off.
+    protected final byte[] bytes;
     protected final int memoryBoundsMask;
 
+    // A page holds its power on contents for as long as its write count matches the count it was last restored at.
+    // Save states only store the pages that differ, which keeps them small for the 16 MB address space of MEGA-CHIP.
+    private final int[] pageWriteCounts;
+    private final int[] pageRestoreCounts;
+    private final RomImage rom;
+    @Nullable
+    private HexSpriteFont spriteFont;
+    @Nullable
+    private WriteTracker writeTracker;
+
     public Chip8Bus(Chip8Emulator emulator) {
-        int[] rom = emulator.getEmulatorSettings().getRom();
+        RomImage rom = emulator.getEmulatorSettings().getRomImage();
         try {
             this.memoryBoundsMask = this.getMemoryBoundsMask();
             int programStart = this.getProgramStart();
-            this.bytes = new int[this.getMemorySize()];
-            for (int i = 0; i < rom.length; i++) {
-                this.bytes[i + programStart] = rom[i] & 0xFF;
-            }
-        } catch (ArrayIndexOutOfBoundsException e) {
+            this.bytes = new byte[this.getMemorySize()];
+            this.pageWriteCounts = new int[(this.getMemorySize() + PAGE_SIZE - 1) >>> PAGE_SHIFT];
+            this.pageRestoreCounts = new int[this.pageWriteCounts.length];
+            this.rom = rom;
+            rom.copyTo(this.bytes, programStart);
+        } catch (IndexOutOfBoundsException e) {
             throw new EmulatorException("ROM size too big for selected variant " + emulator.getVariant().getDisplayName() + "!");
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize memory for variant " + emulator.getVariant(), e);
@@ -42,6 +64,7 @@ public class Chip8Bus implements Bus, BusView {
     }
 
     public void loadFont(HexSpriteFont spriteFont) {
+        this.spriteFont = spriteFont;
         try {
             spriteFont.getSmallFont().ifPresent(smallFont -> {
                 for (int i = 0; i < smallFont.length; i++) {
@@ -49,7 +72,7 @@ public class Chip8Bus implements Bus, BusView {
                     int sliceLength = slice.length;
                     int offset = HexSpriteFont.SMALL_FONT_BEGIN_OFFSET + (sliceLength * i);
                     for (int j = 0; j < sliceLength; j++) {
-                        this.bytes[offset + j] = slice[j] & 0xFF;
+                        this.bytes[offset + j] = (byte) slice[j];
                     }
                 }
             });
@@ -59,7 +82,7 @@ public class Chip8Bus implements Bus, BusView {
                     int sliceLength = slice.length;
                     int offset = HexSpriteFont.BIG_FONT_BEGIN_OFFSET + (sliceLength * i);
                     for (int j = 0; j < sliceLength; j++) {
-                        this.bytes[offset + j] = slice[j] & 0xFF;
+                        this.bytes[offset + j] = (byte) slice[j];
                     }
                 }
             });
@@ -75,12 +98,221 @@ public class Chip8Bus implements Bus, BusView {
 
     @Override
     public int readByte(int address) {
-        return this.bytes[address & this.memoryBoundsMask];
+        return this.bytes[address & this.memoryBoundsMask] & 0xFF;
     }
 
     @Override
     public void writeByte(int address, int value) {
-        this.bytes[address & this.memoryBoundsMask] = value;
+        int maskedAddress = address & this.memoryBoundsMask;
+        int oldValue = this.bytes[maskedAddress] & 0xFF;
+        this.bytes[maskedAddress] = (byte) value;
+        this.pageWriteCounts[maskedAddress >>> PAGE_SHIFT]++;
+        WriteTracker writeTracker = this.writeTracker;
+        if (writeTracker != null) {
+            writeTracker.onWrite(maskedAddress, oldValue, value & 0xFF);
+        }
+    }
+
+    @Override
+    public void readBytes(int address, byte[] destination, int offset, int length) {
+        int start = address & this.memoryBoundsMask;
+        while (length > 0) {
+            int run = Math.min(length, this.bytes.length - start);
+            System.arraycopy(this.bytes, start, destination, offset, run);
+            offset += run;
+            length -= run;
+            start = 0;
+        }
+    }
+
+    @Override
+    public void readBytes(int address, int[] destination, int offset, int length) {
+        byte[] bytes = this.bytes;
+        int start = address & this.memoryBoundsMask;
+        while (length > 0) {
+            int run = Math.min(length, bytes.length - start);
+            for (int i = 0; i < run; i++) {
+                destination[offset + i] = bytes[start + i] & 0xFF;
+            }
+            offset += run;
+            length -= run;
+            start = 0;
+        }
+    }
+
+    @Override
+    public void writeBytes(int address, byte[] source, int offset, int length) {
+        int start = address & this.memoryBoundsMask;
+        while (length > 0) {
+            int run = Math.min(length, this.bytes.length - start);
+            this.writeRun(start, source, offset, run);
+            offset += run;
+            length -= run;
+            start = 0;
+        }
+    }
+
+    @Override
+    public void writeBytes(int address, int[] source, int offset, int length) {
+        int start = address & this.memoryBoundsMask;
+        while (length > 0) {
+            int run = Math.min(length, this.bytes.length - start);
+            WriteTracker writeTracker = this.writeTracker;
+            for (int i = 0; i < run; i++) {
+                int oldValue = this.bytes[start + i] & 0xFF;
+                this.bytes[start + i] = (byte) source[offset + i];
+                if (writeTracker != null) {
+                    writeTracker.onWrite(start + i, oldValue, source[offset + i] & 0xFF);
+                }
+            }
+            this.countPageWrites(start, run);
+            offset += run;
+            length -= run;
+            start = 0;
+        }
+    }
+
+    @Override
+    public void copy(int sourceAddress, int destinationAddress, int length) {
+        // A destination that starts inside the source range sees bytes the copy itself wrote, which array copies don't reproduce
+        int distance = (destinationAddress - sourceAddress) & this.memoryBoundsMask;
+        if ((distance != 0 && distance < length) || length > this.bytes.length) {
+            for (int i = 0; i < length; i++) {
+                this.writeByte(destinationAddress + i, this.readByte(sourceAddress + i));
+            }
+            return;
+        }
+        int source = sourceAddress & this.memoryBoundsMask;
+        int destination = destinationAddress & this.memoryBoundsMask;
+        while (length > 0) {
+            int run = Math.min(length, Math.min(this.bytes.length - source, this.bytes.length - destination));
+            this.writeRun(destination, this.bytes, source, run);
+            source = (source + run) & this.memoryBoundsMask;
+            destination = (destination + run) & this.memoryBoundsMask;
+            length -= run;
+        }
+    }
+
+    @Override
+    public void setWriteTracker(@Nullable WriteTracker writeTracker) {
+        this.writeTracker = writeTracker;
+    }
+
+    @Override
+    @Nullable
+    public WriteTracker getWriteTracker() {
+        return this.writeTracker;
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        int pageCount = this.pageWriteCounts.length;
+        int modifiedPages = 0;
+        for (int page = 0; page < pageCount; page++) {
+            if (this.isPageModified(page)) {
+                modifiedPages++;
+            }
+        }
+        writer.writeInt(modifiedPages);
+        for (int page = 0; page < pageCount; page++) {
+            if (this.isPageModified(page)) {
+                int pageStart = page << PAGE_SHIFT;
+                writer.writeInt(page);
+                writer.writeBytes(this.bytes, pageStart, Math.min(PAGE_SIZE, this.bytes.length - pageStart));
+            }
+        }
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        int pageCount = this.pageWriteCounts.length;
+        int remainingPages = reader.readInt();
+        if (remainingPages < 0 || remainingPages > pageCount) {
+            throw new EmulatorException("Invalid memory page count " + remainingPages + " in save state!");
+        }
+        int nextPage = remainingPages > 0 ? reader.readInt() : -1;
+        for (int page = 0; page < pageCount; page++) {
+            int pageStart = page << PAGE_SHIFT;
+            if (page == nextPage) {
+                reader.readBytes(this.bytes, pageStart, Math.min(PAGE_SIZE, this.bytes.length - pageStart));
+                this.replacePage(page);
+                remainingPages--;
+                nextPage = remainingPages > 0 ? reader.readInt() : -1;
+            } else if (this.isPageModified(page)) {
+                this.restorePage(page);
+            }
+        }
+        if (remainingPages > 0) {
+            throw new EmulatorException("Memory pages in save state are out of order!");
+        }
+    }
+
+    private boolean isPageModified(int page) {
+        return this.pageWriteCounts[page] != this.pageRestoreCounts[page];
+    }
+
+    // Rebuilds the power on contents of a page from the ROM and the font
+    private void restorePage(int page) {
+        int pageStart = page << PAGE_SHIFT;
+        int pageEnd = Math.min(pageStart + PAGE_SIZE, this.bytes.length);
+        Arrays.fill(this.bytes, pageStart, pageEnd, (byte) 0);
+        int romStart = Math.max(this.getProgramStart(), pageStart);
+        int romEnd = Math.min(this.getProgramStart() + this.rom.getLength(), pageEnd);
+        if (romStart < romEnd) {
+            this.rom.copyTo(romStart - this.getProgramStart(), this.bytes, romStart, romEnd - romStart);
+        }
+        if (this.spriteFont != null) {
+            this.spriteFont.getSmallFont().ifPresent(smallFont -> {
+                for (int i = 0; i < smallFont.length; i++) {
+                    this.copyIntoPage(smallFont[i], HexSpriteFont.SMALL_FONT_BEGIN_OFFSET + (smallFont[i].length * i), pageStart, pageEnd);
+                }
+            });
+            this.spriteFont.getBigFont().ifPresent(bigFont -> {
+                for (int i = 0; i < bigFont.length; i++) {
+                    this.copyIntoPage(bigFont[i], HexSpriteFont.BIG_FONT_BEGIN_OFFSET + (bigFont[i].length * i), pageStart, pageEnd);
+                }
+            });
+        }
+        this.replacePage(page);
+        this.pageRestoreCounts[page] = this.pageWriteCounts[page];
+    }
+
+    private void copyIntoPage(int[] source, int offset, int pageStart, int pageEnd) {
+        int start = Math.max(offset, pageStart);
+        int end = Math.min(offset + source.length, pageEnd);
+        for (int address = start; address < end; address++) {
+            this.bytes[address] = (byte) source[address - offset];
+        }
+    }
+
+    private void replacePage(int page) {
+        this.pageWriteCounts[page]++;
+        if (this.writeTracker != null) {
+            this.writeTracker.onPageReplaced(page);
+        }
+    }
+
+    // Writes a run of bytes that doesn't cross the end of memory
+    private void writeRun(int start, byte[] source, int offset, int length) {
+        WriteTracker writeTracker = this.writeTracker;
+        if (writeTracker == null) {
+            System.arraycopy(source, offset, this.bytes, start, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                int oldValue = this.bytes[start + i] & 0xFF;
+                this.bytes[start + i] = source[offset + i];
+                writeTracker.onWrite(start + i, oldValue, source[offset + i] & 0xFF);
+            }
+        }
+        this.countPageWrites(start, length);
+    }
+
+    // Same as writeByte's count for every address in the run, bumped once per page
+    private void countPageWrites(int start, int length) {
+        int lastPage = (start + length - 1) >>> PAGE_SHIFT;
+        for (int page = start >>> PAGE_SHIFT; page <= lastPage; page++) {
+            this.pageWriteCounts[page]++;
+        }
     }
 
 }
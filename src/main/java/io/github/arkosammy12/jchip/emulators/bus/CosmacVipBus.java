@@ -1,10 +1,15 @@
 package io.github.arkosammy12.jchip.emulators.bus;
 
 import io.github.arkosammy12.jchip.config.settings.CosmacVipEmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
 import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+import org.jetbrains.annotations.Nullable;
 
-public class CosmacVipBus implements Bus, BusView {
+public class CosmacVipBus implements Bus, BusView, StateSerializable {
 
     private static final int[] MONITOR_ROM = {
             0xF8, 0x80, 0xB2, 0xF8, 0x08, 0xA2, 0xE2, 0xD2,
@@ -140,28 +145,75 @@ public class CosmacVipBus implements Bus, BusView {
             0x00, 0x00, 0x00, 0x00, 0x00, 0xe0, 0x00, 0x4b
     };
 
-    protected final int[] bytes;
+    private static final byte[] MONITOR_ROM_BYTES = new byte[MONITOR_ROM.length];
+
+    static {
+        for (int i = 0; i < MONITOR_ROM.length; i++) {
+            MONITOR_ROM_BYTES[i] = (byte) MONITOR_ROM[i];
+        }
+    }
+
+    protected final byte[] bytes;
+    // What each 256-byte page of the address space maps to, so that the common accesses are a lookup into the page's backing memory.
+    // Device pages have no backing memory and go through readDevice and writeDevice instead.
+    private final PageType[] pageTypes = new PageType[256];
+    private final byte[][] pageMemory = new byte[256][];
+    private final int[] pageOffsets = new int[256];
     protected boolean addressMsbLatched = true;
     protected int dataBus = 0;
+    @Nullable
+    private WriteTracker writeTracker;
 
     public CosmacVipBus(CosmacVipEmulator emulator) {
-        int[] rom = emulator.getEmulatorSettings().getRom();
-        this.bytes = new int[this.getMemorySize()];
+        RomImage rom = emulator.getEmulatorSettings().getRomImage();
+        this.bytes = new byte[this.getMemorySize()];
         try {
             this.initializeRam(emulator, rom);
-        } catch (ArrayIndexOutOfBoundsException e) {
+        } catch (IndexOutOfBoundsException e) {
             throw new EmulatorException("ROM size too big for selected variant " + emulator.getVariant().getDisplayName() + "!");
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize memory for variant " + emulator.getVariant(), e);
         }
+        // RAM is mirrored through the lower half of the address space, and the monitor ROM through the upper half
+        for (int page = 0; page < 0x80; page++) {
+            this.mapPage(page, PageType.RAM, this.bytes, (page << 8) & this.getMemoryBoundsMask());
+        }
+        for (int page = 0x80; page < 0x100; page++) {
+            this.mapPage(page, PageType.ROM, MONITOR_ROM_BYTES, (page << 8) & 0x1FF);
+        }
+    }
+
+    private void mapPage(int page, PageType pageType, byte @Nullable [] memory, int offset) {
+        this.pageTypes[page] = pageType;
+        this.pageMemory[page] = memory;
+        this.pageOffsets[page] = offset;
     }
 
-    protected void initializeRam(CosmacVipEmulator emulator, int[] rom) {
+    protected void mapDevicePages(int fromPage, int toPage) {
+        for (int page = fromPage; page < toPage; page++) {
+            this.mapPage(page, PageType.DEVICE, null, 0);
+        }
+    }
+
+    protected int readDevice(int address, int actualAddress) {
+        // Data bus lines are pulled up on the VIP
+        return 0xFF;
+    }
+
+    protected void writeDevice(int address, int actualAddress, int value) { }
+
+    protected void initializeRam(CosmacVipEmulator emulator, RomImage rom) {
         if (emulator.getChip8Interpreter() == CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8) {
-            System.arraycopy(CHIP_8_INTERPRETER, 0, this.bytes, 0, CHIP_8_INTERPRETER.length);
-            System.arraycopy(rom, 0, this.bytes, CHIP_8_INTERPRETER.length, rom.length);
+            this.copyInterpreter(CHIP_8_INTERPRETER);
+            rom.copyTo(this.bytes, CHIP_8_INTERPRETER.length);
         } else {
-            System.arraycopy(rom, 0, this.bytes, 0, rom.length);
+            rom.copyTo(this.bytes, 0);
+        }
+    }
+
+    protected void copyInterpreter(int[] interpreter) {
+        for (int i = 0; i < interpreter.length; i++) {
+            this.bytes[i] = (byte) interpreter[i];
         }
     }
 
@@ -180,19 +232,16 @@ public class CosmacVipBus implements Bus, BusView {
         if (address >= 0x8000) {
             return MONITOR_ROM[address & 0x1FF];
         } else {
-            return this.bytes[address & 0xFFF];
+            return this.bytes[address & 0xFFF] & 0xFF;
         }
     }
 
     @Override
     public int readByte(int address) {
         int actualAddress = this.addressMsbLatched ? address | 0x8000 : address;
-        int value;
-        if (actualAddress >= 0x8000) {
-            value = MONITOR_ROM[actualAddress & 0x1FF];
-        } else {
-            value = this.bytes[actualAddress & 0xFFF];
-        }
+        int page = (actualAddress >>> 8) & 0xFF;
+        byte[] memory = this.pageMemory[page];
+        int value = memory != null ? memory[this.pageOffsets[page] | (actualAddress & 0xFF)] & 0xFF : this.readDevice(address, actualAddress);
         this.dataBus = value;
         return value;
     }
@@ -201,10 +250,50 @@ public class CosmacVipBus implements Bus, BusView {
     public void writeByte(int address, int value) {
         int actualAddress = this.addressMsbLatched ? address | 0x8000 : address;
         this.dataBus = value;
-        if (actualAddress >= 0x8000) {
-            return;
+        int page = (actualAddress >>> 8) & 0xFF;
+        switch (this.pageTypes[page]) {
+            case RAM -> {
+                int index = this.pageOffsets[page] | (actualAddress & 0xFF);
+                int oldValue = this.bytes[index] & 0xFF;
+                this.bytes[index] = (byte) value;
+                WriteTracker writeTracker = this.writeTracker;
+                if (writeTracker != null) {
+                    writeTracker.onWrite(index, oldValue, value & 0xFF);
+                }
+            }
+            case ROM -> { }
+            case DEVICE -> this.writeDevice(address, actualAddress, value);
         }
-        this.bytes[actualAddress & 0xFFF] = value & 0xFF;
+    }
+
+    @Override
+    public void setWriteTracker(@Nullable WriteTracker writeTracker) {
+        this.writeTracker = writeTracker;
+    }
+
+    @Override
+    @Nullable
+    public WriteTracker getWriteTracker() {
+        return this.writeTracker;
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeBytes(this.bytes);
+        writer.writeBoolean(this.addressMsbLatched);
+        writer.writeByte(this.dataBus);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        reader.readBytes(this.bytes);
+        if (this.writeTracker != null) {
+            for (int page = 0; page < this.writeTracker.getPageCount(); page++) {
+                this.writeTracker.onPageReplaced(page);
+            }
+        }
+        this.addressMsbLatched = reader.readBoolean();
+        this.dataBus = reader.readByte();
     }
 
     public void unlatchAddressMsb() {
@@ -215,5 +304,11 @@ public class CosmacVipBus implements Bus, BusView {
         return this.addressMsbLatched;
     }
 
+    protected enum PageType {
+        RAM,
+        ROM,
+        DEVICE
+    }
+
 }
 
@@ -1,6 +1,7 @@
 package io.github.arkosammy12.jchip.emulators.bus;
 
 import io.github.arkosammy12.jchip.config.settings.CosmacVipEmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
 import io.github.arkosammy12.jchip.emulators.video.VP590;
 
@@ -110,13 +111,15 @@ public class HybridChip8XBus extends CosmacVipBus {
     public HybridChip8XBus(CosmacVipEmulator emulator) {
         super(emulator);
         this.emulator = emulator;
+        // The VP590 color RAM shadows the monitor ROM from 0xC000 up
+        this.mapDevicePages(0xC0, 0x100);
     }
 
     @Override
-    protected void initializeRam(CosmacVipEmulator emulator, int[] rom) {
+    protected void initializeRam(CosmacVipEmulator emulator, RomImage rom) {
         if (emulator.getChip8Interpreter() == CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8X) {
-            System.arraycopy(CHIP_8X_INTERPRETER, 0, this.bytes, 0, CHIP_8X_INTERPRETER.length);
-            System.arraycopy(rom, 0, this.bytes, CHIP_8X_INTERPRETER.length, rom.length);
+            this.copyInterpreter(CHIP_8X_INTERPRETER);
+            rom.copyTo(this.bytes, CHIP_8X_INTERPRETER.length);
         } else {
             super.initializeRam(emulator, rom);
         }
@@ -132,25 +135,18 @@ public class HybridChip8XBus extends CosmacVipBus {
     }
 
     @Override
-    public int readByte(int address) {
-        int actualAddress = this.addressMsbLatched ? address | 0x8000 : address;
-        if (actualAddress >= 0xC000 && this.emulator.getDisplay() instanceof VP590<?> vp590) {
-            int value = vp590.readColorRam(address);
-            this.dataBus = value;
-            return value;
+    protected int readDevice(int address, int actualAddress) {
+        if (this.emulator.getDisplay() instanceof VP590<?> vp590) {
+            return vp590.readColorRam(address);
         }
-        return super.readByte(address);
+        return super.getByte(actualAddress);
     }
 
     @Override
-    public void writeByte(int address, int value) {
-        int actualAddress = this.addressMsbLatched ? address | 0x8000 : address;
-        if (actualAddress >= 0xC000 && this.emulator.getDisplay() instanceof VP590<?> vp590) {
-            this.dataBus = value;
+    protected void writeDevice(int address, int actualAddress, int value) {
+        if (this.emulator.getDisplay() instanceof VP590<?> vp590) {
             vp590.writeColorRam(address, value);
-            return;
         }
-        super.writeByte(address, value);
     }
 
 }
@@ -118,6 +118,8 @@ public class StrictChip8Bus extends Chip8Bus {
         return (this.readByte(DISPLAY_OFFSET + offset) & mask) != 0;
     }
 
+    // The monitor ROM lives outside of the masked address space and is only reachable through readByte.
+    // The bulk transfers inherited from Chip8Bus only cover RAM, and the strict core's handlers never use them.
     @Override
     public int readByte(int address) {
         if (address >= 0x8000) {
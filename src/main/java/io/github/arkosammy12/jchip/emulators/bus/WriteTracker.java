@@ -0,0 +1,138 @@
+package io.github.arkosammy12.jchip.emulators.bus;
+
+import java.util.function.IntConsumer;
+
+// Records which pages of a bus were written to, and optionally a bounded log of the most recent writes themselves.
+// Every write advances an epoch counter and stamps its page with it, so consumers remember the epoch they last looked at
+// and later ask which pages were written since then instead of rescanning memory. Pages are grouped in sets of 64
+// so that walking the written pages of the 16 MB MEGA-CHIP address space skips untouched areas quickly.
+// Buses only pay for this while a tracker is attached. Written to from the emulator thread only. Buses store a byte before
+// reporting its write, and the epoch is published last through a volatile field, so a thread that reads the epoch and then
+// memory sees every write the epoch covers. Bytes from later writes may show up too, but their pages are stamped past that epoch.
+public final class WriteTracker {
+
+    public static final int PAGE_SHIFT = 8;
+    public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int GROUP_SHIFT = 6;
+
+    private final int addressMask;
+    private final long[] pageEpochs;
+    private final long[] groupEpochs;
+    private volatile long epoch;
+
+    private final int[] logAddresses;
+    private final byte[] logOldValues;
+    private final byte[] logNewValues;
+    private final int logMask;
+    private long logGapEpoch;
+
+    public WriteTracker(int memorySize) {
+        this(memorySize, 0);
+    }
+
+    // The log capacity is rounded up to a power of two, and a capacity of 0 disables the write log
+    public WriteTracker(int memorySize, int logCapacity) {
+        if (Integer.bitCount(memorySize) != 1) {
+            throw new IllegalArgumentException("Tracked memory size must be a power of two!");
+        }
+        this.addressMask = memorySize - 1;
+        this.pageEpochs = new long[Math.max(1, memorySize >>> PAGE_SHIFT)];
+        this.groupEpochs = new long[((this.pageEpochs.length - 1) >>> GROUP_SHIFT) + 1];
+        int capacity = logCapacity <= 1 ? Math.max(logCapacity, 0) : Integer.highestOneBit(logCapacity - 1) << 1;
+        this.logAddresses = new int[capacity];
+        this.logOldValues = new byte[capacity];
+        this.logNewValues = new byte[capacity];
+        this.logMask = capacity - 1;
+    }
+
+    void onWrite(int address, int oldValue, int newValue) {
+        long epoch = this.epoch + 1;
+        int page = (address & this.addressMask) >>> PAGE_SHIFT;
+        this.pageEpochs[page] = epoch;
+        this.groupEpochs[page >>> GROUP_SHIFT] = epoch;
+        if (this.logMask >= 0) {
+            int slot = (int) (epoch - 1) & this.logMask;
+            this.logAddresses[slot] = address;
+            this.logOldValues[slot] = (byte) oldValue;
+            this.logNewValues[slot] = (byte) newValue;
+        }
+        this.epoch = epoch;
+    }
+
+    // Whole pages replaced at once, such as when loading a save state, are stamped but leave a gap in the write log
+    void onPageReplaced(int page) {
+        long epoch = this.epoch + 1;
+        this.pageEpochs[page] = epoch;
+        this.groupEpochs[page >>> GROUP_SHIFT] = epoch;
+        this.logGapEpoch = epoch;
+        this.epoch = epoch;
+    }
+
+    public long getEpoch() {
+        return this.epoch;
+    }
+
+    public int getPageCount() {
+        return this.pageEpochs.length;
+    }
+
+    public boolean isPageWrittenSince(int page, long epoch) {
+        return this.pageEpochs[page] > epoch;
+    }
+
+    public boolean isRangeWrittenSince(int address, int length, long epoch) {
+        long end = (long) address + length;
+        for (long current = address; current < end; current = (current | PAGE_MASK) + 1) {
+            if (this.pageEpochs[((int) current & this.addressMask) >>> PAGE_SHIFT] > epoch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void forEachPageWrittenSince(long epoch, IntConsumer pageConsumer) {
+        long[] groupEpochs = this.groupEpochs;
+        long[] pageEpochs = this.pageEpochs;
+        for (int group = 0; group < groupEpochs.length; group++) {
+            if (groupEpochs[group] <= epoch) {
+                continue;
+            }
+            int firstPage = group << GROUP_SHIFT;
+            int lastPage = Math.min(firstPage + (1 << GROUP_SHIFT), pageEpochs.length);
+            for (int page = firstPage; page < lastPage; page++) {
+                if (pageEpochs[page] > epoch) {
+                    pageConsumer.accept(page);
+                }
+            }
+        }
+    }
+
+    public boolean hasWriteLog() {
+        return this.logMask >= 0;
+    }
+
+    // Passes every logged write made after the given epoch to the consumer, oldest first.
+    // Returns false without visiting anything if the log no longer covers all of those writes.
+    public boolean forEachWriteSince(long epoch, WriteConsumer consumer) {
+        if (this.logMask < 0) {
+            return false;
+        }
+        long currentEpoch = this.epoch;
+        if (epoch < this.logGapEpoch || currentEpoch - epoch > this.logAddresses.length) {
+            return false;
+        }
+        for (long writeEpoch = epoch + 1; writeEpoch <= currentEpoch; writeEpoch++) {
+            int slot = (int) (writeEpoch - 1) & this.logMask;
+            consumer.accept(this.logAddresses[slot], this.logOldValues[slot] & 0xFF, this.logNewValues[slot] & 0xFF);
+        }
+        return true;
+    }
+
+    public interface WriteConsumer {
+
+        void accept(int address, int oldValue, int newValue);
+
+    }
+
+}
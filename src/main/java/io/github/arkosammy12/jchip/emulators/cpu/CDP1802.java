@@ -3,14 +3,21 @@ package io.github.arkosammy12.jchip.emulators.cpu;
 import io.github.arkosammy12.jchip.config.DataManager;
 import io.github.arkosammy12.jchip.emulators.SystemBus;
 import io.github.arkosammy12.jchip.emulators.bus.Bus;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import java.util.Arrays;
 
 import static io.github.arkosammy12.jchip.emulators.cpu.CDP1802.State.*;
 import static io.github.arkosammy12.jchip.emulators.cpu.Chip8Processor.HANDLED;
+import static io.github.arkosammy12.jchip.emulators.cpu.Chip8Processor.isHandled;
 import static io.github.arkosammy12.jchip.emulators.CosmacVipEmulator.REGISTERS_ENTRY_KEY;
 
-public class CDP1802 implements Processor {
+public class CDP1802 implements Processor, StateSerializable {
+
+    // Fetch plus up to two execute cycles for long branches and skips
+    public static final int MAX_INSTRUCTION_CYCLES = 3;
 
     private final SystemBus systemBus;
     private int currentInstructionAddress;
@@ -32,8 +39,12 @@ public class CDP1802 implements Processor {
 
     private final boolean[] externalFlagInputs = new boolean[4];
 
+    // Indexed by the whole opcode, I << 4 | N
+    private final InstructionHandler[] instructionHandlers;
+
     public CDP1802(SystemBus systemBus) {
         this.systemBus = systemBus;
+        this.instructionHandlers = this.createInstructionHandlers();
     }
 
     public State getCurrentState() {
@@ -165,6 +176,34 @@ public class CDP1802 implements Processor {
         };
     }
 
+    // Fetches and executes a whole instruction without going through nextState() between its machine cycles. Only valid in S0_FETCH,
+    // while the system bus guarantees that its DMA and interrupt requests won't change within the next MAX_INSTRUCTION_CYCLES cycles.
+    // I/O instructions stop after their fetch, so that they can be executed in step with the devices. Returns the number of machine
+    // cycles run, or 0 if the instruction wasn't handled.
+    public int runInstruction() {
+        this.onFetch();
+        this.currentState = S1_EXECUTE;
+        if (getI() == 0x6 && (getN() & 7) != 0) {
+            return 1;
+        }
+        int cycles = 2;
+        int flags = this.onExecute();
+        if (isHandled(flags) && this.longInstruction) {
+            flags = this.onExecute();
+            cycles++;
+        }
+        if (!isHandled(flags)) {
+            return 0;
+        }
+        this.nextState();
+        return cycles;
+    }
+
+    // Idle cycles only repeat the same dummy read until a DMA or interrupt request comes in
+    public boolean isIdling() {
+        return this.idling && this.currentState == S1_EXECUTE && !this.longInstruction;
+    }
+
     public int getCurrentInstructionAddress() {
         return this.currentInstructionAddress;
     }
@@ -264,602 +303,272 @@ public class CDP1802 implements Processor {
     }
 
     private int onExecute() {
-        return switch (getI()) {
-            case 0x0 -> {
-                if (getN() != 0) { // 0N: LDN | M(R(N)) → D; FOR N not 0
-                    setD(this.systemBus.getBus().readByte(getR(getN())));
-                } else { // 00: IDL | IDLE.
+        this.instructionHandlers[(this.highOrderInstructionDigit << 4) | this.lowOrderInstructionDigit].execute(this.systemBus.getBus());
+        return HANDLED;
+    }
+
+    private InstructionHandler[] createInstructionHandlers() {
+        InstructionHandler[] handlers = new InstructionHandler[256];
+        for (int n = 0; n < 16; n++) {
+            int N = n;
+            if (N != 0) { // 0N: LDN | M(R(N)) → D; FOR N not 0
+                handlers[N] = bus -> this.accumulator = bus.readByte(this.registers[N]);
+            } else { // 00: IDL | IDLE.
+                handlers[N] = bus -> {
                     this.idling = true;
-                    this.systemBus.getBus().readByte(getR(0)); // Dummy read for accurate bus activity
-                }
-                yield HANDLED;
-            }
-            case 0x1 -> { // 1N: INC | R(N) + 1 → R(N)
-                setR(getN(), getR(getN()) + 1);
-                yield HANDLED;
-            }
-            case 0x2 -> { // 2N: DEC | R(N) - 1 → R(N)
-                setR(getN(), getR(getN()) - 1);
-                yield HANDLED;
+                    bus.readByte(this.registers[0]); // Dummy read for accurate bus activity
+                };
             }
-            case 0x3 -> switch (getN()) {
-                case 0x0 -> { // 30: BR | M(R(P)) -> R(P).0
-                    setR0(getP(), this.systemBus.getBus().readByte(getR(getP())));
-                    yield HANDLED;
-                }
-                case 0x1 -> { // 31: BQ | IF Q = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getQ()) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x2 -> { // 32: BZ | IF D = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getD() == 0) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x3 -> { // 33: BDF | IF DF = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getDF()) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x4 -> { // 34: B1 | IF EF1 = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getEF(0)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x5 -> { // 35: B2 | IF EF2 = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getEF(1)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x6 -> { // 36: B3 | IF EF3 = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getEF(2)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x7 -> { // 37: B4 | IF EF4 = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getEF(3)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x8 -> { // 38: NBR | R(P) + 1 → R(P)
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0x9 -> { // 39: BNQ | IF Q = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getQ()) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xA -> { // 3A: BNZ | IF D NOT 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (getD() != 0) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xB -> { // 3B: BNF | IF DF = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getDF()) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xC -> { // 3C: BN1 | IF EF1 = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getEF(0)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xD -> { // 3D: BN2 | IF EF2 = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getEF(1)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xE -> { // 3E: BN3 | IF EF3 = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getEF(2)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xF -> { // 3F: BN4 | IF EF4 = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
-                    int value = this.systemBus.getBus().readByte(getR(getP()));
-                    if (!getEF(3)) {
-                        setR0(getP(), value);
-                    } else {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                default -> 0;
-            };
-            case 0x4 -> { // 4N: LDA | M(R(N)) → D; R(N) + 1 → R(N)
-                setD(this.systemBus.getBus().readByte(getR(getN())));
-                setR(getN(), getR(getN()) + 1);
-                yield HANDLED;
-            }
-            case 0x5 -> { // 5N: STR | D → M(R(N))
-                this.systemBus.getBus().writeByte(getR(getN()), getD());
-                yield HANDLED;
-            }
-            case 0x6 -> {
-                int N = getN();
-                if (N == 0x0) { // 60: IRX | R(X) + 1 → R(X)
-                    this.systemBus.getBus().readByte(getR(getX())); // Dummy read for accurate bus activity
-                    setR(getX(), getR(getX()) + 1);
-                } else if (N >= 0x1 && N <= 0x7) { // 6N: OUT | M(R(X)) → BUS; R(X) + 1 → R(X)
-                    int NX = N & 7;
-                    this.systemBus.dispatchOutput(NX, this.systemBus.getBus().readByte(getR(getX())));
-                    setR(getX(), getR(getX()) + 1);
-                } else if (N >= 0x9 && N <= 0xF) { // 6N: INP | BUS → M(R(X)), D
-                    int NX = N & 7;
-                    int input = this.systemBus.dispatchInput(NX);
-                    this.systemBus.getBus().writeByte(getR(getX()), input);
-                    setD(input);
-                } else if (N == 0x8) { // 68: Undefined. Return 0xFF from pull up data bus
-                    this.systemBus.getBus().writeByte(getR(getX()), 0xFF);
-                    setD(0xFF);
-                }
-                yield HANDLED;
-            }
-            case 0x7 -> switch (getN()) {
-                case 0x0 -> { // 70: RET | M(R(X)) → (X, P); R(X) + 1 → R(X), 1 → IE
-                    int value = this.systemBus.getBus().readByte(getR(getX()));
-                    setR(getX(), getR(getX()) + 1);
-                    setX((value & 0xF0) >>> 4);
-                    setP(value & 0x0F);
-                    setIE(true);
-                    yield HANDLED;
-                }
-                case 0x1 -> { // 71: DIS | M(R(X)) → (X, P); R(X) + 1 → R(X), 0 → IE
-                    int value = this.systemBus.getBus().readByte(getR(getX()));
-                    setR(getX(), getR(getX()) + 1);
-                    setX((value & 0xF0) >>> 4);
-                    setP(value & 0x0F);
-                    setIE(false);
-                    yield HANDLED;
-                }
-                case 0x2 -> { // 72: LDXA | M(R(X)) → D; R(X) + 1 → R(X)
-                    setD(this.systemBus.getBus().readByte(getR(getX())));
-                    setR(getX(), getR(getX()) + 1);
-                    yield HANDLED;
-                }
-                case 0x3 -> { // 73: STXD | D → M(R(X)); R(X) - 1 → R(X)
-                    this.systemBus.getBus().writeByte(getR(getX()), getD());
-                    setR(getX(), getR(getX()) - 1);
-                    yield HANDLED;
-                }
-                case 0x4 -> { // 74: ADC | M(R(X)) + D + DF → DF, D
-                    int result = this.systemBus.getBus().readByte(getR(getX())) + getD() + (getDF() ? 1 : 0);
-                    setD(result);
-                    setDF(result > 0xFF);
-                    yield HANDLED;
-                }
-                case 0x5 -> { // 75: SBD | M(R(X)) - D - (NOT DF) → DF, D
-                    int result = this.systemBus.getBus().readByte(getR(getX())) - getD() - (getDF() ? 0 : 1);
-                    setD(result);
-                    setDF(result >= 0);
-                    yield HANDLED;
-                }
-                case 0x6 -> { // 76: SHRC | SHIFT D RIGHT, LSB(D) → DF, DF → MSB(D)
-                    boolean DF = getDF();
-                    boolean shiftedOut = (getD() & 1) != 0;
-                    setD((DF ? 0x80 : 0x00) | (getD() >>> 1));
-                    setDF(shiftedOut);
-                    yield HANDLED;
-                }
-                case 0x7 -> { // 77: SMB | D - M(R(X)) - (NOT DF) → DF, D
-                    int result = getD() - this.systemBus.getBus().readByte(getR(getX())) - (getDF() ? 0 : 1);
-                    setD(result);
-                    setDF(result >= 0);
-                    yield HANDLED;
-                }
-                case 0x8 -> { // 78: SAV | T → M(R(X))
-                    this.systemBus.getBus().writeByte(getR(getX()), getT());
-                    yield HANDLED;
-                }
-                case 0x9 -> { // 79: MARK | (X, P) → T; (X, P) → M(R(2)), THEN P → X; R(2) - 1 → R(2)
-                    int value = (getX() << 4) | getP();
-                    setT(value);
-                    this.systemBus.getBus().writeByte(getR(2), value);
-                    setX(getP());
-                    setR(2, getR(2) - 1);
-                    yield HANDLED;
-                }
-                case 0xA -> { // 7A: REQ | 0 → Q
-                    setQ(false);
-                    yield HANDLED;
-                }
-                case 0xB -> { // 7B: SEQ | 1 → Q
-                    setQ(true);
-                    yield HANDLED;
-                }
-                case 0xC -> { // 7C: ADCI | M(R(P)) + D + DF → DF, D; R(P) + 1 → R(P)
-                    int result = this.systemBus.getBus().readByte(getR(getP())) + getD() + (getDF() ? 1 : 0);
-                    setD(result);
-                    setDF(result > 0xFF);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xD -> { // 7D: SBDI | M(R(P)) - D - (Not DF) → DF, D; R(P) + 1 → R(P)
-                    int result = this.systemBus.getBus().readByte(getR(getP())) - getD() - (getDF() ? 0 : 1);
-                    setD(result);
-                    setDF(result >= 0);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xE -> { // 7E: SHLC | SHIFT D LEFT, MSB(D) → DF, DF → LSB(D)
-                    boolean DF = getDF();
-                    boolean shiftedOut = (getD() & 0x80) != 0;
-                    setD((getD() << 1) | (DF ? 1 : 0));
-                    setDF(shiftedOut);
-                    yield HANDLED;
-                }
-                case 0xF -> { // 7F: SMBI | D - M(R(P)) - (NOT DF) → DF, D; R(P) + 1 → R(P)
-                    int result = getD() - this.systemBus.getBus().readByte(getR(getP())) - (getDF() ? 0 : 1);
-                    setD(result);
-                    setDF(result >= 0);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                default -> 0;
+            // 1N: INC | R(N) + 1 → R(N)
+            handlers[0x10 | N] = _ -> this.registers[N] = (this.registers[N] + 1) & 0xFFFF;
+            // 2N: DEC | R(N) - 1 → R(N)
+            handlers[0x20 | N] = _ -> this.registers[N] = (this.registers[N] - 1) & 0xFFFF;
+            // 4N: LDA | M(R(N)) → D; R(N) + 1 → R(N)
+            handlers[0x40 | N] = bus -> {
+                this.accumulator = bus.readByte(this.registers[N]);
+                this.registers[N] = (this.registers[N] + 1) & 0xFFFF;
             };
-            case 0x8 -> { // 8N: GLO | R(N).0 → D
-                // TODO: Place RN.0 on data bus
-                setD(getR0(getN()));
-                yield HANDLED;
-            }
-            case 0x9 -> { // 9N: GHI | R(N).1 → D
-                // TODO: Place RN.1 on data bus
-                setD(getR1(getN()));
-                yield HANDLED;
-            }
-            case 0xA -> { // AN: PLO | D → R(N).0
-                // TODO: Place D on data bus
-                setR0(getN(), getD());
-                yield HANDLED;
+            // 5N: STR | D → M(R(N))
+            handlers[0x50 | N] = bus -> bus.writeByte(this.registers[N], this.accumulator);
+            if (N == 0x0) { // 60: IRX | R(X) + 1 → R(X)
+                handlers[0x60 | N] = bus -> {
+                    bus.readByte(this.registers[this.dataPointerIndex]); // Dummy read for accurate bus activity
+                    this.incrementX();
+                };
+            } else if (N <= 0x7) { // 6N: OUT | M(R(X)) → BUS; R(X) + 1 → R(X)
+                handlers[0x60 | N] = bus -> {
+                    this.systemBus.dispatchOutput(N, bus.readByte(this.registers[this.dataPointerIndex]));
+                    this.incrementX();
+                };
+            } else if (N == 0x8) { // 68: Undefined. Return 0xFF from pull up data bus
+                handlers[0x60 | N] = bus -> {
+                    bus.writeByte(this.registers[this.dataPointerIndex], 0xFF);
+                    this.accumulator = 0xFF;
+                };
+            } else { // 6N: INP | BUS → M(R(X)), D
+                handlers[0x60 | N] = bus -> {
+                    int input = this.systemBus.dispatchInput(N & 7);
+                    bus.writeByte(this.registers[this.dataPointerIndex], input);
+                    this.accumulator = input & 0xFF;
+                };
             }
-            case 0xB -> { // BN: PHI | D → R(N).1
-                // TODO: Place D on data bus
-                setR1(getN(), getD());
-                yield HANDLED;
-            }
-            case 0xC -> switch (getN()) {
-                case 0x0 -> { // C0: LBR | M(R(P)) → R(P). 1, M(R(P) + 1) → R(P).0
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        setR1(getP(), getB());
-                        setR0(getP(), lowByte);
-                    }
-                    yield HANDLED;
-                }
-                case 0x1 -> { // C1: LBQ | IF Q = 1, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (getQ()) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0x2 -> { // C2: LBZ | IF D = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (getD() == 0) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0x3 -> { // C3: LBDF | IF DF = 1, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (getDF()) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0x4 -> { // C4: NOP | NO OPERATION
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    yield HANDLED;
-                }
-                case 0x5 -> { // C5: LSNQ | IF Q = 0, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (!getQ()) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x6 -> { // LSNZ | IF D Not 0, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (getD() != 0) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x7 -> { // C7: LSNF | IF DF = 0, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (!getDF()) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0x8 -> { // C8: NLBR | R(P) + 2 → R(P)
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0x9 -> { // C9: LBNQ | IF Q = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (!getQ()) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0xA -> { // CA: LBNZ | IF D Not 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (getD() != 0) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0xB -> { // CB: LBNF | IF DF = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE
-                    if (!this.longInstruction) {
-                        this.longInstruction = true;
-                        setB(this.systemBus.getBus().readByte(getR(getP())));
-                        setR(getP(), getR(getP()) + 1);
-                    } else {
-                        this.longInstruction = false;
-                        int lowByte = this.systemBus.getBus().readByte(getR(getP()));
-                        if (!getDF()) {
-                            setR1(getP(), getB());
-                            setR0(getP(), lowByte);
-                        } else {
-                            setR(getP(), getR(getP()) + 1);
-                        }
-                    }
-                    yield HANDLED;
-                }
-                case 0xC -> { // CC: LSIE | IF IE = 1, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (getIE()) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xD -> { // CD: LSQ | IF Q = 1, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (getQ()) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xE -> { // CE: LSZ | IF D = 0, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (getD() == 0) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                case 0xF -> { // CF: LSDF | IF DF = 1, R(P) + 2 → R(P), ELSE CONTINUE
-                    this.longInstruction = !this.longInstruction;
-                    this.systemBus.getBus().readByte(getR(getP())); // Dummy read for accurate bus activity
-                    if (getDF()) {
-                        setR(getP(), getR(getP()) + 1);
-                    }
-                    yield HANDLED;
-                }
-                default -> 0;
-            };
-            case 0xD -> { // DN: SEP | N → P
-                // TODO: Place NN on the data bus
-                setP(getN());
-                yield HANDLED;
-            }
-            case 0xE -> { // EN: SEX | N → X
-                // TODO: Place NN on the data bus
-                setX(getN());
-                yield HANDLED;
-            }
-            case 0xF -> switch (getN()) {
-                case 0x0 -> { // F0: LDX | M(R(X)) → D
-                    setD(this.systemBus.getBus().readByte(getR(getX())));
-                    yield HANDLED;
-                }
-                case 0x1 -> { // F1: OR | M(R(X)) OR D → D
-                    setD(this.systemBus.getBus().readByte(getR(getX())) | getD());
-                    yield HANDLED;
-                }
-                case 0x2 -> { // F2: AND | M(R(X)) AND D → D
-                    setD(this.systemBus.getBus().readByte(getR(getX())) & getD());
-                    yield HANDLED;
-                }
-                case 0x3 -> { // F3: XOR | M(R(X)) XOR D → D
-                    setD(this.systemBus.getBus().readByte(getR(getX())) ^ getD());
-                    yield HANDLED;
-                }
-                case 0x4 -> { // F4: ADD | M(R(X)) + D → DF, D
-                    int result = this.systemBus.getBus().readByte(getR(getX())) + getD();
-                    setD(result);
-                    setDF(result > 0xFF);
-                    yield HANDLED;
-                }
-                case 0x5 -> { // F5: SD | M(R(X)) - D → DF, D
-                    int result = this.systemBus.getBus().readByte(getR(getX())) - getD();
-                    setD(result);
-                    setDF(result >= 0);
-                    yield HANDLED;
-                }
-                case 0x6 -> { // F6: SHR | SHIFT D RIGHT, LSB(D) → DF, 0 → MSB(D)
-                    boolean shiftedOut = (getD() & 1) != 0;
-                    setD(getD() >>> 1);
-                    setDF(shiftedOut);
-                    yield HANDLED;
-                }
-                case 0x7 -> { // F7: SM | D - M(R(X)) → DF, D
-                    int result = getD() - this.systemBus.getBus().readByte(getR(getX()));
-                    setD(result);
-                    setDF(result >= 0);
-                    yield HANDLED;
-                }
-                case 0x8 -> { // F8: LDI | M(R(P)) → D; R(P) + 1 → R(P)
-                    setD(this.systemBus.getBus().readByte(getR(getP())));
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0x9 -> { // F9: ORI | M(R(P)) OR D → D; R(P) + 1 → R(P)
-                    setD(this.systemBus.getBus().readByte(getR(getP())) | getD());
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xA -> { // FA: ANI | M(R(P)) AND D → D; R(P) + 1 → R(P)
-                    setD(this.systemBus.getBus().readByte(getR(getP())) & getD());
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xB -> { // FB: XRI | M(R(P)) XOR D → D; R(P) + 1 → R(P)
-                    setD(this.systemBus.getBus().readByte(getR(getP())) ^ getD());
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xC -> { // FC: ADI | M(R(P)) + D → DF, D; R(P) + 1 → R(P)
-                    int result = this.systemBus.getBus().readByte(getR(getP())) + getD();
-                    setD(result);
-                    setDF(result > 0xFF);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xD -> { // FD: SDI | M(R(P)) - D → DF, D; R(P) + 1 → R(P)
-                    int result = this.systemBus.getBus().readByte(getR(getP())) - getD();
-                    setD(result);
-                    setDF(result >= 0);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                case 0xE -> { // FE: SHL | SHIFT D LEFT, MSB(D) → DF, 0 → LSB(D)
-                    boolean shiftedOut = (getD() & 0x80) != 0;
-                    setD(getD() << 1);
-                    setDF(shiftedOut);
-                    yield HANDLED;
-                }
-                case 0xF -> { // FF: SMI | D - M(R(P)) → DF, D; R(P) + 1 → R(P)
-                    int result = getD() - this.systemBus.getBus().readByte(getR(getP()));
-                    setD(result);
-                    setDF(result >= 0);
-                    setR(getP(), getR(getP()) + 1);
-                    yield HANDLED;
-                }
-                default -> 0;
-            };
-            default -> 0;
+            // 8N: GLO | R(N).0 → D
+            // TODO: Place RN.0 on data bus
+            handlers[0x80 | N] = _ -> this.accumulator = this.registers[N] & 0xFF;
+            // 9N: GHI | R(N).1 → D
+            // TODO: Place RN.1 on data bus
+            handlers[0x90 | N] = _ -> this.accumulator = this.registers[N] >>> 8;
+            // AN: PLO | D → R(N).0
+            // TODO: Place D on data bus
+            handlers[0xA0 | N] = _ -> this.registers[N] = (this.registers[N] & 0xFF00) | this.accumulator;
+            // BN: PHI | D → R(N).1
+            // TODO: Place D on data bus
+            handlers[0xB0 | N] = _ -> this.registers[N] = (this.accumulator << 8) | (this.registers[N] & 0xFF);
+            // DN: SEP | N → P
+            // TODO: Place NN on the data bus
+            handlers[0xD0 | N] = _ -> this.programCounterIndex = N;
+            // EN: SEX | N → X
+            // TODO: Place NN on the data bus
+            handlers[0xE0 | N] = _ -> this.dataPointerIndex = N;
+        }
+
+        handlers[0x30] = bus -> this.shortBranch(bus, true); // 30: BR | M(R(P)) -> R(P).0
+        handlers[0x31] = bus -> this.shortBranch(bus, this.outputFlipFlop); // 31: BQ | IF Q = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        handlers[0x32] = bus -> this.shortBranch(bus, this.accumulator == 0); // 32: BZ | IF D = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        handlers[0x33] = bus -> this.shortBranch(bus, this.dataFlagRegister); // 33: BDF | IF DF = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        handlers[0x38] = bus -> this.shortBranch(bus, false); // 38: NBR | R(P) + 1 → R(P)
+        handlers[0x39] = bus -> this.shortBranch(bus, !this.outputFlipFlop); // 39: BNQ | IF Q = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        handlers[0x3A] = bus -> this.shortBranch(bus, this.accumulator != 0); // 3A: BNZ | IF D NOT 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        handlers[0x3B] = bus -> this.shortBranch(bus, !this.dataFlagRegister); // 3B: BNF | IF DF = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        for (int i = 0; i < 4; i++) {
+            int flag = i;
+            handlers[0x34 + flag] = bus -> this.shortBranch(bus, this.externalFlagInputs[flag]); // 34-37: B1-B4 | IF EFN = 1, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+            handlers[0x3C + flag] = bus -> this.shortBranch(bus, !this.externalFlagInputs[flag]); // 3C-3F: BN1-BN4 | IF EFN = 0, M(R(P)) → R(P).0, ELSE R(P) + 1 → R(P)
+        }
+
+        handlers[0x70] = bus -> this.returnFromInterrupt(bus, true); // 70: RET | M(R(X)) → (X, P); R(X) + 1 → R(X), 1 → IE
+        handlers[0x71] = bus -> this.returnFromInterrupt(bus, false); // 71: DIS | M(R(X)) → (X, P); R(X) + 1 → R(X), 0 → IE
+        handlers[0x72] = bus -> { // 72: LDXA | M(R(X)) → D; R(X) + 1 → R(X)
+            this.accumulator = bus.readByte(this.registers[this.dataPointerIndex]);
+            this.incrementX();
+        };
+        handlers[0x73] = bus -> { // 73: STXD | D → M(R(X)); R(X) - 1 → R(X)
+            bus.writeByte(this.registers[this.dataPointerIndex], this.accumulator);
+            this.registers[this.dataPointerIndex] = (this.registers[this.dataPointerIndex] - 1) & 0xFFFF;
         };
+        handlers[0x74] = bus -> this.add(bus.readByte(this.registers[this.dataPointerIndex]), this.dataFlagRegister ? 1 : 0); // 74: ADC | M(R(X)) + D + DF → DF, D
+        handlers[0x75] = bus -> this.subtract(bus.readByte(this.registers[this.dataPointerIndex]), this.accumulator, this.dataFlagRegister ? 0 : 1); // 75: SBD | M(R(X)) - D - (NOT DF) → DF, D
+        handlers[0x76] = _ -> { // 76: SHRC | SHIFT D RIGHT, LSB(D) → DF, DF → MSB(D)
+            boolean shiftedOut = (this.accumulator & 1) != 0;
+            this.accumulator = (this.dataFlagRegister ? 0x80 : 0x00) | (this.accumulator >>> 1);
+            this.dataFlagRegister = shiftedOut;
+        };
+        handlers[0x77] = bus -> this.subtract(this.accumulator, bus.readByte(this.registers[this.dataPointerIndex]), this.dataFlagRegister ? 0 : 1); // 77: SMB | D - M(R(X)) - (NOT DF) → DF, D
+        handlers[0x78] = bus -> bus.writeByte(this.registers[this.dataPointerIndex], this.temporaryRegister); // 78: SAV | T → M(R(X))
+        handlers[0x79] = bus -> { // 79: MARK | (X, P) → T; (X, P) → M(R(2)), THEN P → X; R(2) - 1 → R(2)
+            int value = (this.dataPointerIndex << 4) | this.programCounterIndex;
+            this.temporaryRegister = value;
+            bus.writeByte(this.registers[2], value);
+            this.dataPointerIndex = this.programCounterIndex;
+            this.registers[2] = (this.registers[2] - 1) & 0xFFFF;
+        };
+        handlers[0x7A] = _ -> this.outputFlipFlop = false; // 7A: REQ | 0 → Q
+        handlers[0x7B] = _ -> this.outputFlipFlop = true; // 7B: SEQ | 1 → Q
+        handlers[0x7C] = bus -> this.add(this.readImmediate(bus), this.dataFlagRegister ? 1 : 0); // 7C: ADCI | M(R(P)) + D + DF → DF, D; R(P) + 1 → R(P)
+        handlers[0x7D] = bus -> this.subtract(this.readImmediate(bus), this.accumulator, this.dataFlagRegister ? 0 : 1); // 7D: SBDI | M(R(P)) - D - (Not DF) → DF, D; R(P) + 1 → R(P)
+        handlers[0x7E] = _ -> { // 7E: SHLC | SHIFT D LEFT, MSB(D) → DF, DF → LSB(D)
+            boolean shiftedOut = (this.accumulator & 0x80) != 0;
+            this.accumulator = ((this.accumulator << 1) | (this.dataFlagRegister ? 1 : 0)) & 0xFF;
+            this.dataFlagRegister = shiftedOut;
+        };
+        handlers[0x7F] = bus -> this.subtract(this.accumulator, this.readImmediate(bus), this.dataFlagRegister ? 0 : 1); // 7F: SMBI | D - M(R(P)) - (NOT DF) → DF, D; R(P) + 1 → R(P)
+
+        handlers[0xC0] = bus -> this.longBranch(bus, true); // C0: LBR | M(R(P)) → R(P). 1, M(R(P) + 1) → R(P).0
+        handlers[0xC1] = bus -> this.longBranch(bus, this.outputFlipFlop); // C1: LBQ | IF Q = 1, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xC2] = bus -> this.longBranch(bus, this.accumulator == 0); // C2: LBZ | IF D = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xC3] = bus -> this.longBranch(bus, this.dataFlagRegister); // C3: LBDF | IF DF = 1, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xC4] = bus -> this.longSkip(bus, false); // C4: NOP | NO OPERATION
+        handlers[0xC5] = bus -> this.longSkip(bus, !this.outputFlipFlop); // C5: LSNQ | IF Q = 0, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xC6] = bus -> this.longSkip(bus, this.accumulator != 0); // C6: LSNZ | IF D Not 0, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xC7] = bus -> this.longSkip(bus, !this.dataFlagRegister); // C7: LSNF | IF DF = 0, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xC8] = bus -> this.longSkip(bus, true); // C8: NLBR | R(P) + 2 → R(P)
+        handlers[0xC9] = bus -> this.longBranch(bus, !this.outputFlipFlop); // C9: LBNQ | IF Q = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xCA] = bus -> this.longBranch(bus, this.accumulator != 0); // CA: LBNZ | IF D Not 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xCB] = bus -> this.longBranch(bus, !this.dataFlagRegister); // CB: LBNF | IF DF = 0, M(R(P)) → R(P).1, M(R(P) + 1) → R(P).0, ELSE R(P) + 2 → R(P)
+        handlers[0xCC] = bus -> this.longSkip(bus, this.interruptEnable); // CC: LSIE | IF IE = 1, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xCD] = bus -> this.longSkip(bus, this.outputFlipFlop); // CD: LSQ | IF Q = 1, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xCE] = bus -> this.longSkip(bus, this.accumulator == 0); // CE: LSZ | IF D = 0, R(P) + 2 → R(P), ELSE CONTINUE
+        handlers[0xCF] = bus -> this.longSkip(bus, this.dataFlagRegister); // CF: LSDF | IF DF = 1, R(P) + 2 → R(P), ELSE CONTINUE
+
+        handlers[0xF0] = bus -> this.accumulator = bus.readByte(this.registers[this.dataPointerIndex]); // F0: LDX | M(R(X)) → D
+        handlers[0xF1] = bus -> this.accumulator |= bus.readByte(this.registers[this.dataPointerIndex]); // F1: OR | M(R(X)) OR D → D
+        handlers[0xF2] = bus -> this.accumulator &= bus.readByte(this.registers[this.dataPointerIndex]); // F2: AND | M(R(X)) AND D → D
+        handlers[0xF3] = bus -> this.accumulator ^= bus.readByte(this.registers[this.dataPointerIndex]); // F3: XOR | M(R(X)) XOR D → D
+        handlers[0xF4] = bus -> this.add(bus.readByte(this.registers[this.dataPointerIndex]), 0); // F4: ADD | M(R(X)) + D → DF, D
+        handlers[0xF5] = bus -> this.subtract(bus.readByte(this.registers[this.dataPointerIndex]), this.accumulator, 0); // F5: SD | M(R(X)) - D → DF, D
+        handlers[0xF6] = _ -> { // F6: SHR | SHIFT D RIGHT, LSB(D) → DF, 0 → MSB(D)
+            this.dataFlagRegister = (this.accumulator & 1) != 0;
+            this.accumulator >>>= 1;
+        };
+        handlers[0xF7] = bus -> this.subtract(this.accumulator, bus.readByte(this.registers[this.dataPointerIndex]), 0); // F7: SM | D - M(R(X)) → DF, D
+        handlers[0xF8] = bus -> this.accumulator = this.readImmediate(bus); // F8: LDI | M(R(P)) → D; R(P) + 1 → R(P)
+        handlers[0xF9] = bus -> this.accumulator |= this.readImmediate(bus); // F9: ORI | M(R(P)) OR D → D; R(P) + 1 → R(P)
+        handlers[0xFA] = bus -> this.accumulator &= this.readImmediate(bus); // FA: ANI | M(R(P)) AND D → D; R(P) + 1 → R(P)
+        handlers[0xFB] = bus -> this.accumulator ^= this.readImmediate(bus); // FB: XRI | M(R(P)) XOR D → D; R(P) + 1 → R(P)
+        handlers[0xFC] = bus -> this.add(this.readImmediate(bus), 0); // FC: ADI | M(R(P)) + D → DF, D; R(P) + 1 → R(P)
+        handlers[0xFD] = bus -> this.subtract(this.readImmediate(bus), this.accumulator, 0); // FD: SDI | M(R(P)) - D → DF, D; R(P) + 1 → R(P)
+        handlers[0xFE] = _ -> { // FE: SHL | SHIFT D LEFT, MSB(D) → DF, 0 → LSB(D)
+            this.dataFlagRegister = (this.accumulator & 0x80) != 0;
+            this.accumulator = (this.accumulator << 1) & 0xFF;
+        };
+        handlers[0xFF] = bus -> this.subtract(this.accumulator, this.readImmediate(bus), 0); // FF: SMI | D - M(R(P)) → DF, D; R(P) + 1 → R(P)
+        return handlers;
+    }
+
+    private int readImmediate(Bus bus) {
+        int programCounter = this.registers[this.programCounterIndex];
+        this.registers[this.programCounterIndex] = (programCounter + 1) & 0xFFFF;
+        return bus.readByte(programCounter);
+    }
+
+    private void incrementX() {
+        this.registers[this.dataPointerIndex] = (this.registers[this.dataPointerIndex] + 1) & 0xFFFF;
+    }
+
+    private void add(int operand, int carry) {
+        int result = operand + this.accumulator + carry;
+        this.accumulator = result & 0xFF;
+        this.dataFlagRegister = result > 0xFF;
     }
 
+    private void subtract(int minuend, int subtrahend, int borrow) {
+        int result = minuend - subtrahend - borrow;
+        this.accumulator = result & 0xFF;
+        this.dataFlagRegister = result >= 0;
+    }
+
+    private void returnFromInterrupt(Bus bus, boolean interruptEnable) {
+        int value = bus.readByte(this.registers[this.dataPointerIndex]);
+        this.incrementX();
+        this.dataPointerIndex = (value & 0xF0) >>> 4;
+        this.programCounterIndex = value & 0x0F;
+        this.interruptEnable = interruptEnable;
+    }
+
+    private void shortBranch(Bus bus, boolean condition) {
+        int programCounter = this.registers[this.programCounterIndex];
+        int value = bus.readByte(programCounter);
+        this.registers[this.programCounterIndex] = condition ? (programCounter & 0xFF00) | value : (programCounter + 1) & 0xFFFF;
+    }
+
+    // Takes two execute cycles, reading the high byte of the target in the first and the low byte in the second
+    private void longBranch(Bus bus, boolean condition) {
+        int programCounter = this.registers[this.programCounterIndex];
+        if (!this.longInstruction) {
+            this.longInstruction = true;
+            this.auxiliaryHoldingRegister = bus.readByte(programCounter);
+            this.registers[this.programCounterIndex] = (programCounter + 1) & 0xFFFF;
+        } else {
+            this.longInstruction = false;
+            int lowByte = bus.readByte(programCounter);
+            this.registers[this.programCounterIndex] = condition ? (this.auxiliaryHoldingRegister << 8) | lowByte : (programCounter + 1) & 0xFFFF;
+        }
+    }
+
+    // Also takes two execute cycles, skipping one byte in each when the condition holds
+    private void longSkip(Bus bus, boolean condition) {
+        this.longInstruction = !this.longInstruction;
+        int programCounter = this.registers[this.programCounterIndex];
+        bus.readByte(programCounter); // Dummy read for accurate bus activity
+        if (condition) {
+            this.registers[this.programCounterIndex] = (programCounter + 1) & 0xFFFF;
+        }
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeInt(this.currentInstructionAddress);
+        writer.writeEnum(this.currentState);
+        writer.writeBoolean(this.longInstruction);
+        writer.writeBoolean(this.idling);
+        writer.writeByte(this.accumulator);
+        writer.writeBoolean(this.dataFlagRegister);
+        writer.writeByte(this.auxiliaryHoldingRegister);
+        writer.writeInts(this.registers);
+        writer.writeByte(this.programCounterIndex);
+        writer.writeByte(this.dataPointerIndex);
+        writer.writeByte(this.lowOrderInstructionDigit);
+        writer.writeByte(this.highOrderInstructionDigit);
+        writer.writeByte(this.temporaryRegister);
+        writer.writeBoolean(this.interruptEnable);
+        writer.writeBoolean(this.outputFlipFlop);
+        writer.writeBooleans(this.externalFlagInputs);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.currentInstructionAddress = reader.readInt() & 0xFFFF;
+        this.currentState = reader.readEnum(State.class);
+        this.longInstruction = reader.readBoolean();
+        this.idling = reader.readBoolean();
+        this.setD(reader.readByte());
+        this.setDF(reader.readBoolean());
+        this.setB(reader.readByte());
+        reader.readInts(this.registers);
+        for (int i = 0; i < this.registers.length; i++) {
+            this.registers[i] &= 0xFFFF;
+        }
+        this.setP(reader.readByte());
+        this.setX(reader.readByte());
+        this.setN(reader.readByte());
+        this.setI(reader.readByte());
+        this.temporaryRegister = reader.readByte();
+        this.interruptEnable = reader.readBoolean();
+        this.outputFlipFlop = reader.readBoolean();
+        reader.readBooleans(this.externalFlagInputs);
+    }
+
+    // Registers survive a reset on the VIP, so they are carried over between emulator instances
     public void loadState(DataManager dataManager) {
         System.arraycopy(dataManager.getTransientOrCompute(REGISTERS_ENTRY_KEY, int[].class, () -> new int[16]), 0, this.registers, 0, this.registers.length);
 
@@ -906,6 +615,13 @@ public class CDP1802 implements Processor {
 
     }
 
+    @FunctionalInterface
+    private interface InstructionHandler {
+
+        void execute(Bus bus);
+
+    }
+
     public enum DmaStatus {
         NONE,
         IN,
@@ -1,15 +1,19 @@
 package io.github.arkosammy12.jchip.emulators.cpu;
 
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
 import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
 import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
 import io.github.arkosammy12.jchip.emulators.misc.Keypad;
 import io.github.arkosammy12.jchip.emulators.video.Chip8Display;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+import io.github.arkosammy12.jchip.util.SplitMix64;
 
 import java.util.List;
-import java.util.Random;
 
-public class Chip8Processor<E extends Chip8Emulator> implements Processor {
+public class Chip8Processor<E extends Chip8Emulator> implements Processor, StateSerializable {
 
     public static final int HANDLED = 1;
     public static final int SKIP_TAKEN = 1 << 1;
@@ -24,11 +28,20 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
 
     protected final E emulator;
     private long instructionCounter;
-    private final Random random = new Random();
+    private final SplitMix64 random = new SplitMix64();
     private final int memoryBoundsMask;
     protected boolean shouldExit;
 
-    private final int[] registers = new int[16];
+    // Quirks are bound once when the processor is created, since the settings of an emulator never change.
+    // They are stored in a form that lets the handlers apply them without branching on the quirk on every execution.
+    protected final boolean doClipping;
+    private final int vfResetMask;
+    private final int shiftOperandShift;
+    private final int jumpRegisterMask;
+    private final int indexIncrementMask;
+    private final int indexIncrementBias;
+
+    protected final int[] registers = new int[16];
     protected final int[] stack = new int[16];
     protected int programCounter;
     protected int indexRegister;
@@ -40,6 +53,15 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
         this.emulator = emulator;
         this.programCounter = emulator.getBus().getProgramStart();
         this.memoryBoundsMask = emulator.getBus().getMemoryBoundsMask();
+
+        Chip8EmulatorSettings emulatorSettings = emulator.getEmulatorSettings();
+        this.doClipping = emulatorSettings.doClipping();
+        this.vfResetMask = emulatorSettings.doVFReset() ? 0x00 : 0xFF;
+        this.shiftOperandShift = emulatorSettings.doShiftVXInPlace() ? 8 : 4;
+        this.jumpRegisterMask = emulatorSettings.doJumpWithVX() ? 0xF : 0x0;
+        Chip8EmulatorSettings.MemoryIncrementQuirk memoryIncrementQuirk = emulatorSettings.getMemoryIncrementQuirk();
+        this.indexIncrementMask = memoryIncrementQuirk == Chip8EmulatorSettings.MemoryIncrementQuirk.NONE ? 0 : -1;
+        this.indexIncrementBias = memoryIncrementQuirk == Chip8EmulatorSettings.MemoryIncrementQuirk.INCREMENT_X_1 ? 1 : 0;
     }
 
     public long getInstructionCounter() {
@@ -70,6 +92,10 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
         return this.indexRegister;
     }
 
+    protected void setStackPointer(int stackPointer) {
+        this.stackPointer = stackPointer & 0xF;
+    }
+
     protected void push(int value) {
         this.stack[stackPointer] = value;
         this.stackPointer = (this.stackPointer + 1) & 0xF;
@@ -125,7 +151,7 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
         return this.stack[index];
     }
 
-    protected final Random getRandom() {
+    protected final SplitMix64 getRandom() {
         return this.random;
     }
 
@@ -133,6 +159,34 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
         return this.shouldExit;
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeBytes(this.registers);
+        writer.writeInts(this.stack);
+        writer.writeInt(this.programCounter);
+        writer.writeInt(this.indexRegister);
+        writer.writeInt(this.stackPointer);
+        writer.writeByte(this.delayTimer);
+        writer.writeByte(this.soundTimer);
+        writer.writeLong(this.instructionCounter);
+        writer.writeLong(this.random.getState());
+        writer.writeBoolean(this.shouldExit);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        reader.readBytes(this.registers);
+        reader.readInts(this.stack);
+        this.setProgramCounter(reader.readInt());
+        this.setIndexRegister(reader.readInt());
+        this.setStackPointer(reader.readInt());
+        this.delayTimer = reader.readByte();
+        this.soundTimer = reader.readByte();
+        this.instructionCounter = reader.readLong();
+        this.random.setState(reader.readLong());
+        this.shouldExit = reader.readBoolean();
+    }
+
     public final int cycle() throws InvalidInstructionException {
         Chip8Bus memory = this.emulator.getBus();
         int programCounter = this.getProgramCounter();
@@ -254,25 +308,19 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
             case 0x1 -> { // 8XY1: vX |= vY
                 int X = getX(firstByte, NN);
                 this.setRegister(X, this.getRegister(X) | this.getRegister(getY(firstByte, NN)));
-                if (this.emulator.getEmulatorSettings().doVFReset()) {
-                    this.setVF(false);
-                }
+                this.setRegister(0xF, this.getRegister(0xF) & this.vfResetMask);
                 yield HANDLED;
             }
             case 0x2 -> { // 8XY2: vX &= vY
                 int X = getX(firstByte, NN);
                 this.setRegister(X, this.getRegister(X) & this.getRegister(getY(firstByte, NN)));
-                if (this.emulator.getEmulatorSettings().doVFReset()) {
-                    this.setVF(false);
-                }
+                this.setRegister(0xF, this.getRegister(0xF) & this.vfResetMask);
                 yield HANDLED;
             }
             case 0x3 -> { // 8XY3: vX ^= vY
                 int X = getX(firstByte, NN);
                 this.setRegister(X, this.getRegister(X) ^ this.getRegister(getY(firstByte, NN)));
-                if (this.emulator.getEmulatorSettings().doVFReset()) {
-                    this.setVF(false);
-                }
+                this.setRegister(0xF, this.getRegister(0xF) & this.vfResetMask);
                 yield HANDLED;
             }
             case 0x4 -> { // 8XY4: vX += vY
@@ -292,7 +340,7 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
             }
             case 0x6 -> { // 8XY6: vX >>= vY
                 int X = getX(firstByte, NN);
-                int operand = this.emulator.getEmulatorSettings().doShiftVXInPlace() ? this.getRegister(X) : this.getRegister(getY(firstByte, NN));
+                int operand = this.getRegister((((firstByte << 8) | NN) >>> this.shiftOperandShift) & 0xF);
                 this.setRegister(X, operand >>> 1);
                 this.setVF((operand & 1) != 0);
                 yield HANDLED;
@@ -307,7 +355,7 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
             }
             case 0xE -> { // 8XYE: vX <<= vY
                 int X = getX(firstByte, NN);
-                int operand = this.emulator.getEmulatorSettings().doShiftVXInPlace() ? this.getRegister(X) : this.getRegister(getY(firstByte, NN));
+                int operand = this.getRegister((((firstByte << 8) | NN) >>> this.shiftOperandShift) & 0xF);
                 this.setRegister(X, operand << 1);
                 this.setVF((operand & 128) != 0);
                 yield HANDLED;
@@ -339,7 +387,7 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
     // BNNN: jump0 NNN
     // BXNN: jump0 NNN + vX
     protected int executeBOpcode(int firstByte, int NN) {
-        this.setProgramCounter(getNNN(firstByte, NN) + this.getRegister(this.emulator.getEmulatorSettings().doJumpWithVX() ? getX(firstByte, NN) : 0x0));
+        this.setProgramCounter(getNNN(firstByte, NN) + this.getRegister(getX(firstByte, NN) & this.jumpRegisterMask));
         return HANDLED;
     }
 
@@ -355,7 +403,7 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
         Chip8Display<?> display = this.emulator.getDisplay();
         Chip8Bus bus = this.emulator.getBus();
         int currentIndexRegister = this.getIndexRegister();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int displayWidth = display.getWidth();
         int displayHeight = display.getHeight();
@@ -377,19 +425,8 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
                 }
             }
             int slice = bus.readByte(currentIndexRegister + i);
-            for (int j = 0, sliceMask = BASE_SLICE_MASK_8; j < 8; j++, sliceMask >>>= 1) {
-                int sliceX = spriteX + j;
-                if (sliceX >= displayWidth) {
-                    if (doClipping) {
-                        break;
-                    } else {
-                        sliceX %= displayWidth;
-                    }
-                }
-                if ((slice & sliceMask) == 0) {
-                    continue;
-                }
-                collided |= display.flipPixel(sliceX, sliceY);
+            if (slice != 0) {
+                collided |= display.drawSlice(spriteX, sliceY, slice, 8, displayWidth, doClipping);
             }
         }
         this.setVF(collided);
@@ -480,26 +517,16 @@ public class Chip8Processor<E extends Chip8Emulator> implements Processor {
                 Chip8Bus bus = this.emulator.getBus();
                 int currentIndexRegister = this.getIndexRegister();
                 int X = getX(firstByte, NN);
-                for (int i = 0; i <= X; i++) {
-                    bus.writeByte(currentIndexRegister + i, this.getRegister(i));
-                }
-                switch (this.emulator.getEmulatorSettings().getMemoryIncrementQuirk()) {
-                    case INCREMENT_X -> this.setIndexRegister(currentIndexRegister + X);
-                    case INCREMENT_X_1 -> this.setIndexRegister(currentIndexRegister + X + 1);
-                }
+                bus.writeBytes(currentIndexRegister, this.registers, 0, X + 1);
+                this.setIndexRegister(currentIndexRegister + ((X + this.indexIncrementBias) & this.indexIncrementMask));
                 yield HANDLED;
             }
             case 0x65 -> { // FX65: load vX
                 Chip8Bus bus = this.emulator.getBus();
                 int currentIndexRegister = this.getIndexRegister();
                 int X = getX(firstByte, NN);
-                for (int i = 0; i <= X; i++) {
-                    this.setRegister(i, bus.readByte(currentIndexRegister + i));
-                }
-                switch (this.emulator.getEmulatorSettings().getMemoryIncrementQuirk()) {
-                    case INCREMENT_X -> this.setIndexRegister(currentIndexRegister + X);
-                    case INCREMENT_X_1 -> this.setIndexRegister(currentIndexRegister + X + 1);
-                }
+                bus.readBytes(currentIndexRegister, this.registers, 0, X + 1);
+                this.setIndexRegister(currentIndexRegister + ((X + this.indexIncrementBias) & this.indexIncrementMask));
                 yield HANDLED;
             }
             default -> 0;
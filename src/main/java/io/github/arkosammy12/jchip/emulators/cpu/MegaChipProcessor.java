@@ -3,11 +3,18 @@ package io.github.arkosammy12.jchip.emulators.cpu;
 import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
 import io.github.arkosammy12.jchip.emulators.MegaChipEmulator;
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
+import io.github.arkosammy12.jchip.emulators.video.BitPlane;
 import io.github.arkosammy12.jchip.emulators.video.MegaChipDisplay;
 import io.github.arkosammy12.jchip.emulators.video.SChip11Display;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Processor<E> {
 
+    // Large enough for a full palette load of 255 entries
+    private final byte[] transferBuffer = new byte[1024];
+    private final int[] spriteRowIndices = new int[256];
+
     private boolean megaModeOn;
     private int cachedFontSpriteIndex;
 
@@ -15,6 +22,20 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
         super(emulator);
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeBoolean(this.megaModeOn);
+        writer.writeInt(this.cachedFontSpriteIndex);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.megaModeOn = reader.readBoolean();
+        this.cachedFontSpriteIndex = reader.readInt();
+    }
+
     private void setMegaMode(boolean on) {
         this.megaModeOn = on;
     }
@@ -100,10 +121,11 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
                 yield HANDLED;
             }
             case 0x02 -> { // 02NN: ldpal NN
-                Chip8Bus bus = this.emulator.getBus();
-                int currentIndexRegister = this.getIndexRegister();
+                byte[] transferBuffer = this.transferBuffer;
+                this.emulator.getBus().readBytes(this.getIndexRegister(), transferBuffer, 0, NN * 4);
                 for (int i = 0; i < NN; i++) {
-                    display.loadPaletteEntry(i + 1, (bus.readByte(currentIndexRegister + (i * 4)) << 24) | (bus.readByte(currentIndexRegister + (i * 4) + 1) << 16) | (bus.readByte(currentIndexRegister + (i * 4) + 2) << 8) | bus.readByte(currentIndexRegister + (i * 4) + 3));
+                    int offset = i * 4;
+                    display.loadPaletteEntry(i + 1, ((transferBuffer[offset] & 0xFF) << 24) | ((transferBuffer[offset + 1] & 0xFF) << 16) | ((transferBuffer[offset + 2] & 0xFF) << 8) | (transferBuffer[offset + 3] & 0xFF));
                 }
                 yield HANDLED;
             }
@@ -121,11 +143,12 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
             }
             case 0x06 -> {
                 if (getY(firstByte, NN) == 0x0) { // 060N: digisnd N
-                    Chip8Bus bus = this.emulator.getBus();
+                    byte[] header = this.transferBuffer;
                     int currentIndexRegister = this.getIndexRegister();
+                    this.emulator.getBus().readBytes(currentIndexRegister, header, 0, 5);
                     this.emulator.getSoundSystem().playTrack(
-                            ((bus.readByte(currentIndexRegister) & 0xFF) << 8) | bus.readByte(currentIndexRegister + 1) & 0xFF,
-                            ((bus.readByte(currentIndexRegister + 2) & 0xFF) << 16) | ((bus.readByte(currentIndexRegister + 3) & 0xFF) << 8) | (bus.readByte(currentIndexRegister + 4) & 0xFF),
+                            ((header[0] & 0xFF) << 8) | (header[1] & 0xFF),
+                            ((header[2] & 0xFF) << 16) | ((header[3] & 0xFF) << 8) | (header[4] & 0xFF),
                             getN(firstByte, NN) == 0,
                             currentIndexRegister + 6
                     );
@@ -207,7 +230,7 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
 
         Chip8Bus bus = this.emulator.getBus();
         int currentIndexRegister = this.getIndexRegister();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int displayWidth = display.getWidth();
         int displayHeight = display.getHeight();
@@ -259,10 +282,10 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
                 }
             }
         } else {
-            int currentCollisionIndex = display.getCollisionIndex();
             int spriteWidth = display.getSpriteWidth();
             int spriteHeight = display.getSpriteHeight();
             boolean collided = false;
+            int[] spriteRow = this.spriteRowIndices;
             for (int i = 0; i < spriteHeight; i++) {
                 int pixelY = spriteY + i;
                 if (pixelY >= displayHeight) {
@@ -272,25 +295,8 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
                         pixelY %= displayHeight;
                     }
                 }
-                int base = i * spriteWidth;
-                for (int j = 0; j < spriteWidth; j++) {
-                    int pixelX = spriteX + j;
-                    if (pixelX >= displayWidth) {
-                        if (doClipping) {
-                            break;
-                        } else {
-                            pixelX %= displayWidth;
-                        }
-                    }
-                    int pixelColorIndex = bus.readByte(currentIndexRegister + base + j);
-                    if (pixelColorIndex == 0) {
-                        continue;
-                    }
-                    if (display.getColorIndexAt(pixelX, pixelY) == currentCollisionIndex && display.getColorForIndex(pixelColorIndex) != 0) {
-                        collided = true;
-                    }
-                    display.setPixel(pixelX, pixelY, pixelColorIndex);
-                }
+                bus.readBytes(currentIndexRegister + i * spriteWidth, spriteRow, 0, spriteWidth);
+                collided |= display.drawSpriteRow(spriteX, pixelY, spriteRow, spriteWidth, displayWidth, doClipping);
             }
             this.setVF(collided);
         }
@@ -345,15 +351,7 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
 
         boolean draw16WideSprite = hiresMode && spriteHeight >= 16;
 
-        int sliceLength;
-        int baseMask;
-        if (draw16WideSprite) {
-            sliceLength = 16;
-            baseMask = BASE_SLICE_MASK_16;
-        } else {
-            sliceLength = 8;
-            baseMask = BASE_SLICE_MASK_8;
-        }
+        int sliceLength = draw16WideSprite ? 16 : 8;
 
         boolean collided = false;
         this.setVF(false);
@@ -366,24 +364,16 @@ public class MegaChipProcessor<E extends MegaChipEmulator> extends SChip11Proces
             int slice = draw16WideSprite
                     ? (bus.readByte(currentIndexRegister + i * 2) << 8) | bus.readByte(currentIndexRegister + (i * 2) + 1)
                     : bus.readByte(currentIndexRegister + i);
-            for (int j = 0, sliceMask = baseMask; j < sliceLength; j++, sliceMask >>>= 1) {
-                int sliceX = spriteX + j;
-                if (sliceX >= displayWidth) {
-                    break;
-                }
-                if ((slice & sliceMask) == 0) {
-                    continue;
-                }
-                if (hiresMode) {
-                    collided |= display.flipPixel(sliceX, sliceY);
-                } else {
-                    int scaledSliceX = sliceX * 2;
-                    int scaledSliceY = sliceY * 2;
-                    collided |= display.flipPixel(scaledSliceX, scaledSliceY);
-                    collided |= display.flipPixel(scaledSliceX + 1, scaledSliceY);
-                    display.flipPixel(scaledSliceX, scaledSliceY + 1);
-                    display.flipPixel(scaledSliceX + 1, scaledSliceY + 1);
-                }
+            if (slice == 0) {
+                continue;
+            }
+            if (hiresMode) {
+                collided |= display.drawSlice(spriteX, sliceY, slice, sliceLength, displayWidth, true);
+            } else {
+                long scaledSlice = BitPlane.stretchSlice(slice);
+                int scaledSliceY = sliceY * 2;
+                collided |= display.drawSlice(spriteX * 2, scaledSliceY, scaledSlice, sliceLength * 2, displayWidth * 2, true);
+                display.drawSlice(spriteX * 2, scaledSliceY + 1, scaledSlice, sliceLength * 2, displayWidth * 2, true);
             }
         }
         this.setVF(collided);
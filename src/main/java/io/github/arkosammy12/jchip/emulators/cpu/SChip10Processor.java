@@ -3,6 +3,7 @@ package io.github.arkosammy12.jchip.emulators.cpu;
 import io.github.arkosammy12.jchip.emulators.SChip10Emulator;
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
 import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
+import io.github.arkosammy12.jchip.emulators.video.BitPlane;
 import io.github.arkosammy12.jchip.emulators.video.SChip10Display;
 
 import static io.github.arkosammy12.jchip.emulators.SChip10Emulator.FLAG_REGISTERS_ENTRY_KEY;
@@ -45,7 +46,7 @@ public class SChip10Processor<E extends SChip10Emulator> extends Chip8Processor<
         Chip8Bus bus = this.emulator.getBus();
         boolean hiresMode = display.isHiresMode();
         int currentIndexRegister = this.getIndexRegister();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int N = getN(firstByte, NN);
         int spriteHeight = N < 1 ? 16 : N;
@@ -57,15 +58,7 @@ public class SChip10Processor<E extends SChip10Emulator> extends Chip8Processor<
 
         boolean draw16WideSprite = hiresMode && spriteHeight >= 16;
 
-        int sliceLength;
-        int baseMask;
-        if (draw16WideSprite) {
-            sliceLength = 16;
-            baseMask = BASE_SLICE_MASK_16;
-        } else {
-            sliceLength = 8;
-            baseMask = BASE_SLICE_MASK_8;
-        }
+        int sliceLength = draw16WideSprite ? 16 : 8;
 
         boolean collided = false;
         this.setVF(false);
@@ -82,36 +75,21 @@ public class SChip10Processor<E extends SChip10Emulator> extends Chip8Processor<
             int slice = draw16WideSprite
                     ? (bus.readByte(currentIndexRegister + i * 2) << 8) | bus.readByte(currentIndexRegister + (i * 2) + 1)
                     : bus.readByte(currentIndexRegister + i);
-            for (int j = 0, sliceMask = baseMask; j < sliceLength; j++, sliceMask >>>= 1) {
-                int sliceX = spriteX + j;
-                if (sliceX >= displayWidth) {
-                    if (doClipping) {
-                        break;
-                    } else {
-                        sliceX %= displayWidth;
-                    }
-                }
-                if ((slice & sliceMask) == 0) {
-                    continue;
-                }
+            if (slice != 0) {
                 if (hiresMode) {
-                    collided |= display.flipPixel(sliceX, sliceY);
+                    collided |= display.drawSlice(spriteX, sliceY, slice, sliceLength, displayWidth, doClipping);
                 } else {
-                    int scaledSliceX = sliceX * 2;
+                    long scaledSlice = BitPlane.stretchSlice(slice);
                     int scaledSliceY = sliceY * 2;
-                    collided |= display.flipPixel(scaledSliceX, scaledSliceY);
-                    collided |= display.flipPixel(scaledSliceX + 1, scaledSliceY);
-                    display.flipPixel(scaledSliceX, scaledSliceY + 1);
-                    display.flipPixel(scaledSliceX + 1, scaledSliceY + 1);
+                    collided |= display.drawSlice(spriteX * 2, scaledSliceY, scaledSlice, sliceLength * 2, displayWidth * 2, doClipping);
+                    display.drawSlice(spriteX * 2, scaledSliceY + 1, scaledSlice, sliceLength * 2, displayWidth * 2, doClipping);
                 }
             }
             if (!hiresMode) {
                 int x1 = (spriteX * 2) & 0x70;
                 int x2 = Math.min(x1 + 32, displayWidth * 2);
                 int scaledSliceY = sliceY * 2;
-                for (int j = x1; j < x2; j++) {
-                    display.setPixel(j, scaledSliceY + 1, display.getPixel(j, scaledSliceY));
-                }
+                display.copyRowRange(scaledSliceY, scaledSliceY + 1, x1, x2);
             }
         }
         this.setVF(collided);
@@ -126,7 +104,7 @@ public class SChip10Processor<E extends SChip10Emulator> extends Chip8Processor<
                 yield HANDLED | FONT_SPRITE_POINTER;
             }
             case 0x75 -> { // FX75: saveflags vX
-                this.emulator.getEmulatorSettings().getJchip().getDataManager().modifyTransientOrCompute(FLAG_REGISTERS_ENTRY_KEY, int[].class, () -> new int[16], flagsRegisters -> {
+                this.emulator.getEmulatorSettings().getHost().getDataManager().modifyTransientOrCompute(FLAG_REGISTERS_ENTRY_KEY, int[].class, () -> new int[16], flagsRegisters -> {
                     int X = getX(firstByte, NN);
                     for (int i = 0; i <= X; i++) {
                         flagsRegisters[i] = this.getRegister(i);
@@ -136,7 +114,7 @@ public class SChip10Processor<E extends SChip10Emulator> extends Chip8Processor<
                 yield HANDLED;
             }
             case 0x85 -> { // FX85: loadflags vX
-                int[] flagsRegister = this.emulator.getEmulatorSettings().getJchip().getDataManager().getTransientOrCompute(FLAG_REGISTERS_ENTRY_KEY, int[].class, () -> new int[16]);
+                int[] flagsRegister = this.emulator.getEmulatorSettings().getHost().getDataManager().getTransientOrCompute(FLAG_REGISTERS_ENTRY_KEY, int[].class, () -> new int[16]);
                 int X = getX(firstByte, NN);
                 for (int i = 0; i <= X; i++) {
                     this.setRegister(i, flagsRegister[i]);
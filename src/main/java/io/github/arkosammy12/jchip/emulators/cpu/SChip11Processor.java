@@ -1,6 +1,7 @@
 package io.github.arkosammy12.jchip.emulators.cpu;
 
 import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
+import io.github.arkosammy12.jchip.emulators.video.BitPlane;
 import io.github.arkosammy12.jchip.emulators.SChip11Emulator;
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
 import io.github.arkosammy12.jchip.emulators.video.SChip11Display;
@@ -48,7 +49,7 @@ public class SChip11Processor<E extends SChip11Emulator> extends SChip10Processo
         Chip8Bus bus = this.emulator.getBus();
         boolean hiresMode = display.isHiresMode();
         int currentIndexRegister = this.getIndexRegister();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int N = getN(firstByte, NN);
         int spriteHeight = N < 1 ? 16 : N;
@@ -60,15 +61,7 @@ public class SChip11Processor<E extends SChip11Emulator> extends SChip10Processo
 
         boolean draw16WideSprite = hiresMode && spriteHeight >= 16;
 
-        int sliceLength;
-        int baseMask;
-        if (draw16WideSprite) {
-            sliceLength = 16;
-            baseMask = BASE_SLICE_MASK_16;
-        } else {
-            sliceLength = 8;
-            baseMask = BASE_SLICE_MASK_8;
-        }
+        int sliceLength = draw16WideSprite ? 16 : 8;
 
         int collisionCounter = 0;
         this.setVF(false);
@@ -89,36 +82,21 @@ public class SChip11Processor<E extends SChip11Emulator> extends SChip10Processo
                     ? (bus.readByte(currentIndexRegister + i * 2) << 8) | bus.readByte(currentIndexRegister + (i * 2) + 1)
                     : bus.readByte(currentIndexRegister + i);
             boolean sliceCollided = false;
-            for (int j = 0, sliceMask = baseMask; j < sliceLength; j++, sliceMask >>>= 1) {
-                int sliceX = spriteX + j;
-                if (sliceX >= displayWidth) {
-                    if (doClipping) {
-                        break;
-                    } else {
-                        sliceX %= displayWidth;
-                    }
-                }
-                if ((slice & sliceMask) == 0) {
-                    continue;
-                }
+            if (slice != 0) {
                 if (hiresMode) {
-                    sliceCollided |= display.flipPixel(sliceX, sliceY);
+                    sliceCollided |= display.drawSlice(spriteX, sliceY, slice, sliceLength, displayWidth, doClipping);
                 } else {
-                    int scaledSliceX = sliceX * 2;
+                    long scaledSlice = BitPlane.stretchSlice(slice);
                     int scaledSliceY = sliceY * 2;
-                    sliceCollided |= display.flipPixel(scaledSliceX, scaledSliceY);
-                    sliceCollided |= display.flipPixel(scaledSliceX + 1, scaledSliceY);
-                    display.flipPixel(scaledSliceX, scaledSliceY + 1);
-                    display.flipPixel(scaledSliceX + 1, scaledSliceY + 1);
+                    sliceCollided |= display.drawSlice(spriteX * 2, scaledSliceY, scaledSlice, sliceLength * 2, displayWidth * 2, doClipping);
+                    display.drawSlice(spriteX * 2, scaledSliceY + 1, scaledSlice, sliceLength * 2, displayWidth * 2, doClipping);
                 }
             }
             if (!hiresMode) {
                 int x1 = (spriteX * 2) & 0x70;
                 int x2 = Math.min(x1 + 32, displayWidth * 2);
                 int scaledSliceY = sliceY * 2;
-                for (int j = x1; j < x2; j++) {
-                    display.setPixel(j, scaledSliceY + 1, display.getPixel(j, scaledSliceY));
-                }
+                display.copyRowRange(scaledSliceY, scaledSliceY + 1, x1, x2);
                 if (sliceCollided) {
                     collisionCounter = 1;
                 }
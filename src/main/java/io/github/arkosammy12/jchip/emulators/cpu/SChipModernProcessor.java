@@ -47,9 +47,8 @@ public class SChipModernProcessor<E extends SChipModernEmulator> extends SChip11
     protected int executeDOpcode(int firstByte, int NN) {
         SChip10Display<?> display = this.emulator.getDisplay();
         Chip8Bus bus = this.emulator.getBus();
-        boolean hiresMode = display.isHiresMode();
         int currentIndexRegister = this.getIndexRegister();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int N = getN(firstByte, NN);
         int spriteHeight = N < 1 ? 16 : N;
@@ -61,15 +60,7 @@ public class SChipModernProcessor<E extends SChipModernEmulator> extends SChip11
 
         boolean draw16WideSprite = spriteHeight >= 16;
 
-        int sliceLength;
-        int baseMask;
-        if (draw16WideSprite) {
-            sliceLength = 16;
-            baseMask = BASE_SLICE_MASK_16;
-        } else {
-            sliceLength = 8;
-            baseMask = BASE_SLICE_MASK_8;
-        }
+        int sliceLength = draw16WideSprite ? 16 : 8;
 
         boolean collided = false;
         this.setVF(false);
@@ -86,28 +77,8 @@ public class SChipModernProcessor<E extends SChipModernEmulator> extends SChip11
             int slice = draw16WideSprite
                     ? (bus.readByte(currentIndexRegister + i * 2) << 8) | bus.readByte(currentIndexRegister + (i * 2) + 1)
                     : bus.readByte(currentIndexRegister + i);
-            for (int j = 0, sliceMask = baseMask; j < sliceLength; j++, sliceMask >>>= 1) {
-                int sliceX = spriteX + j;
-                if (sliceX >= displayWidth) {
-                    if (doClipping) {
-                        break;
-                    } else {
-                        sliceX %= displayWidth;
-                    }
-                }
-                if ((slice & sliceMask) == 0) {
-                    continue;
-                }
-                if (hiresMode) {
-                    collided |= display.flipPixel(sliceX, sliceY);
-                } else {
-                    int scaledSliceX = sliceX * 2;
-                    int scaledSliceY = sliceY * 2;
-                    collided |= display.flipPixel(scaledSliceX, scaledSliceY);
-                    collided |= display.flipPixel(scaledSliceX + 1, scaledSliceY);
-                    display.flipPixel(scaledSliceX, scaledSliceY + 1);
-                    display.flipPixel(scaledSliceX + 1, scaledSliceY + 1);
-                }
+            if (slice != 0) {
+                collided |= display.drawSlice(spriteX, sliceY, slice, sliceLength, displayWidth, doClipping);
             }
         }
         this.setVF(collided);
@@ -6,6 +6,8 @@ import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
 import io.github.arkosammy12.jchip.emulators.bus.StrictChip8Bus;
 import io.github.arkosammy12.jchip.emulators.misc.Keypad;
 import io.github.arkosammy12.jchip.emulators.video.StrictChip8Display;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import java.util.List;
 
@@ -36,11 +38,30 @@ public final class StrictChip8Processor extends Chip8Processor<StrictChip8Emulat
         return this.waiting;
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeLong(this.instructionCycles);
+        writer.writeBoolean(this.waiting);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.instructionCycles = reader.readLong();
+        this.waiting = reader.readBoolean();
+    }
+
     @Override
     protected void setProgramCounter(int programCounter) {
         this.programCounter = programCounter & 0xFFFF;
     }
 
+    @Override
+    protected void setStackPointer(int stackPointer) {
+        this.stackPointer = stackPointer & 0xFFFF;
+    }
+
     @Override
     protected void incrementProgramCounter() {
         this.programCounter = (programCounter + 2) & 0xFFFF;
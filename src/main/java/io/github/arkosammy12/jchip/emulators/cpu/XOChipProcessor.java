@@ -3,11 +3,12 @@ package io.github.arkosammy12.jchip.emulators.cpu;
 import io.github.arkosammy12.jchip.emulators.XOChipEmulator;
 import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
 import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
-import io.github.arkosammy12.jchip.emulators.sound.XOChipSoundSystem;
 import io.github.arkosammy12.jchip.emulators.video.XOChipDisplay;
 
 public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProcessor<E> {
 
+    private final int[] registerScratch = new int[16];
+
     public XOChipProcessor(E emulator) {
         super(emulator);
     }
@@ -49,13 +50,13 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
                 int Y = getY(firstByte, NN);
                 boolean iterateInReverse = X > Y;
                 if (iterateInReverse) {
+                    int[] registerScratch = this.registerScratch;
                     for (int i = X, j = 0; i >= Y; i--, j++) {
-                        bus.writeByte(currentIndexRegister + j, this.getRegister(i));
+                        registerScratch[j] = this.registers[i];
                     }
+                    bus.writeBytes(currentIndexRegister, registerScratch, 0, X - Y + 1);
                 } else {
-                    for (int i = X, j = 0; i <= Y; i++, j++) {
-                        bus.writeByte(currentIndexRegister + j, this.getRegister(i));
-                    }
+                    bus.writeBytes(currentIndexRegister, this.registers, X, Y - X + 1);
                 }
                 yield HANDLED;
             }
@@ -66,13 +67,13 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
                 int Y = getY(firstByte, NN);
                 boolean iterateInReverse = X > Y;
                 if (iterateInReverse) {
+                    int[] registerScratch = this.registerScratch;
+                    bus.readBytes(currentIndexRegister, registerScratch, 0, X - Y + 1);
                     for (int i = X, j = 0; i >= Y; i--, j++) {
-                        this.setRegister(i, bus.readByte(currentIndexRegister + j));
+                        this.registers[i] = registerScratch[j];
                     }
                 } else {
-                    for (int i = X, j = 0; i <= Y; i++, j++) {
-                        this.setRegister(i, bus.readByte(currentIndexRegister + j));
-                    }
+                    bus.readBytes(currentIndexRegister, this.registers, X, Y - X + 1);
                 }
                 yield HANDLED;
             }
@@ -90,10 +91,9 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
     protected int executeDOpcode(int firstByte, int NN) {
         XOChipDisplay<?> display = this.emulator.getDisplay();
         Chip8Bus bus = this.emulator.getBus();
-        boolean hiresMode = display.isHiresMode();
         int currentIndexRegister = this.getIndexRegister();
         int selectedBitPlanes = display.getSelectedBitPlanes();
-        boolean doClipping = this.emulator.getEmulatorSettings().doClipping();
+        boolean doClipping = this.doClipping;
 
         int N = getN(firstByte, NN);
         int spriteHeight = N < 1 ? 16 : N;
@@ -104,21 +104,13 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
         int spriteY = this.getRegister(getY(firstByte, NN)) % displayHeight;
 
         boolean draw16WideSprite = spriteHeight >= 16;
-        int sliceLength;
-        int baseMask;
-        if (draw16WideSprite) {
-            sliceLength = 16;
-            baseMask = BASE_SLICE_MASK_16;
-        } else {
-            sliceLength = 8;
-            baseMask = BASE_SLICE_MASK_8;
-        }
+        int sliceLength = draw16WideSprite ? 16 : 8;
 
         boolean collided = false;
         int planeIterator = 0;
         this.setVF(false);
-        for (int bitPlaneMask = 1; bitPlaneMask <= XOChipDisplay.BITPLANE_BASE_MASK; bitPlaneMask <<= 1) {
-            if ((bitPlaneMask & selectedBitPlanes) == 0) {
+        for (int bitPlane = 0; bitPlane < 4; bitPlane++) {
+            if ((selectedBitPlanes & (1 << bitPlane)) == 0) {
                 continue;
             }
             for (int i = 0; i < spriteHeight; i++, planeIterator++) {
@@ -133,28 +125,8 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
                 int slice = draw16WideSprite
                         ? (bus.readByte(currentIndexRegister + (planeIterator * 2)) << 8) | bus.readByte(currentIndexRegister + (planeIterator * 2) + 1)
                         : bus.readByte(currentIndexRegister + planeIterator);
-                for (int j = 0, sliceMask = baseMask; j < sliceLength; j++, sliceMask >>>= 1) {
-                    int sliceX = spriteX + j;
-                    if (sliceX >= displayWidth) {
-                        if (doClipping) {
-                            break;
-                        } else {
-                            sliceX %= displayWidth;
-                        }
-                    }
-                    if ((slice & sliceMask) == 0) {
-                        continue;
-                    }
-                    if (hiresMode) {
-                        collided |= display.flipPixelAtBitPlanes(sliceX, sliceY, bitPlaneMask);
-                    } else {
-                        int scaledSliceX = sliceX * 2;
-                        int scaledSliceY = sliceY * 2;
-                        collided |= display.flipPixelAtBitPlanes(scaledSliceX, scaledSliceY, bitPlaneMask);
-                        collided |= display.flipPixelAtBitPlanes(scaledSliceX + 1, scaledSliceY, bitPlaneMask);
-                        display.flipPixelAtBitPlanes(scaledSliceX, scaledSliceY + 1, bitPlaneMask);
-                        display.flipPixelAtBitPlanes(scaledSliceX + 1, scaledSliceY + 1, bitPlaneMask);
-                    }
+                if (slice != 0) {
+                    collided |= display.drawSliceAtBitPlane(bitPlane, spriteX, sliceY, slice, sliceLength, displayWidth, doClipping);
                 }
             }
         }
@@ -187,12 +159,7 @@ public class XOChipProcessor<E extends XOChipEmulator> extends SChipModernProces
             }
             case 0x02 -> {
                 if (firstByte == 0xF0) { // F002: audio
-                    Chip8Bus bus = this.emulator.getBus();
-                    XOChipSoundSystem soundSystem = this.emulator.getSoundSystem();
-                    int currentIndexRegister = this.getIndexRegister();
-                    for (int i = 0; i < 16; i++) {
-                        soundSystem.loadPatternByte(i, bus.readByte(currentIndexRegister + i));
-                    }
+                    this.emulator.getSoundSystem().loadPattern(this.emulator.getBus(), this.getIndexRegister());
                     yield HANDLED;
                 } else {
                     yield super.executeFOpcode(firstByte, NN);
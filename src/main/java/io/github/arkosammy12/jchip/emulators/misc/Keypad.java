@@ -1,27 +1,30 @@
 package io.github.arkosammy12.jchip.emulators.misc;
 
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.emulators.Emulator;
 import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
 import java.util.List;
 
-public class Keypad extends KeyAdapter {
+public class Keypad extends KeyAdapter implements StateSerializable {
 
-    private final Jchip jchip;
+    private final EmulatorHost host;
     private final boolean[] keys = new boolean[16];
     private int waitingKey = -1;
 
     public Keypad(Emulator emulator) {
-        this.jchip = emulator.getEmulatorSettings().getJchip();
+        this.host = emulator.getEmulatorSettings().getHost();
     }
 
     @Override
     public void keyPressed(KeyEvent e) {
-        int hex = this.jchip.getMainWindow().getSettingsBar().getKeyboardLayout().orElse(KeyboardLayout.QWERTY).getKeypadHexForKeyCode(e.getKeyCode());
+        int hex = this.host.getKeyboardLayout().orElse(KeyboardLayout.QWERTY).getKeypadHexForKeyCode(e.getKeyCode());
         if (hex > -1) {
             this.setKeypadKeyPressed(hex);
         }
@@ -29,7 +32,7 @@ public class Keypad extends KeyAdapter {
 
     @Override
     public void keyReleased(KeyEvent e) {
-        int hex = this.jchip.getMainWindow().getSettingsBar().getKeyboardLayout().orElse(KeyboardLayout.QWERTY).getKeypadHexForKeyCode(e.getKeyCode());
+        int hex = this.host.getKeyboardLayout().orElse(KeyboardLayout.QWERTY).getKeypadHexForKeyCode(e.getKeyCode());
         if (hex > -1) {
             this.setKeypadKeyUnpressed(hex);
         }
@@ -61,6 +64,19 @@ public class Keypad extends KeyAdapter {
         this.waitingKey = -1;
     }
 
+    @Override
+    public synchronized void saveState(StateWriter writer) {
+        writer.writeBooleans(this.keys);
+        writer.writeByte(this.waitingKey);
+    }
+
+    @Override
+    public synchronized void loadState(StateReader reader) {
+        reader.readBooleans(this.keys);
+        int waitingKey = reader.readByte();
+        this.waitingKey = waitingKey == 0xFF ? -1 : waitingKey;
+    }
+
     private synchronized void setKeypadKeyPressed(int keyCode) {
         this.keys[keyCode] = true;
     }
@@ -2,6 +2,8 @@ package io.github.arkosammy12.jchip.emulators.misc.cosmacvip;
 
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
 import io.github.arkosammy12.jchip.emulators.misc.Keypad;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class CosmacVIPKeypad extends Keypad implements IODevice {
 
@@ -28,4 +30,16 @@ public class CosmacVIPKeypad extends Keypad implements IODevice {
         this.latchedKey = value & 0xF;
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeByte(this.latchedKey);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.latchedKey = reader.readByte() & 0xF;
+    }
+
 }
@@ -6,6 +6,15 @@ public interface IODevice {
 
     default void cycle() { }
 
+    // Number of upcoming cycles during which this device's outputs can't change on their own, so it doesn't need to be cycled
+    // through them. Devices that only react to I/O or to input from outside the machine never have anything scheduled.
+    default int getCyclesUntilNextEvent() {
+        return Integer.MAX_VALUE;
+    }
+
+    // Moves the device past cycles it wasn't cycled through, all of which were before its next event
+    default void advance(int cycles) { }
+
     default CDP1802.DmaStatus getDmaStatus() {
         return CDP1802.DmaStatus.NONE;
     }
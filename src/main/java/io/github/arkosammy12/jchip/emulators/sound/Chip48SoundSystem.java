@@ -1,8 +1,10 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
-import io.github.arkosammy12.jchip.main.AudioRenderer;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.AudioFrame;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class Chip48SoundSystem implements SoundSystem {
 
@@ -32,11 +34,11 @@ public class Chip48SoundSystem implements SoundSystem {
             0xf2ce, 0xedbb, 0xe9ee, 0xe59c, 0xe3eb, 0xe7b5, 0xed9d, 0xf2c8, 0xf6af, 0xfac1
     };
 
-    private final Jchip jchip;
+    private final EmulatorHost host;
     private double phase = 0.0;
 
     public Chip48SoundSystem(Emulator emulator) {
-        this.jchip = emulator.getEmulatorSettings().getJchip();
+        this.host = emulator.getEmulatorSettings().getHost();
     }
 
     @Override
@@ -45,12 +47,22 @@ public class Chip48SoundSystem implements SoundSystem {
             this.phase = 0;
             return;
         }
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        short[] data = new short[audioRenderer.getSamplesPerFrame()];
-        for (int i = 0; i < data.length; i++) {
-            data[i] = (short) HP48_BUZZER_SAMPLES[(int) phase];
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
+        for (int i = 0; i < frame.getSampleCount(); i++) {
+            frame.setSample16(i, HP48_BUZZER_SAMPLES[(int) phase]);
             this.phase = (phase + 1) % HP48_BUZZER_SAMPLES.length;
         }
-        audioRenderer.pushSamples16(data);
+        frame.commit();
     }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeDouble(this.phase);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.phase = reader.readDouble();
+    }
+
 }
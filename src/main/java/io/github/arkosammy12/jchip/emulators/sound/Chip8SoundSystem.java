@@ -1,14 +1,16 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
-import io.github.arkosammy12.jchip.main.AudioRenderer;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.AudioFrame;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class Chip8SoundSystem implements SoundSystem {
 
     public static final int SQUARE_WAVE_AMPLITUDE = 4;
 
-    protected final Jchip jchip;
+    protected final EmulatorHost host;
     protected double step = (4000 * Math.pow(2.0, (175 - 64) / 48.0)) / 128.0 / SAMPLE_RATE;
     protected double phase = 0.0;
 
@@ -21,7 +23,7 @@ public class Chip8SoundSystem implements SoundSystem {
     };
 
     public Chip8SoundSystem(Emulator emulator) {
-        this.jchip = emulator.getEmulatorSettings().getJchip();
+        this.host = emulator.getEmulatorSettings().getHost();
     }
 
     public void pushSamples(int soundTimer) {
@@ -29,14 +31,25 @@ public class Chip8SoundSystem implements SoundSystem {
             this.phase = 0;
             return;
         }
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        byte[] data = new byte[audioRenderer.getSamplesPerFrame()];
-        for (int i = 0; i < data.length; i++) {
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
+        for (int i = 0; i < frame.getSampleCount(); i++) {
             int bitStep = (int) (this.phase * 128);
-            data[i] = (byte) (((DEFAULT_PATTERN_2[bitStep >> 3]) & (1 << (7 ^ (bitStep & 7)))) != 0 ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
+            frame.setSample8(i, ((DEFAULT_PATTERN_2[bitStep >> 3]) & (1 << (7 ^ (bitStep & 7)))) != 0 ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
             this.phase = (this.phase + step) % 1.0;
         }
-        audioRenderer.pushSamples8(data);
+        frame.commit();
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeDouble(this.step);
+        writer.writeDouble(this.phase);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.step = reader.readDouble();
+        this.phase = reader.readDouble();
     }
 
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
 import io.github.arkosammy12.jchip.emulators.Chip8XEmulator;
-import io.github.arkosammy12.jchip.main.AudioRenderer;
+import io.github.arkosammy12.jchip.main.AudioFrame;
 
 public class Chip8XSoundSystem extends Chip8SoundSystem {
 
@@ -20,13 +20,12 @@ public class Chip8XSoundSystem extends Chip8SoundSystem {
             this.phase = 0;
             return;
         }
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        byte[] data = new byte[audioRenderer.getSamplesPerFrame()];
-        for (int i = 0; i < data.length; i++) {
-            data[i] = (byte) ((phase < 0.5) ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
+        for (int i = 0; i < frame.getSampleCount(); i++) {
+            frame.setSample8(i, (phase < 0.5) ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
             this.phase = (phase + step) % 1;
         }
-        audioRenderer.pushSamples8(data);
+        frame.commit();
     }
 
 }
@@ -1,13 +1,15 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
-import io.github.arkosammy12.jchip.main.AudioRenderer;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.AudioFrame;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.emulators.MegaChipEmulator;
 import io.github.arkosammy12.jchip.emulators.bus.MegaChipBus;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class MegaChipSoundSystem implements SoundSystem {
 
-    private final Jchip jchip;
+    private final EmulatorHost host;
     private final MegaChipEmulator emulator;
     private final Chip8SoundSystem megaOffSoundSystem;
 
@@ -19,7 +21,7 @@ public class MegaChipSoundSystem implements SoundSystem {
     private boolean isPlaying;
 
     public MegaChipSoundSystem(MegaChipEmulator emulator) {
-        this.jchip = emulator.getEmulatorSettings().getJchip();
+        this.host = emulator.getEmulatorSettings().getHost();
         this.emulator = emulator;
         this.megaOffSoundSystem = new Chip8SoundSystem(emulator);
     }
@@ -58,20 +60,41 @@ public class MegaChipSoundSystem implements SoundSystem {
             return;
         }
         MegaChipBus bus = this.emulator.getBus();
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        byte[] data = new byte[audioRenderer.getSamplesPerFrame()];
-        for (int i = 0; i < data.length; i++) {
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
+        for (int i = 0; i < frame.getSampleCount(); i++) {
             if (loop && this.phase >= this.trackSize) {
                 this.phase %= this.trackSize;
             }
             if (this.phase < this.trackSize) {
-                data[i] = (byte) (bus.readByte((int) (this.trackStart + this.phase)) - 128);
+                frame.setSample8(i, bus.readByte((int) (this.trackStart + this.phase)) - 128);
                 this.phase += this.step;
             } else {
-                data[i] = 0;
+                frame.setSample8(i, 0);
             }
         }
-        audioRenderer.pushSamples8(data);
+        frame.commit();
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        this.megaOffSoundSystem.saveState(writer);
+        writer.writeDouble(this.step);
+        writer.writeDouble(this.phase);
+        writer.writeInt(this.trackStart);
+        writer.writeInt(this.trackSize);
+        writer.writeBoolean(this.loop);
+        writer.writeBoolean(this.isPlaying);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.megaOffSoundSystem.loadState(reader);
+        this.step = reader.readDouble();
+        this.phase = reader.readDouble();
+        this.trackStart = reader.readInt();
+        this.trackSize = reader.readInt();
+        this.loop = reader.readBoolean();
+        this.isPlaying = reader.readBoolean();
     }
 
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
-public interface SoundSystem {
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+
+public interface SoundSystem extends StateSerializable {
 
     int SAMPLE_RATE = 44100;
 
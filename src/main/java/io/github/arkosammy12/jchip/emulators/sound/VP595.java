@@ -1,21 +1,23 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
-import io.github.arkosammy12.jchip.main.AudioRenderer;
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.AudioFrame;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.emulators.Emulator;
 import io.github.arkosammy12.jchip.emulators.misc.cosmacvip.IODevice;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import static io.github.arkosammy12.jchip.emulators.sound.Chip8SoundSystem.SQUARE_WAVE_AMPLITUDE;
 
 public class VP595 implements SoundSystem, IODevice {
 
-    private final Jchip jchip;
+    private final EmulatorHost host;
 
     private double frequencyLatch = 27535.0 / (0x80 + 1);
     private double phase = 0.0;
 
     public VP595(Emulator emulator) {
-        this.jchip = emulator.getEmulatorSettings().getJchip();
+        this.host = emulator.getEmulatorSettings().getHost();
     }
 
     @Override
@@ -36,14 +38,25 @@ public class VP595 implements SoundSystem, IODevice {
             phase = 0;
             return;
         }
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        byte[] data = new byte[audioRenderer.getSamplesPerFrame()];
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
         double step = frequency / SAMPLE_RATE;
-        for (int i = 0; i < data.length; i++) {
-            data[i] = (byte) ((phase < 0.5) ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
+        for (int i = 0; i < frame.getSampleCount(); i++) {
+            frame.setSample8(i, (phase < 0.5) ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
             phase = (phase + step) % 1;
         }
-        audioRenderer.pushSamples8(data);
+        frame.commit();
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeDouble(this.frequencyLatch);
+        writer.writeDouble(this.phase);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.frequencyLatch = reader.readDouble();
+        this.phase = reader.readDouble();
     }
 
 }
@@ -1,7 +1,10 @@
 package io.github.arkosammy12.jchip.emulators.sound;
 
 import io.github.arkosammy12.jchip.emulators.XOChipEmulator;
-import io.github.arkosammy12.jchip.main.AudioRenderer;
+import io.github.arkosammy12.jchip.emulators.bus.Bus;
+import io.github.arkosammy12.jchip.main.AudioFrame;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class XOChipSoundSystem extends Chip8SoundSystem {
 
@@ -16,6 +19,10 @@ public class XOChipSoundSystem extends Chip8SoundSystem {
         this.patternBuffer[index] = value & 0xFF;
     }
 
+    public void loadPattern(Bus bus, int address) {
+        bus.readBytes(address, this.patternBuffer, 0, this.patternBuffer.length);
+    }
+
     public void setPitch(int pitch) {
         this.step = (4000 * Math.pow(2.0, (pitch - 64) / 48.0)) / 128.0 / SAMPLE_RATE;
     }
@@ -25,14 +32,25 @@ public class XOChipSoundSystem extends Chip8SoundSystem {
             this.phase = 0;
             return;
         }
-        AudioRenderer audioRenderer = this.jchip.getAudioRenderer();
-        byte[] data = new byte[audioRenderer.getSamplesPerFrame()];
-        for (int i = 0; i < data.length; i++) {
+        AudioFrame frame = this.host.getAudioRenderer().borrowFrame();
+        for (int i = 0; i < frame.getSampleCount(); i++) {
             int bitStep = (int) (this.phase * 128);
-            data[i] = (byte) (((this.patternBuffer[bitStep >> 3]) & (1 << (7 ^ (bitStep & 7)))) != 0 ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
+            frame.setSample8(i, ((this.patternBuffer[bitStep >> 3]) & (1 << (7 ^ (bitStep & 7)))) != 0 ? SQUARE_WAVE_AMPLITUDE : -SQUARE_WAVE_AMPLITUDE);
             this.phase = (this.phase + step) % 1.0;
         }
-        audioRenderer.pushSamples8(data);
+        frame.commit();
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeBytes(this.patternBuffer);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        reader.readBytes(this.patternBuffer);
     }
 
 }
@@ -0,0 +1,219 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// Ring of per-frame emulator states used for rewinding. Every few frames a full keyframe is stored,
+// and the frames in between only keep the fixed size chunks of their state that differ from that keyframe.
+// Every frame still serializes and compares the whole state, which for MEGA-CHIP is mostly its framebuffers at around 590 KB.
+// Deltas only apply while the state keeps the length of its keyframe. The bus only serializes pages that differ from their power on contents,
+// so the first write to a new page shifts every later chunk and forces a new keyframe. Once the memory budget is exceeded, the oldest keyframe is dropped along with its deltas.
+// Only meant to be used from the emulator thread, except for setCapacity.
+public final class RewindBuffer {
+
+    public static final int DEFAULT_CAPACITY_MEGABYTES = 64;
+    public static final int MAX_CAPACITY_MEGABYTES = 512;
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int KEYFRAME_INTERVAL = 60;
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final StateWriter writer = new StateWriter();
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private byte[] scratch = new byte[0];
+
+    private volatile long capacity;
+    private long usedBytes;
+
+    private Keyframe lastKeyframe;
+    private int framesSinceKeyframe;
+
+    public RewindBuffer(long capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setCapacity(long capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getCapacity() {
+        return this.capacity;
+    }
+
+    public long getUsedBytes() {
+        return this.usedBytes;
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public void clear() {
+        this.entries.clear();
+        this.usedBytes = 0;
+        this.lastKeyframe = null;
+        this.framesSinceKeyframe = 0;
+    }
+
+    public void capture(Emulator emulator) {
+        long capacity = this.capacity;
+        if (capacity <= 0) {
+            if (!this.entries.isEmpty()) {
+                this.clear();
+            }
+            return;
+        }
+
+        StateWriter writer = this.writer;
+        writer.reset();
+        emulator.saveState(writer);
+        byte[] state = writer.array();
+        int length = writer.size();
+
+        Entry entry = null;
+        Keyframe keyframe = this.lastKeyframe;
+        if (keyframe != null && this.framesSinceKeyframe < KEYFRAME_INTERVAL && keyframe.data().length == length) {
+            entry = createDelta(keyframe, state, length, this.framesSinceKeyframe + 1);
+        }
+        if (entry == null) {
+            keyframe = new Keyframe(Arrays.copyOf(state, length));
+            this.lastKeyframe = keyframe;
+            this.framesSinceKeyframe = 0;
+            entry = keyframe;
+        } else {
+            this.framesSinceKeyframe++;
+        }
+        this.entries.addLast(entry);
+        this.usedBytes += entry.getSize();
+
+        while (this.usedBytes > capacity && !this.entries.isEmpty()) {
+            this.evictOldestKeyframe();
+        }
+    }
+
+    // Steps one frame back by discarding the newest state and loading the one before it.
+    // Returns false once there is nothing left to rewind to.
+    public boolean rewind(Emulator emulator) {
+        if (this.entries.size() < 2) {
+            return false;
+        }
+        Entry discarded = this.entries.pollLast();
+        this.usedBytes -= discarded.getSize();
+
+        Entry entry = this.entries.peekLast();
+        switch (entry) {
+            case Keyframe keyframe -> {
+                this.lastKeyframe = keyframe;
+                this.framesSinceKeyframe = 0;
+                emulator.loadState(new StateReader(ByteBuffer.wrap(keyframe.data())));
+            }
+            case Delta delta -> {
+                this.lastKeyframe = delta.keyframe();
+                this.framesSinceKeyframe = delta.sequence();
+                emulator.loadState(new StateReader(this.reconstruct(delta)));
+            }
+        }
+        return true;
+    }
+
+    private void evictOldestKeyframe() {
+        Entry evicted = this.entries.pollFirst();
+        this.usedBytes -= evicted.getSize();
+        while (this.entries.peekFirst() instanceof Delta delta) {
+            this.entries.pollFirst();
+            this.usedBytes -= delta.getSize();
+        }
+        if (this.entries.isEmpty()) {
+            this.lastKeyframe = null;
+            this.framesSinceKeyframe = 0;
+        }
+    }
+
+    private ByteBuffer reconstruct(Delta delta) {
+        byte[] base = delta.keyframe().data();
+        if (this.scratch.length < base.length) {
+            this.scratch = new byte[base.length];
+        }
+        byte[] scratch = this.scratch;
+        System.arraycopy(base, 0, scratch, 0, base.length);
+        int[] chunkIndices = delta.chunkIndices();
+        byte[] chunks = delta.chunks();
+        int chunkOffset = 0;
+        for (int chunkIndex : chunkIndices) {
+            int start = chunkIndex * CHUNK_SIZE;
+            int length = Math.min(CHUNK_SIZE, base.length - start);
+            System.arraycopy(chunks, chunkOffset, scratch, start, length);
+            chunkOffset += length;
+        }
+        return ByteBuffer.wrap(scratch, 0, base.length);
+    }
+
+    // Returns null if so much of the state changed that a keyframe is cheaper to keep around
+    private static Delta createDelta(Keyframe keyframe, byte[] state, int length, int sequence) {
+        byte[] base = keyframe.data();
+        int chunkCount = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int maxChangedChunks = chunkCount / 2;
+
+        int[] chunkIndices = new int[Math.min(chunkCount, 16)];
+        int changedChunks = 0;
+        int changedBytes = 0;
+        int offset = 0;
+        while (offset < length) {
+            int mismatch = Arrays.mismatch(base, offset, length, state, offset, length);
+            if (mismatch < 0) {
+                break;
+            }
+            int chunkIndex = (offset + mismatch) / CHUNK_SIZE;
+            if (changedChunks >= maxChangedChunks) {
+                return null;
+            }
+            if (changedChunks >= chunkIndices.length) {
+                chunkIndices = Arrays.copyOf(chunkIndices, Math.min(chunkCount, chunkIndices.length * 2));
+            }
+            chunkIndices[changedChunks++] = chunkIndex;
+            int start = chunkIndex * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, length);
+            changedBytes += end - start;
+            offset = end;
+        }
+
+        byte[] chunks = new byte[changedBytes];
+        int chunkOffset = 0;
+        for (int i = 0; i < changedChunks; i++) {
+            int start = chunkIndices[i] * CHUNK_SIZE;
+            int chunkLength = Math.min(CHUNK_SIZE, length - start);
+            System.arraycopy(state, start, chunks, chunkOffset, chunkLength);
+            chunkOffset += chunkLength;
+        }
+        return new Delta(keyframe, Arrays.copyOf(chunkIndices, changedChunks), chunks, sequence);
+    }
+
+    private sealed interface Entry permits Keyframe, Delta {
+
+        long getSize();
+
+    }
+
+    private record Keyframe(byte[] data) implements Entry {
+
+        @Override
+        public long getSize() {
+            return ENTRY_OVERHEAD + this.data.length;
+        }
+
+    }
+
+    private record Delta(Keyframe keyframe, int[] chunkIndices, byte[] chunks, int sequence) implements Entry {
+
+        @Override
+        public long getSize() {
+            return ENTRY_OVERHEAD + this.chunkIndices.length * 4L + this.chunks.length;
+        }
+
+    }
+
+}
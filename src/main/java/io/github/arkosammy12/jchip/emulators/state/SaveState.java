@@ -0,0 +1,114 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import io.github.arkosammy12.jchip.util.Variant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Save state files consist of a fixed header followed by the state written by the emulator itself.
+// The header identifies the variant and the ROM the state was taken with, so that a state is never loaded into an emulator it doesn't belong to.
+// Bump FORMAT_VERSION whenever the layout of any component's state changes.
+public final class SaveState {
+
+    public static final int MAGIC = 0x4A435354; // "JCST"
+    public static final int FORMAT_VERSION = 4;
+    public static final String FILE_EXTENSION = ".state";
+
+    private SaveState() {}
+
+    public static void write(Emulator emulator, Path path) throws IOException {
+        StateWriter writer = new StateWriter();
+        emulator.saveState(writer);
+        ByteBuffer body = writer.getBuffer();
+
+        byte[] variantIdentifier = emulator.getVariant().getSerializedString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(4 + 4 + 4 + variantIdentifier.length + 4 + 4);
+        header.putInt(MAGIC);
+        header.putInt(FORMAT_VERSION);
+        header.putInt(variantIdentifier.length);
+        header.put(variantIdentifier);
+        header.putInt(emulator.getEmulatorSettings().getRomImage().getCrc32());
+        header.putInt(body.remaining());
+        header.flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] buffers = {header, body};
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+    public static void read(Emulator emulator, Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new EmulatorException("Save state file " + path + " is too large!");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+
+        StateReader header = new StateReader(buffer);
+        if (header.readInt() != MAGIC) {
+            throw new EmulatorException("File " + path + " is not a jchip save state!");
+        }
+        int version = header.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new EmulatorException("Unsupported save state version " + version + ". Expected version " + FORMAT_VERSION + "!");
+        }
+        int identifierLength = header.readInt();
+        if (identifierLength < 0 || identifierLength > buffer.remaining()) {
+            throw new EmulatorException("Save state data is truncated!");
+        }
+        byte[] variantIdentifier = new byte[identifierLength];
+        buffer.get(variantIdentifier);
+        Variant variant = Variant.getVariantForIdentifier(new String(variantIdentifier, StandardCharsets.UTF_8));
+        if (variant != emulator.getVariant()) {
+            throw new EmulatorException("Save state was taken with variant " + variant.getDisplayName() + ", but the current variant is " + emulator.getVariant().getDisplayName() + "!");
+        }
+        if (header.readInt() != emulator.getEmulatorSettings().getRomImage().getCrc32()) {
+            throw new EmulatorException("Save state was taken with a different ROM!");
+        }
+        int bodyLength = header.readInt();
+        if (bodyLength != buffer.remaining()) {
+            throw new EmulatorException("Save state data is truncated!");
+        }
+        // Components load straight into the running emulator, so a body that turns out to be bad partway through
+        // would leave it half restored. The current state is set aside first and put back if loading fails.
+        StateWriter backup = new StateWriter();
+        emulator.saveState(backup);
+        try {
+            StateReader body = new StateReader(buffer.slice());
+            emulator.loadState(body);
+            if (body.remaining() != 0) {
+                throw new EmulatorException("Save state contains " + body.remaining() + " unexpected trailing bytes!");
+            }
+        } catch (RuntimeException e) {
+            emulator.loadState(new StateReader(backup.getBuffer()));
+            throw e;
+        }
+    }
+
+    public static Path getDefaultPath(Path directory, Emulator emulator) {
+        return directory.resolve(String.format("%s-%08X%s", emulator.getVariant().getSerializedString(), emulator.getEmulatorSettings().getRomImage().getCrc32(), FILE_EXTENSION));
+    }
+
+}
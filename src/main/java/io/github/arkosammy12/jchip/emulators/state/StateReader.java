@@ -0,0 +1,120 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+// Reads back state written by a StateWriter, in the same order it was written
+public final class StateReader {
+
+    private final ByteBuffer buffer;
+
+    public StateReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public int remaining() {
+        return this.buffer.remaining();
+    }
+
+    public int readByte() {
+        try {
+            return this.buffer.get() & 0xFF;
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public boolean readBoolean() {
+        return this.readByte() != 0;
+    }
+
+    public int readInt() {
+        try {
+            return this.buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public long readLong() {
+        try {
+            return this.buffer.getLong();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public double readDouble() {
+        try {
+            return this.buffer.getDouble();
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    public <T extends Enum<T>> T readEnum(Class<T> enumClass) {
+        T[] constants = enumClass.getEnumConstants();
+        int ordinal = this.readByte();
+        if (ordinal >= constants.length) {
+            throw new EmulatorException("Invalid " + enumClass.getSimpleName() + " ordinal " + ordinal + " in save state!");
+        }
+        return constants[ordinal];
+    }
+
+    public void readBytes(int[] values, int offset, int length) {
+        if (this.buffer.remaining() < length) {
+            throw truncated();
+        }
+        ByteBuffer buffer = this.buffer;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            values[i] = buffer.get() & 0xFF;
+        }
+    }
+
+    public void readBytes(int[] values) {
+        this.readBytes(values, 0, values.length);
+    }
+
+    public void readBytes(byte[] values, int offset, int length) {
+        if (this.buffer.remaining() < length) {
+            throw truncated();
+        }
+        this.buffer.get(values, offset, length);
+    }
+
+    public void readBytes(byte[] values) {
+        this.readBytes(values, 0, values.length);
+    }
+
+    public void readInts(int[] values) {
+        if (this.buffer.remaining() < values.length * 4) {
+            throw truncated();
+        }
+        this.buffer.asIntBuffer().get(values);
+        this.buffer.position(this.buffer.position() + values.length * 4);
+    }
+
+    public void readLongs(long[] values) {
+        if (this.buffer.remaining() < values.length * 8) {
+            throw truncated();
+        }
+        this.buffer.asLongBuffer().get(values);
+        this.buffer.position(this.buffer.position() + values.length * 8);
+    }
+
+    public void readBooleans(boolean[] values) {
+        if (this.buffer.remaining() < values.length) {
+            throw truncated();
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.buffer.get() != 0;
+        }
+    }
+
+    private static EmulatorException truncated() {
+        return new EmulatorException("Save state data is truncated!");
+    }
+
+}
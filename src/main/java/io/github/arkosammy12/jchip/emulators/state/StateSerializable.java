@@ -0,0 +1,9 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+public interface StateSerializable {
+
+    void saveState(StateWriter writer);
+
+    void loadState(StateReader reader);
+
+}
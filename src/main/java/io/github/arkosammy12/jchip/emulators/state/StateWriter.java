@@ -0,0 +1,124 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import java.nio.ByteBuffer;
+
+// Growable big endian buffer that emulator components serialize their state into.
+// Writers can be reset and reused between snapshots so that taking one every frame doesn't allocate.
+public final class StateWriter {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private ByteBuffer buffer;
+
+    public StateWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StateWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 16));
+    }
+
+    public void reset() {
+        this.buffer.clear();
+    }
+
+    public int size() {
+        return this.buffer.position();
+    }
+
+    public void writeByte(int value) {
+        this.ensureCapacity(1);
+        this.buffer.put((byte) value);
+    }
+
+    public void writeBoolean(boolean value) {
+        this.writeByte(value ? 1 : 0);
+    }
+
+    public void writeInt(int value) {
+        this.ensureCapacity(4);
+        this.buffer.putInt(value);
+    }
+
+    public void writeLong(long value) {
+        this.ensureCapacity(8);
+        this.buffer.putLong(value);
+    }
+
+    public void writeDouble(double value) {
+        this.ensureCapacity(8);
+        this.buffer.putDouble(value);
+    }
+
+    public void writeEnum(Enum<?> value) {
+        this.writeByte(value.ordinal());
+    }
+
+    // Writes the lowest byte of each element, for int arrays holding 8-bit values such as registers or bitplane masks
+    public void writeBytes(int[] values, int offset, int length) {
+        this.ensureCapacity(length);
+        ByteBuffer buffer = this.buffer;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            buffer.put((byte) values[i]);
+        }
+    }
+
+    public void writeBytes(int[] values) {
+        this.writeBytes(values, 0, values.length);
+    }
+
+    public void writeBytes(byte[] values, int offset, int length) {
+        this.ensureCapacity(length);
+        this.buffer.put(values, offset, length);
+    }
+
+    public void writeBytes(byte[] values) {
+        this.writeBytes(values, 0, values.length);
+    }
+
+    public void writeInts(int[] values) {
+        this.ensureCapacity(values.length * 4);
+        this.buffer.asIntBuffer().put(values);
+        this.buffer.position(this.buffer.position() + values.length * 4);
+    }
+
+    public void writeLongs(long[] values) {
+        this.ensureCapacity(values.length * 8);
+        this.buffer.asLongBuffer().put(values);
+        this.buffer.position(this.buffer.position() + values.length * 8);
+    }
+
+    public void writeBooleans(boolean[] values) {
+        this.ensureCapacity(values.length);
+        for (boolean value : values) {
+            this.buffer.put((byte) (value ? 1 : 0));
+        }
+    }
+
+    // Returns a read-only view of the bytes written so far, which stays valid until the next write or reset
+    public ByteBuffer getBuffer() {
+        return this.buffer.asReadOnlyBuffer().flip();
+    }
+
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[this.buffer.position()];
+        this.buffer.get(0, bytes);
+        return bytes;
+    }
+
+    // Backing array of the buffer, for comparing snapshots in place without copying them out first
+    byte[] array() {
+        return this.buffer.array();
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (this.buffer.remaining() >= bytes) {
+            return;
+        }
+        int newCapacity = Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes);
+        ByteBuffer newBuffer = ByteBuffer.allocate(newCapacity);
+        newBuffer.put(this.buffer.flip());
+        this.buffer = newBuffer;
+    }
+
+}
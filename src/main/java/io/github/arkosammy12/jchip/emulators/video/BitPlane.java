@@ -0,0 +1,245 @@
+package io.github.arkosammy12.jchip.emulators.video;
+
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+
+import java.util.Arrays;
+
+// One bit per pixel, packed row by row into longs with the leftmost pixel of each word in its most significant bit.
+// A sprite slice is drawn with a shift, an XOR and a collision AND per word it touches instead of one call per pixel,
+// and scrolling moves whole words. Widths must be a multiple of 64 so that rows never share a word.
+public final class BitPlane implements StateSerializable {
+
+    private static final int XOR = 0;
+    private static final int OR = 1;
+    private static final int SUBTRACT = 2;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    public BitPlane(int width, int height) {
+        if (width <= 0 || (width & 63) != 0) {
+            throw new IllegalArgumentException("Bit plane width must be a positive multiple of 64!");
+        }
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = width >>> 6;
+        this.words = new long[this.wordsPerRow * height];
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    // Returns 64 pixels of a row, with the leftmost one in the most significant bit
+    public long getWord(int row, int wordIndex) {
+        return this.words[row * this.wordsPerRow + wordIndex];
+    }
+
+    public boolean get(int column, int row) {
+        return (this.words[row * this.wordsPerRow + (column >>> 6)] << column) < 0;
+    }
+
+    public void set(int column, int row, boolean value) {
+        int index = row * this.wordsPerRow + (column >>> 6);
+        long mask = Long.MIN_VALUE >>> column;
+        if (value) {
+            this.words[index] |= mask;
+        } else {
+            this.words[index] &= ~mask;
+        }
+    }
+
+    // Returns true if the pixel was lit before flipping it
+    public boolean flip(int column, int row) {
+        int index = row * this.wordsPerRow + (column >>> 6);
+        long mask = Long.MIN_VALUE >>> column;
+        long word = this.words[index];
+        this.words[index] = word ^ mask;
+        return (word & mask) != 0;
+    }
+
+    // XORs the lowest sliceLength bits of slice into a row, most significant bit first, starting at the given column.
+    // Pixels past areaWidth are dropped when clipping, and wrap around to column 0 otherwise.
+    // Returns true if any lit pixel was turned off.
+    public boolean xorSlice(int row, int column, long slice, int sliceLength, int areaWidth, boolean clip) {
+        return this.drawSlice(row, column, slice, sliceLength, areaWidth, clip, XOR);
+    }
+
+    // Same as xorSlice, but lights the pixels of the slice instead of flipping them.
+    // Returns true if any of those pixels was already lit.
+    public boolean orSlice(int row, int column, long slice, int sliceLength, int areaWidth, boolean clip) {
+        return this.drawSlice(row, column, slice, sliceLength, areaWidth, clip, OR);
+    }
+
+    // Same as xorSlice, but turns off the pixels of the slice instead of flipping them.
+    // Returns true if any of those pixels was lit.
+    public boolean subtractSlice(int row, int column, long slice, int sliceLength, int areaWidth, boolean clip) {
+        return this.drawSlice(row, column, slice, sliceLength, areaWidth, clip, SUBTRACT);
+    }
+
+    // Copies the pixels in [fromColumn, toColumn) of one row into another
+    public void copyRowRange(int sourceRow, int destinationRow, int fromColumn, int toColumn) {
+        int sourceStart = sourceRow * this.wordsPerRow;
+        int destinationStart = destinationRow * this.wordsPerRow;
+        for (int word = fromColumn >>> 6; word < this.wordsPerRow && (word << 6) < toColumn; word++) {
+            long mask = getColumnMask(word, fromColumn, toColumn);
+            this.words[destinationStart + word] = (this.words[destinationStart + word] & ~mask) | (this.words[sourceStart + word] & mask);
+        }
+    }
+
+    // Fills this plane with a nearest neighbour scaled copy of another plane, such as when switching between lores and hires
+    public void resampleFrom(BitPlane source) {
+        for (int row = 0; row < this.height; row++) {
+            int sourceRow = row * source.height / this.height;
+            for (int column = 0; column < this.width; column++) {
+                this.set(column, row, source.get(column * source.width / this.width, sourceRow));
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(this.words, 0);
+    }
+
+    public void invert() {
+        long[] words = this.words;
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+    }
+
+    public void scrollDown(int amount) {
+        int shift = Math.min(amount, this.height) * this.wordsPerRow;
+        System.arraycopy(this.words, 0, this.words, shift, this.words.length - shift);
+        Arrays.fill(this.words, 0, shift, 0);
+    }
+
+    public void scrollUp(int amount) {
+        int shift = Math.min(amount, this.height) * this.wordsPerRow;
+        System.arraycopy(this.words, shift, this.words, 0, this.words.length - shift);
+        Arrays.fill(this.words, this.words.length - shift, this.words.length, 0);
+    }
+
+    // Moves every pixel towards higher columns, filling in unlit pixels on the left
+    public void scrollRight(int amount) {
+        if (amount >= this.width) {
+            this.clear();
+            return;
+        }
+        int wordShift = amount >>> 6;
+        int bitShift = amount & 63;
+        long[] words = this.words;
+        for (int rowStart = 0; rowStart < words.length; rowStart += this.wordsPerRow) {
+            for (int word = this.wordsPerRow - 1; word >= 0; word--) {
+                int source = word - wordShift;
+                long value = 0;
+                if (source >= 0) {
+                    value = words[rowStart + source] >>> bitShift;
+                    if (bitShift != 0 && source > 0) {
+                        value |= words[rowStart + source - 1] << (64 - bitShift);
+                    }
+                }
+                words[rowStart + word] = value;
+            }
+        }
+    }
+
+    // Moves every pixel towards lower columns, filling in unlit pixels on the right
+    public void scrollLeft(int amount) {
+        if (amount >= this.width) {
+            this.clear();
+            return;
+        }
+        int wordShift = amount >>> 6;
+        int bitShift = amount & 63;
+        long[] words = this.words;
+        for (int rowStart = 0; rowStart < words.length; rowStart += this.wordsPerRow) {
+            for (int word = 0; word < this.wordsPerRow; word++) {
+                int source = word + wordShift;
+                long value = 0;
+                if (source < this.wordsPerRow) {
+                    value = words[rowStart + source] << bitShift;
+                    if (bitShift != 0 && source + 1 < this.wordsPerRow) {
+                        value |= words[rowStart + source + 1] >>> (64 - bitShift);
+                    }
+                }
+                words[rowStart + word] = value;
+            }
+        }
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeLongs(this.words);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        reader.readLongs(this.words);
+    }
+
+    // Doubles every bit of a slice of up to 16 pixels, for drawing lores sprites onto a hires plane
+    public static long stretchSlice(int slice) {
+        long stretched = slice & 0xFFFFL;
+        stretched = (stretched | (stretched << 8)) & 0x00FF00FFL;
+        stretched = (stretched | (stretched << 4)) & 0x0F0F0F0FL;
+        stretched = (stretched | (stretched << 2)) & 0x33333333L;
+        stretched = (stretched | (stretched << 1)) & 0x55555555L;
+        return stretched | (stretched << 1);
+    }
+
+    private boolean drawSlice(int row, int column, long slice, int sliceLength, int areaWidth, boolean clip, int operation) {
+        int rowStart = row * this.wordsPerRow;
+        int visibleLength = Math.min(sliceLength, areaWidth - column);
+        int wrappedLength = sliceLength - visibleLength;
+        boolean collided = this.drawBits(rowStart, column, slice >>> wrappedLength, visibleLength, operation);
+        if (wrappedLength > 0 && !clip) {
+            collided |= this.drawBits(rowStart, 0, slice, wrappedLength, operation);
+        }
+        return collided;
+    }
+
+    // Bits are passed in the lowest length bits, and must not extend past the end of the row
+    private boolean drawBits(int rowStart, int column, long bits, int length, int operation) {
+        if (length <= 0) {
+            return false;
+        }
+        long aligned = bits << (64 - length);
+        int index = rowStart + (column >>> 6);
+        int offset = column & 63;
+        boolean collided = this.drawWord(index, aligned >>> offset, operation);
+        if (offset + length > 64) {
+            collided |= this.drawWord(index + 1, aligned << (64 - offset), operation);
+        }
+        return collided;
+    }
+
+    private boolean drawWord(int index, long bits, int operation) {
+        long word = this.words[index];
+        this.words[index] = switch (operation) {
+            case OR -> word | bits;
+            case SUBTRACT -> word & ~bits;
+            default -> word ^ bits;
+        };
+        return (word & bits) != 0;
+    }
+
+    private static long getColumnMask(int word, int fromColumn, int toColumn) {
+        int wordStart = word << 6;
+        int from = Math.max(fromColumn - wordStart, 0);
+        int to = Math.min(toColumn - wordStart, 64);
+        if (from >= to) {
+            return 0;
+        }
+        return (-1L >>> from) & (to == 64 ? -1L : ~(-1L >>> to));
+    }
+
+}
@@ -3,6 +3,8 @@ package io.github.arkosammy12.jchip.emulators.video;
 import io.github.arkosammy12.jchip.emulators.cpu.CDP1802;
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
 import io.github.arkosammy12.jchip.emulators.misc.cosmacvip.IODevice;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements IODevice {
 
@@ -24,7 +26,22 @@ public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements
     protected static final int DMAO_BEGIN = 4;
     private static final int DMAO_END = 12;
 
-    protected final int[][] displayBuffer;
+    // For every scanline, how many scanlines later the next one that can change EF1, the interrupt line or the DMA window begins
+    private static final int[] SCANLINES_UNTIL_EDGE = new int[SCANLINES_PER_FRAME];
+
+    static {
+        int[] edges = {FIRST_EFX_BEGIN, INTERRUPT_BEGIN, DISPLAY_AREA_BEGIN, SECOND_EFX_BEGIN, DISPLAY_AREA_END};
+        for (int scanline = 0; scanline < SCANLINES_PER_FRAME; scanline++) {
+            int distance = SCANLINES_PER_FRAME;
+            for (int edge : edges) {
+                distance = Math.min(distance, Math.floorMod(edge - scanline - 1, SCANLINES_PER_FRAME) + 1);
+            }
+            SCANLINES_UNTIL_EDGE[scanline] = distance;
+        }
+    }
+
+    // Row-major, one color per pixel of the 64x128 display area
+    protected final int[] displayBuffer;
     protected long cycles;
     protected int scanlineIndex;
 
@@ -35,7 +52,7 @@ public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements
 
     public CDP1861(E emulator) {
         super(emulator);
-        this.displayBuffer = new int[this.getWidth()][this.getHeight()];
+        this.displayBuffer = new int[this.getWidth() * this.getHeight()];
     }
 
     @Override
@@ -95,6 +112,38 @@ public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements
         this.cycles++;
     }
 
+    @Override
+    public int getCyclesUntilNextEvent() {
+        // The enable latch is sampled at the start of every frame
+        int frameCycle = (int) (this.cycles % CosmacVipEmulator.CYCLES_PER_FRAME);
+        int untilEvent = frameCycle == 0 ? 0 : CosmacVipEmulator.CYCLES_PER_FRAME - frameCycle;
+        if (!this.enabled || untilEvent == 0) {
+            return untilEvent;
+        }
+        // The scanline moves on after each cycle that is a multiple of the scanline length, except for the very first one
+        int scanlineCycle = frameCycle % MACHINE_CYCLES_PER_SCANLINE;
+        int untilNextScanline = this.cycles == 0 ? MACHINE_CYCLES_PER_SCANLINE + 1 : (MACHINE_CYCLES_PER_SCANLINE - scanlineCycle) % MACHINE_CYCLES_PER_SCANLINE + 1;
+        untilEvent = Math.min(untilEvent, untilNextScanline + (SCANLINES_UNTIL_EDGE[this.scanlineIndex] - 1) * MACHINE_CYCLES_PER_SCANLINE);
+        if (this.scanlineIndex >= DISPLAY_AREA_BEGIN && this.scanlineIndex < DISPLAY_AREA_END) {
+            int untilDmaBegin = Math.floorMod(DMAO_BEGIN - 1 - scanlineCycle, MACHINE_CYCLES_PER_SCANLINE);
+            int untilDmaEnd = Math.floorMod(DMAO_END - 1 - scanlineCycle, MACHINE_CYCLES_PER_SCANLINE);
+            untilEvent = Math.min(untilEvent, Math.min(untilDmaBegin, untilDmaEnd));
+        }
+        return untilEvent;
+    }
+
+    @Override
+    public void advance(int cycles) {
+        // Only the scanline counter moves between events
+        long first = Math.max(this.cycles, 1);
+        long last = this.cycles + cycles - 1;
+        if (last >= first) {
+            long scanlines = last / MACHINE_CYCLES_PER_SCANLINE - (first - 1) / MACHINE_CYCLES_PER_SCANLINE;
+            this.scanlineIndex = (int) ((this.scanlineIndex + scanlines) % SCANLINES_PER_FRAME);
+        }
+        this.cycles += cycles;
+    }
+
     @Override
     @SuppressWarnings("DuplicatedCode")
     public void doDmaOut(int dmaOutAddress, int value) {
@@ -107,12 +156,20 @@ public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements
         }
         int dmaIndex = (int) ((this.cycles % MACHINE_CYCLES_PER_SCANLINE) - DMAO_BEGIN);
         int colStart = dmaIndex * 8;
+        int rowStart = row * this.getWidth();
+        boolean changed = false;
         for (int i = 0, mask = 0x80; i < 8; i++, mask >>>= 1) {
             int col = colStart + i;
             if (col < 0 || col >= this.getWidth()) {
                 break;
             }
-            this.displayBuffer[col][row] = (value & mask) != 0 ? 0xFFFFFFFF : 0xFF000000;
+            int color = (value & mask) != 0 ? 0xFFFFFFFF : 0xFF000000;
+            changed |= this.displayBuffer[rowStart + col] != color;
+            this.displayBuffer[rowStart + col] = color;
+        }
+        // The same memory is usually sent to the display every frame, so only rows that actually changed need to be presented again
+        if (changed) {
+            this.markRowsDirty(row, row + 1);
         }
     }
 
@@ -138,12 +195,44 @@ public class CDP1861<E extends CosmacVipEmulator> extends Display<E> implements
     }
 
     @Override
-    public void populateRenderBuffer(int[][] renderBuffer) {
-        for (int y = 0; y < imageHeight; y++) {
-            for (int x = 0; x < imageWidth; x++) {
-                renderBuffer[x][y] = this.displayBuffer[x / 4][y];
-            }
+    public void populateRenderBuffer(int[] renderBuffer) {
+        this.populateRenderBuffer(renderBuffer, 0, this.imageHeight);
+    }
+
+    @Override
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
+        int[] displayBuffer = this.displayBuffer;
+        int width = this.getWidth();
+        for (int i = fromRow * width, index = i * 4; i < toRow * width; i++) {
+            int color = displayBuffer[i];
+            renderBuffer[index++] = color;
+            renderBuffer[index++] = color;
+            renderBuffer[index++] = color;
+            renderBuffer[index++] = color;
         }
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        writer.writeInts(this.displayBuffer);
+        writer.writeLong(this.cycles);
+        writer.writeInt(this.scanlineIndex);
+        writer.writeEnum(this.dmaStatus);
+        writer.writeBoolean(this.interrupting);
+        writer.writeBoolean(this.enabled);
+        writer.writeBoolean(this.displayEnableLatch);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        reader.readInts(this.displayBuffer);
+        this.cycles = reader.readLong();
+        this.scanlineIndex = reader.readInt();
+        this.dmaStatus = reader.readEnum(CDP1802.DmaStatus.class);
+        this.interrupting = reader.readBoolean();
+        this.enabled = reader.readBoolean();
+        this.displayEnableLatch = reader.readBoolean();
+        this.markDirty();
+    }
+
 }
@@ -1,18 +1,26 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
-
-import java.util.Arrays;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class Chip8Display<E extends Chip8Emulator> extends Display<E> {
 
     protected final ColorPalette colorPalette;
-    protected final int[][] bitplaneBuffer;
+    protected final int[] paletteColors = new int[16];
+
+    // Bit plane i holds bit i of every pixel's color index
+    protected BitPlane[] bitPlanes;
+    private final long[] renderWords;
 
     public Chip8Display(E emulator) {
         super(emulator);
-        this.bitplaneBuffer = new int[this.getImageWidth()][this.getImageHeight()];
+        this.bitPlanes = this.createBitPlanes(this.getImageWidth(), this.getImageHeight());
+        this.renderWords = new long[this.bitPlanes.length];
         this.colorPalette = emulator.getEmulatorSettings().getColorPalette();
+        for (int i = 0; i < this.paletteColors.length; i++) {
+            this.paletteColors[i] = this.colorPalette.getColorARGB(i);
+        }
     }
 
     @Override
@@ -35,22 +43,120 @@ public class Chip8Display<E extends Chip8Emulator> extends Display<E> {
         return 32;
     }
 
+    protected int getBitPlaneCount() {
+        return 1;
+    }
+
+    protected BitPlane[] createBitPlanes(int width, int height) {
+        BitPlane[] bitPlanes = new BitPlane[this.getBitPlaneCount()];
+        for (int i = 0; i < bitPlanes.length; i++) {
+            bitPlanes[i] = new BitPlane(width, height);
+        }
+        return bitPlanes;
+    }
+
     public boolean flipPixel(int column, int row) {
-        this.bitplaneBuffer[column][row] ^= 1;
-        return this.bitplaneBuffer[column][row] == 0;
+        this.markBitPlaneRowDirty(row);
+        return this.bitPlanes[0].flip(column, row);
+    }
+
+    // Draws a sprite slice into the first bit plane, with the same result as flipping each of its lit pixels.
+    // Pixels past areaWidth are clipped or wrapped around to column 0. Returns true if any lit pixel was turned off.
+    public boolean drawSlice(int column, int row, long slice, int sliceLength, int areaWidth, boolean clip) {
+        this.markBitPlaneRowDirty(row);
+        return this.bitPlanes[0].xorSlice(row, column, slice, sliceLength, areaWidth, clip);
+    }
+
+    // Marks the image rows showing a row of the current bit planes
+    protected void markBitPlaneRowDirty(int row) {
+        int scale = this.imageHeight / this.bitPlanes[0].getHeight();
+        this.markRowsDirty(row * scale, (row + 1) * scale);
+    }
+
+    public int getPixel(int column, int row) {
+        int value = 0;
+        for (int i = 0; i < this.bitPlanes.length; i++) {
+            if (this.bitPlanes[i].get(column, row)) {
+                value |= 1 << i;
+            }
+        }
+        return value;
     }
 
     public void clear() {
-        for (int[] ints : this.bitplaneBuffer) {
-            Arrays.fill(ints, 0);
+        for (BitPlane bitPlane : this.bitPlanes) {
+            bitPlane.clear();
         }
+        this.markDirty();
+    }
+
+    public void populateRenderBuffer(int[] renderBuffer) {
+        this.populateRenderBuffer(renderBuffer, 0, this.imageHeight);
     }
 
-    public void populateRenderBuffer(int[][] renderBuffer) {
-        for (int y = 0; y < this.imageHeight; y++) {
-            for (int x = 0; x < this.imageWidth; x++) {
-                renderBuffer[x][y] = this.colorPalette.getColorARGB(this.bitplaneBuffer[x][y] & 0xF);
+    @Override
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
+        BitPlane bitPlane = this.bitPlanes[0];
+        int scale = this.imageWidth / bitPlane.getWidth();
+        this.renderBitPlanes(this.getRenderColors(), renderBuffer, 0, bitPlane.getWidth(), fromRow / scale, (toRow + scale - 1) / scale, scale);
+    }
+
+    // Colors of each color index when rendering the bit planes
+    protected int[] getRenderColors() {
+        return this.paletteColors;
+    }
+
+    // Writes the bit plane rows in [fromRow, toRow), up to the given width, into a row-major buffer with rows of imageWidth pixels
+    // starting at the given offset. Colors are looked up by color index, and every pixel is repeated scale times in both directions.
+    // The width must be a multiple of 64.
+    protected void renderBitPlanes(int[] colors, int[] renderBuffer, int offset, int width, int fromRow, int toRow, int scale) {
+        BitPlane[] bitPlanes = this.bitPlanes;
+        long[] words = this.renderWords;
+        int stride = this.imageWidth;
+        for (int row = fromRow; row < toRow; row++) {
+            int rowStart = offset + row * scale * stride;
+            int index = rowStart;
+            for (int word = 0; word < width >>> 6; word++) {
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = bitPlanes[i].getWord(row, word);
+                }
+                for (int bit = 63; bit >= 0; bit--) {
+                    int colorIndex = 0;
+                    for (int i = 0; i < words.length; i++) {
+                        colorIndex |= (int) ((words[i] >>> bit) & 1) << i;
+                    }
+                    int color = colors[colorIndex];
+                    for (int j = 0; j < scale; j++) {
+                        renderBuffer[index++] = color;
+                    }
+                }
             }
+            for (int j = 1; j < scale; j++) {
+                System.arraycopy(renderBuffer, rowStart, renderBuffer, rowStart + j * stride, width * scale);
+            }
+        }
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        this.saveBitPlanes(writer);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        this.loadBitPlanes(reader);
+        this.markDirty();
+    }
+
+    protected void saveBitPlanes(StateWriter writer) {
+        for (BitPlane bitPlane : this.bitPlanes) {
+            bitPlane.saveState(writer);
+        }
+    }
+
+    protected void loadBitPlanes(StateReader reader) {
+        for (BitPlane bitPlane : this.bitPlanes) {
+            bitPlane.loadState(reader);
         }
     }
 
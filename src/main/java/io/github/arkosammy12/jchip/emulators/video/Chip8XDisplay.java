@@ -1,6 +1,8 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.Chip8XEmulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class Chip8XDisplay<E extends Chip8XEmulator> extends Chip8Display<E> {
 
@@ -37,39 +39,51 @@ public class Chip8XDisplay<E extends Chip8XEmulator> extends Chip8Display<E> {
 
     public void cycleBackgroundColor() {
         this.backgroundColorIndex = (this.backgroundColorIndex + 1) % BACKGROUND_COLORS.length;
+        this.markDirty();
     }
 
     public void setForegroundColor(int column, int row, int colorIndex) {
         this.foregroundColorIndexes[column][row] = colorIndex;
+        this.markDirty();
     }
 
     public void setHiresColor(boolean hiresColor) {
         this.hiresColor = hiresColor;
+        this.markDirty();
     }
 
-    public void populateRenderBuffer(int[][] renderBuffer) {
-        if (this.hiresColor) {
-            for (int y = 0; y < this.imageHeight; y++) {
-                for (int x = 0; x < this.imageWidth; x++) {
-                    renderBuffer[x][y] = this.bitplaneBuffer[x][y] != 0 ? FOREGROUND_COLORS[this.foregroundColorIndexes[x][y]] : BACKGROUND_COLORS[this.backgroundColorIndex];
-                }
-            }
-        } else {
-            for (int i = 0; i < 8; i++) {
-                int zoneY = i * 4;
-                for (int j = 0; j < 8; j++) {
-                    int zoneX = j * 8;
-                    int zoneColorIndex = this.foregroundColorIndexes[zoneX][zoneY];
-                    for (int dy = 0; dy < 4; dy++) {
-                        int y = zoneY + dy;
-                        for (int dx = 0; dx < 8; dx++) {
-                            int x = zoneX + dx;
-                            renderBuffer[x][y] = this.bitplaneBuffer[x][y] != 0 ? FOREGROUND_COLORS[zoneColorIndex] : BACKGROUND_COLORS[this.backgroundColorIndex];
-                        }
-                    }
-                }
+    @Override
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
+        BitPlane bitPlane = this.bitPlanes[0];
+        int backgroundColor = BACKGROUND_COLORS[this.backgroundColorIndex];
+        for (int y = fromRow, index = fromRow * this.imageWidth; y < toRow; y++) {
+            // In lores color mode, every zone of 8x4 pixels takes the color of its top left pixel
+            int colorY = this.hiresColor ? y : y & ~3;
+            for (int x = 0; x < this.imageWidth; x++, index++) {
+                int colorX = this.hiresColor ? x : x & ~7;
+                renderBuffer[index] = bitPlane.get(x, y) ? FOREGROUND_COLORS[this.foregroundColorIndexes[colorX][colorY]] : backgroundColor;
             }
         }
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        for (int[] column : this.foregroundColorIndexes) {
+            writer.writeBytes(column);
+        }
+        writer.writeByte(this.backgroundColorIndex);
+        writer.writeBoolean(this.hiresColor);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        for (int[] column : this.foregroundColorIndexes) {
+            reader.readBytes(column);
+        }
+        this.backgroundColorIndex = reader.readByte();
+        this.hiresColor = reader.readBoolean();
+    }
+
 }
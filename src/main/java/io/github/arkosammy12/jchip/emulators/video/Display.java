@@ -1,30 +1,41 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateSerializable;
 import io.github.arkosammy12.jchip.ui.renderer.DisplayRenderer;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
+import java.util.Objects;
 
-public abstract class Display<E extends Emulator> implements Closeable {
+public abstract class Display<E extends Emulator> implements Closeable, StateSerializable {
 
     protected final E emulator;
+    @Nullable
     private final DisplayRenderer displayRenderer;
 
     private final DisplayAngle displayAngle;
     protected final int imageWidth;
     protected final int imageHeight;
 
+    private boolean presenting = true;
+
+    // Image rows in [dirtyRowStart, dirtyRowEnd) changed since the render buffer was last updated
+    private int dirtyRowStart;
+    private int dirtyRowEnd;
+
     public Display(E emulator) {
         this.emulator = emulator;
         this.displayAngle = emulator.getEmulatorSettings().getDisplayAngle();
         this.imageWidth = this.getImageWidth();
         this.imageHeight = this.getImageHeight();
-        this.displayRenderer = new DisplayRenderer(this, emulator.getKeyAdapters());
+        this.dirtyRowEnd = this.imageHeight;
+        this.displayRenderer = emulator.getEmulatorSettings().getHost().isHeadless() ? null : new DisplayRenderer(this, emulator.getKeyAdapters());
     }
 
     public DisplayRenderer getDisplayRenderer() {
-        return this.displayRenderer;
+        return Objects.requireNonNull(this.displayRenderer, "Display renderer is not available in headless mode!");
     }
 
     public DisplayAngle getDisplayAngle() {
@@ -39,15 +50,44 @@ public abstract class Display<E extends Emulator> implements Closeable {
 
     public abstract int getImageHeight();
 
-    public abstract void populateRenderBuffer(int[][] renderBuffer);
+    // Writes the ARGB colors of the current frame into a row-major buffer of getImageWidth() * getImageHeight() pixels,
+    // which matches the layout of the image raster so the buffer can be copied over in one go
+    public abstract void populateRenderBuffer(int[] renderBuffer);
+
+    // Only needs to write the image rows in [fromRow, toRow). Displays that can't render part of a frame write all of it.
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
+        this.populateRenderBuffer(renderBuffer);
+    }
+
+    protected void markDirty() {
+        this.dirtyRowStart = 0;
+        this.dirtyRowEnd = this.imageHeight;
+    }
+
+    protected void markRowsDirty(int fromRow, int toRow) {
+        this.dirtyRowStart = Math.min(this.dirtyRowStart, fromRow);
+        this.dirtyRowEnd = Math.max(this.dirtyRowEnd, toRow);
+    }
+
+    // Frames skipped while fast forwarding are never shown, so they don't need to be copied into the render buffer
+    public void setPresenting(boolean presenting) {
+        this.presenting = presenting;
+    }
 
+    // Hands the rows changed since the last flush to the renderer. Frames that changed nothing skip the render buffer entirely.
     public void flush() {
-        this.displayRenderer.updateRenderBuffer();
+        if (this.displayRenderer != null && this.presenting && this.dirtyRowStart < this.dirtyRowEnd) {
+            this.displayRenderer.updateRenderBuffer(this.dirtyRowStart, this.dirtyRowEnd);
+            this.dirtyRowStart = this.imageHeight;
+            this.dirtyRowEnd = 0;
+        }
     }
 
     @Override
     public void close() {
-        this.displayRenderer.close();
+        if (this.displayRenderer != null) {
+            this.displayRenderer.close();
+        }
     }
 
 }
@@ -1,6 +1,8 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.HyperWaveChip64Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import java.util.Arrays;
 
@@ -22,38 +24,46 @@ public class HyperWaveChip64Display<E extends HyperWaveChip64Emulator> extends X
 
     public void setPaletteEntry(int index, int value) {
         this.colorPalette[index] = FULL_OPAQUE_MASK | value;
+        this.markDirty();
     }
 
     @Override
-    public boolean flipPixelAtBitPlanes(int column, int row, int bitPlaneMask) {
-        boolean collision = (this.bitplaneBuffer[column][row] & bitPlaneMask) != 0;
-        switch (this.drawingMode) {
-            case OR -> this.bitplaneBuffer[column][row] |= bitPlaneMask;
-            case SUBTRACT -> this.bitplaneBuffer[column][row] &= ~bitPlaneMask;
-            case XOR -> this.bitplaneBuffer[column][row] ^= bitPlaneMask;
-        }
-        return collision;
+    public boolean drawSliceAtBitPlane(int bitPlane, int column, int row, long slice, int sliceLength, int areaWidth, boolean clip) {
+        BitPlane plane = this.bitPlanes[bitPlane];
+        this.markBitPlaneRowDirty(row);
+        return switch (this.drawingMode) {
+            case OR -> plane.orSlice(row, column, slice, sliceLength, areaWidth, clip);
+            case SUBTRACT -> plane.subtractSlice(row, column, slice, sliceLength, areaWidth, clip);
+            case XOR -> plane.xorSlice(row, column, slice, sliceLength, areaWidth, clip);
+        };
     }
 
     public void invert() {
-        for (int mask = BITPLANE_BASE_MASK; mask > 0; mask >>>= 1) {
-            if ((mask & this.getSelectedBitPlanes()) == 0) {
-                continue;
-            }
-            for (int i = 0; i < this.bitplaneBuffer.length; i++) {
-                for (int j = 0; j < this.bitplaneBuffer[i].length; j++) {
-                    this.bitplaneBuffer[i][j] ^= mask;
-                }
+        for (int i = 0; i < this.bitPlanes.length; i++) {
+            if ((this.getSelectedBitPlanes() & (1 << i)) != 0) {
+                this.bitPlanes[i].invert();
             }
         }
+        this.markDirty();
     }
 
-    public void populateRenderBuffer(int[][] renderBuffer) {
-        for (int y = 0; y < this.imageHeight; y++) {
-            for (int x = 0; x < this.imageWidth; x++) {
-                renderBuffer[x][y] = this.colorPalette[this.bitplaneBuffer[x][y] & 0xF];
-            }
-        }
+    @Override
+    protected int[] getRenderColors() {
+        return this.colorPalette;
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeInts(this.colorPalette);
+        writer.writeEnum(this.drawingMode);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        reader.readInts(this.colorPalette);
+        this.drawingMode = reader.readEnum(DrawingMode.class);
     }
 
     public enum DrawingMode {
@@ -0,0 +1,28 @@
+package io.github.arkosammy12.jchip.emulators.video;
+
+import org.tinylog.Logger;
+
+// Pixel kernels for the MEGA-CHIP framebuffers, which work on contiguous runs of pixels in the row-major buffers.
+// The Vector API implementation is only used when the jdk.incubator.vector module is enabled with --add-modules,
+// so that the emulator keeps working on runtimes launched without it. It is loaded by name, since it is the only class compiled with the module.
+interface MegaChipBlitter {
+
+    // Blends a run of sprite pixels, given as color indices, into the back buffer starting at offset.
+    // Index 0 is transparent. Returns true if a drawn pixel with a non-transparent color landed on the collision index.
+    boolean blendRow(int[] backBuffer, int[] indexBuffer, int offset, int[] spriteRow, int spriteOffset, int length, int[] colorPalette, MegaChipDisplay.BlendMode blendMode, int collisionIndex);
+
+    // Composites the first length pixels of the front buffer over the back buffer, if shown, over black, and fades the result by the screen alpha
+    void composite(int[] frontBuffer, int[] backBuffer, boolean showBackBuffer, int screenAlpha, int[] renderBuffer, int length);
+
+    static MegaChipBlitter create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (MegaChipBlitter) Class.forName("io.github.arkosammy12.jchip.emulators.video.VectorMegaChipBlitter").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Logger.warn("Failed to initialize vectorized MEGA-CHIP blitter, falling back to scalar blitter: {}", e);
+            }
+        }
+        return new ScalarMegaChipBlitter();
+    }
+
+}
@@ -1,12 +1,19 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.MegaChipEmulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+
+import java.util.Arrays;
 
 public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<E> {
 
-    private final int[][] backBuffer = new int[256][256];
-    private final int[][] indexBuffer = new int[256][256];
-    private final int[][] frontBuffer = new int[256][256];
+    private static final MegaChipBlitter BLITTER = MegaChipBlitter.create();
+
+    // Row-major buffers covering the full 256x256 addressable area
+    private final int[] backBuffer = new int[256 * 256];
+    private final int[] indexBuffer = new int[256 * 256];
+    private final int[] frontBuffer = new int[256 * 256];
     private final int[] colorPalette = new int[256];
     private int spriteWidth = 0;
     private int spriteHeight = 0;
@@ -92,7 +99,7 @@ public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<
     }
 
     public int getColorIndexAt(int column, int row) {
-        return this.indexBuffer[column][row];
+        return this.indexBuffer[(row << 8) | column];
     }
 
     public void setDisplayUpdateScrollTriggered() {
@@ -105,41 +112,35 @@ public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<
             super.setPixel(column, row, val);
             return;
         }
-        this.backBuffer[column][row] = switch (this.blendMode) {
-            case BLEND_NORMAL -> this.colorPalette[val];
-            case BLEND_25 -> blendAlpha(this.colorPalette[val], this.backBuffer[column][row], 64);
-            case BLEND_50 -> blendAlpha(this.colorPalette[val], this.backBuffer[column][row], 128);
-            case BLEND_75 -> blendAlpha(this.colorPalette[val], this.backBuffer[column][row], 192);
-            case BLEND_ADD -> addColors(this.colorPalette[val], this.backBuffer[column][row]);
-            case BLEND_MULTIPLY -> multiplyColors(this.colorPalette[val], this.backBuffer[column][row]);
-        };
-        this.indexBuffer[column][row] = val;
+        int index = (row << 8) | column;
+        this.backBuffer[index] = ScalarMegaChipBlitter.blend(this.blendMode, this.colorPalette[val], this.backBuffer[index]);
+        this.indexBuffer[index] = val;
+    }
+
+    // Draws one row of a sprite, given as color indices, starting at the given column. Pixels past the right edge of the
+    // area are dropped when clipping and wrapped around to column 0 otherwise. Returns true if the row caused a collision.
+    public boolean drawSpriteRow(int column, int row, int[] spriteRow, int length, int areaWidth, boolean clip) {
+        int rowStart = row << 8;
+        int visibleLength = Math.min(length, areaWidth - column);
+        boolean collided = BLITTER.blendRow(this.backBuffer, this.indexBuffer, rowStart + column, spriteRow, 0, visibleLength, this.colorPalette, this.blendMode, this.collisionIndex);
+        if (!clip && visibleLength < length) {
+            collided |= BLITTER.blendRow(this.backBuffer, this.indexBuffer, rowStart, spriteRow, visibleLength, length - visibleLength, this.colorPalette, this.blendMode, this.collisionIndex);
+        }
+        return collided;
     }
 
     public void drawFontPixel(int column, int row) {
         // Use hardcoded opaque white for drawing font pixels, and set the index buffer to 255
-        this.backBuffer[column][row] = 0xFFFFFFFF;
-        this.indexBuffer[column][row] = 255;
+        int index = (row << 8) | column;
+        this.backBuffer[index] = 0xFFFFFFFF;
+        this.indexBuffer[index] = 255;
     }
 
     public void scrollUp(int scrollAmount) {
-        for (int i = 0; i < this.imageHeight; i++) {
-            int shiftedVerticalPosition = i - scrollAmount;
-            if (shiftedVerticalPosition < 0) {
-                continue;
-            }
-            for (int j = 0; j < this.imageWidth; j++) {
-                this.frontBuffer[j][shiftedVerticalPosition] = this.frontBuffer[j][i];
-            }
-        }
-        for (int y = this.imageHeight - scrollAmount; y < this.imageHeight; y++) {
-            if (y < 0) {
-                continue;
-            }
-            for (int x = 0; x < this.imageWidth; x++) {
-                this.frontBuffer[x][y] = 0x000000;
-            }
-        }
+        int shift = Math.min(scrollAmount, this.imageHeight) * this.imageWidth;
+        int end = this.imageHeight * this.imageWidth;
+        System.arraycopy(this.frontBuffer, shift, this.frontBuffer, 0, end - shift);
+        Arrays.fill(this.frontBuffer, end - shift, end, 0x00000000);
     }
 
     public void scrollDown(int scrollAmount) {
@@ -147,22 +148,10 @@ public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<
             super.scrollDown(scrollAmount);
             return;
         }
-
-        for (int i = this.imageHeight - 1; i >= 0; i--) {
-            int shiftedVerticalPosition = scrollAmount + i;
-            if (shiftedVerticalPosition >= this.imageHeight) {
-                continue;
-            }
-            for (int j = 0; j < this.imageWidth; j++) {
-                this.frontBuffer[j][shiftedVerticalPosition] = this.frontBuffer[j][i];
-            }
-        }
-        for (int y = 0; y < scrollAmount && y < this.imageHeight; y++) {
-            for (int x = 0; x < this.imageWidth; x++) {
-                this.frontBuffer[x][y] = 0x00000000;
-            }
-        }
-
+        int shift = Math.min(scrollAmount, this.imageHeight) * this.imageWidth;
+        int end = this.imageHeight * this.imageWidth;
+        System.arraycopy(this.frontBuffer, 0, this.frontBuffer, shift, end - shift);
+        Arrays.fill(this.frontBuffer, 0, shift, 0x00000000);
     }
 
     public void scrollRight() {
@@ -170,98 +159,46 @@ public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<
             super.scrollRight();
             return;
         }
-
-        for (int i = this.imageWidth - 1; i >= 0; i--) {
-            int shiftedHorizontalPosition = i + 4;
-            if (shiftedHorizontalPosition >= this.imageWidth) {
-                continue;
-            }
-            if (this.imageHeight >= 0) {
-                System.arraycopy(this.frontBuffer[i], 0, this.frontBuffer[shiftedHorizontalPosition], 0, this.imageHeight);
-            }
-        }
-        for (int x = 0; x < 4 && x < this.imageWidth; x++) {
-            for (int y = 0; y < this.imageHeight; y++) {
-                this.frontBuffer[x][y] = 0x00000000;
-            }
+        for (int rowStart = 0; rowStart < this.imageHeight * this.imageWidth; rowStart += this.imageWidth) {
+            System.arraycopy(this.frontBuffer, rowStart, this.frontBuffer, rowStart + 4, this.imageWidth - 4);
+            Arrays.fill(this.frontBuffer, rowStart, rowStart + 4, 0x00000000);
         }
     }
 
-    @SuppressWarnings("DuplicatedCode")
     public void scrollLeft() {
         if (!this.emulator.getProcessor().isMegaModeOn()) {
             super.scrollLeft();
             return;
         }
-
-        for (int i = 0; i < this.imageWidth; i++) {
-            int shiftedHorizontalPosition = i - 4;
-            if (shiftedHorizontalPosition < 0) {
-                continue;
-            }
-            if (this.imageHeight >= 0) {
-                System.arraycopy(this.frontBuffer[i], 0, this.frontBuffer[shiftedHorizontalPosition], 0, this.imageHeight);
-            }
-        }
-        for (int x = this.imageWidth - 4; x < this.imageWidth; x++) {
-            if (x < 0) {
-                continue;
-            }
-            for (int y = 0; y < this.imageHeight; y++) {
-                this.frontBuffer[x][y] = 0x00000000;
-            }
+        for (int rowStart = 0; rowStart < this.imageHeight * this.imageWidth; rowStart += this.imageWidth) {
+            System.arraycopy(this.frontBuffer, rowStart + 4, this.frontBuffer, rowStart, this.imageWidth - 4);
+            Arrays.fill(this.frontBuffer, rowStart + this.imageWidth - 4, rowStart + this.imageWidth, 0x00000000);
         }
-
     }
 
     public void flushBackBuffer() {
         this.scrollTriggered = false;
-        for (int i = 0; i < this.backBuffer.length; i++) {
-            System.arraycopy(this.backBuffer[i], 0, this.frontBuffer[i], 0, this.backBuffer[i].length);
-        }
+        System.arraycopy(this.backBuffer, 0, this.frontBuffer, 0, this.backBuffer.length);
+    }
+
+    // MEGA-CHIP frames are composited from the back and front buffers as a whole, so every frame is treated as changed
+    @Override
+    public void flush() {
+        this.markDirty();
+        super.flush();
     }
 
-    public void populateRenderBuffer(int[][] renderBuffer) {
+    @Override
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
         if (this.emulator.getProcessor().isMegaModeOn()) {
-            for (int y = 0; y < imageHeight; y++) {
-                for (int x = 0; x < imageWidth; x++) {
-                    int pixel = 0xFF000000;
-                    if (scrollTriggered) {
-                        int back = this.backBuffer[x][y];
-                        if ((back & 0xFF000000) != 0) {
-                            pixel = back;
-                        }
-                    }
-                    int front = this.frontBuffer[x][y];
-                    if ((front & 0xFF000000) != 0) {
-                        pixel = front;
-                    }
-                    renderBuffer[x][y] = blendAlpha(pixel, 0xFF000000, this.screenAlpha);
-                }
-            }
+            BLITTER.composite(this.frontBuffer, this.backBuffer, this.scrollTriggered, this.screenAlpha, renderBuffer, this.imageHeight * this.imageWidth);
         } else {
-            for (int y = 0; y < imageHeight; y++) {
-                for (int x = 0; x < imageWidth; x++) {
-                    renderBuffer[x][y] = 0xFF000000;
-                }
-            }
+            Arrays.fill(renderBuffer, 0, this.imageHeight * this.imageWidth, 0xFF000000);
+            // The 128x64 SCHIP framebuffer is shown at twice its size, centered vertically
             int displayWidth = super.getImageWidth();
             int displayHeight = super.getImageHeight();
-            int xScale = 2;
-            int yScale = 2;
-            int yOffset = (this.imageHeight - displayHeight * yScale) / 2;
-            for (int sy = 0; sy < displayHeight; sy++) {
-                int baseY = yOffset + sy * yScale;
-                for (int sx = 0; sx < displayWidth; sx++) {
-                    int color = super.colorPalette.getColorARGB(this.bitplaneBuffer[sx][sy] & 0xF);
-                    int baseX = sx * xScale;
-                    for (int dy = 0; dy < yScale; dy++) {
-                        for (int dx = 0; dx < xScale; dx++) {
-                            renderBuffer[baseX + dx][baseY + dy] = color;
-                        }
-                    }
-                }
-            }
+            int yOffset = (this.imageHeight - displayHeight * 2) / 2;
+            this.renderBitPlanes(this.paletteColors, renderBuffer, yOffset * this.imageWidth, displayWidth, 0, displayHeight, 2);
         }
     }
 
@@ -271,37 +208,38 @@ public class MegaChipDisplay<E extends MegaChipEmulator> extends SChip11Display<
             super.clear();
             return;
         }
-        for (int i = 0; i < this.backBuffer.length; i++) {
-            for (int j = 0; j < this.backBuffer[i].length; j++) {
-                this.backBuffer[i][j] = colorPalette[0];
-                this.indexBuffer[i][j] = 0;
-            }
-        }
-    }
-
-    @SuppressWarnings("DuplicatedCode")
-    private static int blendAlpha(int src, int dst, int alpha) {
-        int invAlpha = 255 - alpha;
-        return 0xFF000000 |
-                (((((src >>> 16) & 0xFF) * alpha + ((dst >>> 16) & 0xFF) * invAlpha) / 255) << 16) |
-                (((((src >>> 8) & 0xFF) * alpha + ((dst >>> 8) & 0xFF) * invAlpha) / 255) << 8) |
-                (((src & 0xFF) * alpha + (dst & 0xFF) * invAlpha) / 255);
+        Arrays.fill(this.backBuffer, this.colorPalette[0]);
+        Arrays.fill(this.indexBuffer, 0);
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    private static int addColors(int src, int dst) {
-        return 0xFF000000 |
-                ((Math.min(((src >>> 16) & 0xFF) + ((dst >>> 16) & 0xFF), 255)) << 16) |
-                ((Math.min(((src >>> 8) & 0xFF) + ((dst >>> 8) & 0xFF), 255)) << 8) |
-                Math.min((src & 0xFF) + (dst & 0xFF), 255);
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeInts(this.backBuffer);
+        writer.writeBytes(this.indexBuffer);
+        writer.writeInts(this.frontBuffer);
+        writer.writeInts(this.colorPalette);
+        writer.writeInt(this.spriteWidth);
+        writer.writeInt(this.spriteHeight);
+        writer.writeByte(this.screenAlpha);
+        writer.writeByte(this.collisionIndex);
+        writer.writeEnum(this.blendMode);
+        writer.writeBoolean(this.scrollTriggered);
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    private static int multiplyColors(int src, int dst) {
-        return 0xFF000000 |
-                (((((src >>> 16) & 0xFF) * ((dst >>> 16) & 0xFF)) / 255) << 16) |
-                (((((src >>> 8) & 0xFF) * ((dst >>> 8) & 0xFF)) / 255) << 8) |
-                (((src & 0xFF) * (dst & 0xFF)) / 255);
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        reader.readInts(this.backBuffer);
+        reader.readBytes(this.indexBuffer);
+        reader.readInts(this.frontBuffer);
+        reader.readInts(this.colorPalette);
+        this.spriteWidth = reader.readInt();
+        this.spriteHeight = reader.readInt();
+        this.screenAlpha = reader.readByte();
+        this.collisionIndex = reader.readByte();
+        this.blendMode = reader.readEnum(BlendMode.class);
+        this.scrollTriggered = reader.readBoolean();
     }
 
     public enum BlendMode {
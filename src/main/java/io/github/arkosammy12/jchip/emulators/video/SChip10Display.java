@@ -1,6 +1,8 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.SChip10Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 public class SChip10Display<E extends SChip10Emulator> extends Chip8Display<E> {
 
@@ -39,11 +41,30 @@ public class SChip10Display<E extends SChip10Emulator> extends Chip8Display<E> {
     }
 
     public void setPixel(int column, int row, int value) {
-        this.bitplaneBuffer[column][row] = value;
+        for (int i = 0; i < this.bitPlanes.length; i++) {
+            this.bitPlanes[i].set(column, row, (value & (1 << i)) != 0);
+        }
+        this.markBitPlaneRowDirty(row);
     }
 
-    public int getPixel(int column, int row) {
-        return this.bitplaneBuffer[column][row];
+    // Copies the pixels in [fromColumn, toColumn) of one row into another
+    public void copyRowRange(int sourceRow, int destinationRow, int fromColumn, int toColumn) {
+        for (BitPlane bitPlane : this.bitPlanes) {
+            bitPlane.copyRowRange(sourceRow, destinationRow, fromColumn, toColumn);
+        }
+        this.markBitPlaneRowDirty(destinationRow);
+    }
+
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeBoolean(this.hiresMode);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.hiresMode = reader.readBoolean();
     }
 
 }
@@ -1,73 +1,69 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.SChipModernEmulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
+// Lores mode draws into its own 64x32 bit planes, which are only scaled up to the 128x64 image when read for rendering.
+// Sprites and scrolls therefore always work in the coordinates of the current resolution.
 public class SChipModernDisplay<E extends SChipModernEmulator> extends SChip11Display<E> {
 
+    private final BitPlane[] hiresBitPlanes;
+    private final BitPlane[] loresBitPlanes;
+
     public SChipModernDisplay(E emulator) {
         super(emulator);
+        this.hiresBitPlanes = this.bitPlanes;
+        this.loresBitPlanes = this.createBitPlanes(64, 32);
+        this.bitPlanes = this.loresBitPlanes;
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    public void scrollDown(int scrollAmount) {
-        if (!this.hiresMode) {
-            scrollAmount *= 2;
+    @Override
+    public void setHiresMode(boolean hiresMode) {
+        if (hiresMode == this.hiresMode) {
+            return;
         }
-        for (int i = this.imageHeight - 1; i >= 0; i--) {
-            int shiftedVerticalPosition = scrollAmount + i;
-            if (shiftedVerticalPosition >= this.imageHeight) {
-                continue;
-            }
-            for (int j = 0; j < this.imageWidth; j++) {
-                this.bitplaneBuffer[j][shiftedVerticalPosition] = this.bitplaneBuffer[j][i];
-            }
+        super.setHiresMode(hiresMode);
+        BitPlane[] previousBitPlanes = this.bitPlanes;
+        this.bitPlanes = hiresMode ? this.hiresBitPlanes : this.loresBitPlanes;
+        for (int i = 0; i < this.bitPlanes.length; i++) {
+            this.bitPlanes[i].resampleFrom(previousBitPlanes[i]);
         }
-        for (int y = 0; y < scrollAmount && y < this.imageHeight; y++) {
-            for (int x = 0; x < this.imageWidth; x++) {
-                this.bitplaneBuffer[x][y] = 0;
-            }
+        this.markDirty();
+    }
+
+    @Override
+    public int getPixel(int column, int row) {
+        if (this.hiresMode) {
+            return super.getPixel(column, row);
+        } else {
+            return super.getPixel(column >>> 1, row >>> 1);
         }
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    public void scrollRight() {
-        int scrollAmount = this.hiresMode ? 4 : 8;
-        for (int i = this.imageWidth - 1; i >= 0; i--) {
-            int shiftedHorizontalPosition = i + scrollAmount;
-            if (shiftedHorizontalPosition >= this.imageWidth) {
-                continue;
-            }
-            if (this.imageHeight >= 0) {
-                System.arraycopy(this.bitplaneBuffer[i], 0, this.bitplaneBuffer[shiftedHorizontalPosition], 0, this.imageHeight);
-            }
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        this.bitPlanes = this.hiresMode ? this.hiresBitPlanes : this.loresBitPlanes;
+    }
+
+    @Override
+    protected void saveBitPlanes(StateWriter writer) {
+        for (BitPlane bitPlane : this.hiresBitPlanes) {
+            bitPlane.saveState(writer);
         }
-        for (int x = 0; x < scrollAmount && x < this.imageWidth; x++) {
-            for (int y = 0; y < this.imageHeight; y++) {
-                this.bitplaneBuffer[x][y] = 0;
-            }
+        for (BitPlane bitPlane : this.loresBitPlanes) {
+            bitPlane.saveState(writer);
         }
-
     }
 
-    @SuppressWarnings("DuplicatedCode")
-    public void scrollLeft() {
-        int scrollAmount = this.hiresMode ? 4 : 8;
-        for (int i = 0; i < this.imageWidth; i++) {
-            int shiftedHorizontalPosition = i - scrollAmount;
-            if (shiftedHorizontalPosition < 0) {
-                continue;
-            }
-            if (this.imageHeight >= 0) {
-                System.arraycopy(this.bitplaneBuffer[i], 0, this.bitplaneBuffer[shiftedHorizontalPosition], 0, this.imageHeight);
-            }
+    @Override
+    protected void loadBitPlanes(StateReader reader) {
+        for (BitPlane bitPlane : this.hiresBitPlanes) {
+            bitPlane.loadState(reader);
         }
-        for (int x = this.imageWidth - scrollAmount; x < this.imageWidth; x++) {
-            if (x < 0) {
-                continue;
-            }
-            for (int y = 0; y < this.imageHeight; y++) {
-                this.bitplaneBuffer[x][y] = 0;
-            }
+        for (BitPlane bitPlane : this.loresBitPlanes) {
+            bitPlane.loadState(reader);
         }
     }
 
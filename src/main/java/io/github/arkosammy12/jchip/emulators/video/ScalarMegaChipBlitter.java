@@ -0,0 +1,78 @@
+package io.github.arkosammy12.jchip.emulators.video;
+
+final class ScalarMegaChipBlitter implements MegaChipBlitter {
+
+    @Override
+    public boolean blendRow(int[] backBuffer, int[] indexBuffer, int offset, int[] spriteRow, int spriteOffset, int length, int[] colorPalette, MegaChipDisplay.BlendMode blendMode, int collisionIndex) {
+        boolean collided = false;
+        for (int i = 0; i < length; i++) {
+            int colorIndex = spriteRow[spriteOffset + i];
+            if (colorIndex == 0) {
+                continue;
+            }
+            int index = offset + i;
+            int color = colorPalette[colorIndex];
+            if (indexBuffer[index] == collisionIndex && color != 0) {
+                collided = true;
+            }
+            backBuffer[index] = blend(blendMode, color, backBuffer[index]);
+            indexBuffer[index] = colorIndex;
+        }
+        return collided;
+    }
+
+    @Override
+    public void composite(int[] frontBuffer, int[] backBuffer, boolean showBackBuffer, int screenAlpha, int[] renderBuffer, int length) {
+        for (int i = 0; i < length; i++) {
+            int pixel = 0xFF000000;
+            if (showBackBuffer) {
+                int back = backBuffer[i];
+                if ((back & 0xFF000000) != 0) {
+                    pixel = back;
+                }
+            }
+            int front = frontBuffer[i];
+            if ((front & 0xFF000000) != 0) {
+                pixel = front;
+            }
+            renderBuffer[i] = blendAlpha(pixel, 0xFF000000, screenAlpha);
+        }
+    }
+
+    static int blend(MegaChipDisplay.BlendMode blendMode, int src, int dst) {
+        return switch (blendMode) {
+            case BLEND_NORMAL -> src;
+            case BLEND_25 -> blendAlpha(src, dst, 64);
+            case BLEND_50 -> blendAlpha(src, dst, 128);
+            case BLEND_75 -> blendAlpha(src, dst, 192);
+            case BLEND_ADD -> addColors(src, dst);
+            case BLEND_MULTIPLY -> multiplyColors(src, dst);
+        };
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    static int blendAlpha(int src, int dst, int alpha) {
+        int invAlpha = 255 - alpha;
+        return 0xFF000000 |
+                (((((src >>> 16) & 0xFF) * alpha + ((dst >>> 16) & 0xFF) * invAlpha) / 255) << 16) |
+                (((((src >>> 8) & 0xFF) * alpha + ((dst >>> 8) & 0xFF) * invAlpha) / 255) << 8) |
+                (((src & 0xFF) * alpha + (dst & 0xFF) * invAlpha) / 255);
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    static int addColors(int src, int dst) {
+        return 0xFF000000 |
+                ((Math.min(((src >>> 16) & 0xFF) + ((dst >>> 16) & 0xFF), 255)) << 16) |
+                ((Math.min(((src >>> 8) & 0xFF) + ((dst >>> 8) & 0xFF), 255)) << 8) |
+                Math.min((src & 0xFF) + (dst & 0xFF), 255);
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    static int multiplyColors(int src, int dst) {
+        return 0xFF000000 |
+                (((((src >>> 16) & 0xFF) * ((dst >>> 16) & 0xFF)) / 255) << 16) |
+                (((((src >>> 8) & 0xFF) * ((dst >>> 8) & 0xFF)) / 255) << 8) |
+                (((src & 0xFF) * (dst & 0xFF)) / 255);
+    }
+
+}
@@ -16,6 +16,24 @@ public final class StrictChip8Display extends Chip8Display<StrictChip8Emulator>
         return !bus.getDisplayPixel(column, row);
     }
 
+    @Override
+    public boolean drawSlice(int column, int row, long slice, int sliceLength, int areaWidth, boolean clip) {
+        boolean collided = false;
+        for (int i = 0; i < sliceLength; i++) {
+            int sliceX = column + i;
+            if (sliceX >= areaWidth) {
+                if (clip) {
+                    break;
+                }
+                sliceX %= areaWidth;
+            }
+            if ((slice & (1L << (sliceLength - 1 - i))) != 0) {
+                collided |= this.flipPixel(sliceX, row);
+            }
+        }
+        return collided;
+    }
+
     @Override
     public void clear() {
         StrictChip8Bus bus = this.emulator.getBus();
@@ -24,11 +42,21 @@ public final class StrictChip8Display extends Chip8Display<StrictChip8Emulator>
         }
     }
 
-    public void populateRenderBuffer(int[][] renderBuffer) {
+    // The framebuffer lives in bus memory where programs can write to it directly, so every frame is treated as changed
+    @Override
+    public void flush() {
+        this.markDirty();
+        super.flush();
+    }
+
+    @Override
+    public void populateRenderBuffer(int[] renderBuffer, int fromRow, int toRow) {
         StrictChip8Bus bus = this.emulator.getBus();
-        for (int y = 0; y < this.imageHeight; y++) {
-            for (int x = 0; x < this.imageWidth; x++) {
-                renderBuffer[x][y] = this.colorPalette.getColorARGB(bus.getDisplayPixel(x, y) ? 1 : 0);
+        int background = this.paletteColors[0];
+        int foreground = this.paletteColors[1];
+        for (int y = fromRow, index = fromRow * this.imageWidth; y < toRow; y++) {
+            for (int x = 0; x < this.imageWidth; x++, index++) {
+                renderBuffer[index] = bus.getDisplayPixel(x, y) ? foreground : background;
             }
         }
     }
@@ -1,6 +1,8 @@
 package io.github.arkosammy12.jchip.emulators.video;
 
 import io.github.arkosammy12.jchip.emulators.CosmacVipEmulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
 
 import java.util.Arrays;
 
@@ -21,9 +23,7 @@ public class VP590<E extends CosmacVipEmulator> extends CDP1861<E> {
     public VP590(E emulator) {
         super(emulator);
         Arrays.fill(this.colorRam, 0xF0);
-        for (int[] ints : this.displayBuffer) {
-            Arrays.fill(ints, 0xFF000000);
-        }
+        Arrays.fill(this.displayBuffer, 0xFF000000);
     }
 
     public void writeColorRam(int address, int value) {
@@ -66,6 +66,8 @@ public class VP590<E extends CosmacVipEmulator> extends CDP1861<E> {
         }
         int dmaIndex = (int) ((this.cycles % MACHINE_CYCLES_PER_SCANLINE) - DMAO_BEGIN);
         int colStart = dmaIndex * 8;
+        int rowStart = row * this.getWidth();
+        boolean changed = false;
         int color = 0xFF000000;
         int backgroundColor;
         if (this.colorRamModified) {
@@ -89,8 +91,31 @@ public class VP590<E extends CosmacVipEmulator> extends CDP1861<E> {
             if (col < 0 || col >= this.getWidth()) {
                 break;
             }
-            this.displayBuffer[col][row] = (value & mask) != 0 ? color : backgroundColor;
+            int pixelColor = (value & mask) != 0 ? color : backgroundColor;
+            changed |= this.displayBuffer[rowStart + col] != pixelColor;
+            this.displayBuffer[rowStart + col] = pixelColor;
+        }
+        if (changed) {
+            this.markRowsDirty(row, row + 1);
         }
     }
 
+    @Override
+    public void saveState(StateWriter writer) {
+        super.saveState(writer);
+        writer.writeBytes(this.colorRam);
+        writer.writeByte(this.backgroundColorIndex);
+        writer.writeBoolean(this.hiresColor);
+        writer.writeBoolean(this.colorRamModified);
+    }
+
+    @Override
+    public void loadState(StateReader reader) {
+        super.loadState(reader);
+        reader.readBytes(this.colorRam);
+        this.backgroundColorIndex = reader.readByte();
+        this.hiresColor = reader.readBoolean();
+        this.colorRamModified = reader.readBoolean();
+    }
+
 }
@@ -0,0 +1,114 @@
+package io.github.arkosammy12.jchip.emulators.video;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Processes as many pixels at once as the preferred vector width allows, with the channels of every pixel split into their own lanes
+// for the blending math. Pixels left over at the end of a run go through the scalar blitter.
+final class VectorMegaChipBlitter implements MegaChipBlitter {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int OPAQUE = 0xFF000000;
+
+    private final ScalarMegaChipBlitter scalarBlitter = new ScalarMegaChipBlitter();
+
+    @Override
+    public boolean blendRow(int[] backBuffer, int[] indexBuffer, int offset, int[] spriteRow, int spriteOffset, int length, int[] colorPalette, MegaChipDisplay.BlendMode blendMode, int collisionIndex) {
+        boolean collided = false;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            IntVector colorIndices = IntVector.fromArray(SPECIES, spriteRow, spriteOffset + i);
+            VectorMask<Integer> drawn = colorIndices.compare(VectorOperators.NE, 0);
+            if (!drawn.anyTrue()) {
+                continue;
+            }
+            IntVector src = IntVector.fromArray(SPECIES, colorPalette, 0, spriteRow, spriteOffset + i);
+            IntVector dst = IntVector.fromArray(SPECIES, backBuffer, offset + i);
+            IntVector previousIndices = IntVector.fromArray(SPECIES, indexBuffer, offset + i);
+            collided |= drawn.and(previousIndices.compare(VectorOperators.EQ, collisionIndex)).and(src.compare(VectorOperators.NE, 0)).anyTrue();
+            blend(blendMode, src, dst).intoArray(backBuffer, offset + i, drawn);
+            colorIndices.intoArray(indexBuffer, offset + i, drawn);
+        }
+        if (i < length) {
+            collided |= this.scalarBlitter.blendRow(backBuffer, indexBuffer, offset + i, spriteRow, spriteOffset + i, length - i, colorPalette, blendMode, collisionIndex);
+        }
+        return collided;
+    }
+
+    @Override
+    public void composite(int[] frontBuffer, int[] backBuffer, boolean showBackBuffer, int screenAlpha, int[] renderBuffer, int length) {
+        IntVector black = IntVector.broadcast(SPECIES, OPAQUE);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            IntVector pixel = black;
+            if (showBackBuffer) {
+                IntVector back = IntVector.fromArray(SPECIES, backBuffer, i);
+                pixel = pixel.blend(back, back.and(OPAQUE).compare(VectorOperators.NE, 0));
+            }
+            IntVector front = IntVector.fromArray(SPECIES, frontBuffer, i);
+            pixel = pixel.blend(front, front.and(OPAQUE).compare(VectorOperators.NE, 0));
+            // Fading over black at full alpha only makes the pixel opaque
+            IntVector faded = screenAlpha == 0xFF ? pixel.or(OPAQUE) : blendAlpha(pixel, black, screenAlpha);
+            faded.intoArray(renderBuffer, i);
+        }
+        for (; i < length; i++) {
+            int pixel = OPAQUE;
+            if (showBackBuffer && (backBuffer[i] & OPAQUE) != 0) {
+                pixel = backBuffer[i];
+            }
+            if ((frontBuffer[i] & OPAQUE) != 0) {
+                pixel = frontBuffer[i];
+            }
+            renderBuffer[i] = ScalarMegaChipBlitter.blendAlpha(pixel, OPAQUE, screenAlpha);
+        }
+    }
+
+    private static IntVector blend(MegaChipDisplay.BlendMode blendMode, IntVector src, IntVector dst) {
+        return switch (blendMode) {
+            case BLEND_NORMAL -> src;
+            case BLEND_25 -> blendAlpha(src, dst, 64);
+            case BLEND_50 -> blendAlpha(src, dst, 128);
+            case BLEND_75 -> blendAlpha(src, dst, 192);
+            case BLEND_ADD -> addColors(src, dst);
+            case BLEND_MULTIPLY -> multiplyColors(src, dst);
+        };
+    }
+
+    private static IntVector blendAlpha(IntVector src, IntVector dst, int alpha) {
+        int invAlpha = 255 - alpha;
+        IntVector red = divideBy255(channel(src, 16).mul(alpha).add(channel(dst, 16).mul(invAlpha)));
+        IntVector green = divideBy255(channel(src, 8).mul(alpha).add(channel(dst, 8).mul(invAlpha)));
+        IntVector blue = divideBy255(channel(src, 0).mul(alpha).add(channel(dst, 0).mul(invAlpha)));
+        return pack(red, green, blue);
+    }
+
+    private static IntVector addColors(IntVector src, IntVector dst) {
+        IntVector red = channel(src, 16).add(channel(dst, 16)).min(255);
+        IntVector green = channel(src, 8).add(channel(dst, 8)).min(255);
+        IntVector blue = channel(src, 0).add(channel(dst, 0)).min(255);
+        return pack(red, green, blue);
+    }
+
+    private static IntVector multiplyColors(IntVector src, IntVector dst) {
+        IntVector red = divideBy255(channel(src, 16).mul(channel(dst, 16)));
+        IntVector green = divideBy255(channel(src, 8).mul(channel(dst, 8)));
+        IntVector blue = divideBy255(channel(src, 0).mul(channel(dst, 0)));
+        return pack(red, green, blue);
+    }
+
+    private static IntVector channel(IntVector color, int shift) {
+        return color.lanewise(VectorOperators.LSHR, shift).and(0xFF);
+    }
+
+    private static IntVector pack(IntVector red, IntVector green, IntVector blue) {
+        return red.lanewise(VectorOperators.LSHL, 16).or(green.lanewise(VectorOperators.LSHL, 8)).or(blue).or(OPAQUE);
+    }
+
+    // Same result as integer division by 255 for every value from 0 to 255 * 255, without a lane-wise division
+    private static IntVector divideBy255(IntVector value) {
+        return value.add(value.lanewise(VectorOperators.LSHR, 8)).add(1).lanewise(VectorOperators.LSHR, 8);
+    }
+
+}
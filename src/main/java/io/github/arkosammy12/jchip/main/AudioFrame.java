@@ -0,0 +1,17 @@
+package io.github.arkosammy12.jchip.main;
+
+// A frame's worth of sample slots borrowed from an audio renderer. Sound systems write their samples straight into it,
+// and nothing written becomes audible until the frame is committed.
+public interface AudioFrame {
+
+    int getSampleCount();
+
+    // Writes a signed 8-bit sample, which is scaled up to 16 bits
+    void setSample8(int index, int sample);
+
+    // Writes a signed 16-bit sample
+    void setSample16(int index, int sample);
+
+    void commit();
+
+}
@@ -2,9 +2,12 @@ package io.github.arkosammy12.jchip.main;
 
 public interface AudioRenderer {
 
-    void pushSamples8(byte[] samples);
+    // Bounds for how many frames worth of samples are kept queued on the audio device
+    int DEFAULT_TARGET_FRAME_LATENCY = 3;
+    int MAX_TARGET_FRAME_LATENCY = 8;
 
-    void pushSamples16(short[] samples);
+    // Borrows the slots for the current frame's samples. The frame must be committed before the next one is borrowed.
+    AudioFrame borrowFrame();
 
     void setVolume(int volume);
 
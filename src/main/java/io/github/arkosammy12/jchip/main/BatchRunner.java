@@ -0,0 +1,372 @@
+package io.github.arkosammy12.jchip.main;
+
+import io.github.arkosammy12.jchip.config.BatchArgs;
+import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
+import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import io.github.arkosammy12.jchip.exceptions.InvalidInstructionException;
+import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.jetbrains.annotations.Nullable;
+import org.tinylog.Logger;
+import picocli.CommandLine;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+// Runs every ROM in a directory against a matrix of variants and quirk combinations. Each (ROM, configuration) pair
+// gets its own emulator instance and host, so runs only share the read-only ROM database and can be spread across
+// a fork-join pool.
+final class BatchRunner {
+
+    private static final String REPORT_HEADER = "rom\tvariant\tconfiguration\tstatus\tframes\tinstructions\tframebuffer_hash\tmips\tmessage";
+
+    private final BatchArgs batchArgs;
+    private final Chip8Database database = new Chip8Database();
+
+    private BatchRunner(BatchArgs batchArgs) {
+        this.batchArgs = batchArgs;
+    }
+
+    static int execute(String[] args) {
+        BatchArgs batchArgs = new BatchArgs();
+        CommandLine cli = new CommandLine(batchArgs);
+        try {
+            CommandLine.ParseResult parseResult = cli.parseArgs(args);
+            Integer executeHelpResult = CommandLine.executeHelpRequest(parseResult);
+            if (executeHelpResult != null) {
+                return executeHelpResult;
+            }
+        } catch (CommandLine.ParameterException e) {
+            cli.getErr().println(e.getMessage());
+            cli.usage(cli.getErr());
+            return cli.getCommandSpec().exitCodeOnInvalidInput();
+        }
+        try {
+            return new BatchRunner(batchArgs).run();
+        } catch (Exception e) {
+            Logger.error("Batch run failed: {}", e);
+            return 1;
+        }
+    }
+
+    // Returns 0 if every configuration ran to completion or exited on its own, and 1 otherwise
+    private int run() throws Exception {
+        List<RunConfiguration> configurations = this.createConfigurations();
+        Optional<Path> reportPath = this.batchArgs.getReportPath();
+        PrintStream report = reportPath.isPresent()
+                ? new PrintStream(Files.newOutputStream(reportPath.get()), true, StandardCharsets.UTF_8)
+                : System.out;
+        ForkJoinPool pool = new ForkJoinPool(this.batchArgs.getThreads());
+        long startTime = System.nanoTime();
+        try {
+            List<ForkJoinTask<RunResult>> tasks = new ArrayList<>(configurations.size());
+            for (RunConfiguration configuration : configurations) {
+                tasks.add(pool.submit(() -> this.runConfiguration(configuration)));
+            }
+            report.println(REPORT_HEADER);
+            int failures = 0;
+            for (ForkJoinTask<RunResult> task : tasks) {
+                RunResult result = task.join();
+                report.println(result.toReportLine(this.batchArgs.getRomDirectory()));
+                if (result.status().isFailure()) {
+                    failures++;
+                }
+            }
+            Logger.info("Ran {} configurations in {} ms, {} failed", configurations.size(), (System.nanoTime() - startTime) / 1_000_000, failures);
+            return failures > 0 ? 1 : 0;
+        } finally {
+            pool.shutdownNow();
+            if (report != System.out) {
+                report.close();
+            }
+        }
+    }
+
+    private List<RunConfiguration> createConfigurations() throws Exception {
+        List<Path> romPaths;
+        try (Stream<Path> paths = Files.walk(this.batchArgs.getRomDirectory())) {
+            romPaths = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        List<Variant> variants = new ArrayList<>(this.batchArgs.getVariants());
+        if (variants.isEmpty()) {
+            // Let the database pick the variant for each ROM
+            variants.add(null);
+        }
+        List<RunConfiguration> configurations = new ArrayList<>();
+        for (Path romPath : romPaths) {
+            RomImage romImage;
+            try {
+                romImage = RomImage.open(romPath);
+            } catch (EmulatorException e) {
+                // Reported as a failed run so that one unreadable file doesn't abort the rest of the batch
+                configurations.add(new RunConfiguration(romPath, e));
+                continue;
+            }
+            for (Variant variant : variants) {
+                if (!this.batchArgs.useQuirkMatrix() || !usesChip8Quirks(variant)) {
+                    configurations.add(new RunConfiguration(romPath, romImage, variant, null));
+                    continue;
+                }
+                for (QuirkSet quirkSet : QuirkSet.getAllCombinations()) {
+                    configurations.add(new RunConfiguration(romPath, romImage, variant, quirkSet));
+                }
+            }
+        }
+        return configurations;
+    }
+
+    private RunResult runConfiguration(RunConfiguration configuration) {
+        if (configuration.romError != null) {
+            return new RunResult(configuration, null, RunStatus.ERROR, 0, 0, null, 0, configuration.romError.toString());
+        }
+        HeadlessEmulatorHost host = new HeadlessEmulatorHost(this.database);
+        Emulator emulator = null;
+        RunStatus status = RunStatus.OK;
+        String message = "";
+        int frames = 0;
+        long instructionsAtStart = -1;
+        long ipfInstructions = 0;
+        long startTime = System.nanoTime();
+        try {
+            emulator = host.createEmulator(configuration);
+            instructionsAtStart = Jchip.getInstructionCounter(emulator);
+            while (frames < this.batchArgs.getFrames()) {
+                emulator.executeFrame();
+                ipfInstructions += emulator.getCurrentInstructionsPerFrame();
+                frames++;
+                if (host.isStopped()) {
+                    status = RunStatus.EXITED;
+                    break;
+                }
+            }
+        } catch (InvalidInstructionException e) {
+            status = RunStatus.INVALID_INSTRUCTION;
+            message = e.getMessage();
+        } catch (Exception e) {
+            status = RunStatus.ERROR;
+            message = e.toString();
+        }
+        long wallTime = System.nanoTime() - startTime;
+
+        if (emulator == null) {
+            return new RunResult(configuration, null, status, 0, 0, null, 0, message);
+        }
+        long instructionsAtEnd = Jchip.getInstructionCounter(emulator);
+        long instructions = instructionsAtEnd >= 0 && instructionsAtStart >= 0 ? instructionsAtEnd - instructionsAtStart : ipfInstructions;
+        double seconds = wallTime / 1_000_000_000.0;
+        double mips = seconds > 0 ? (instructions / seconds) / 1_000_000.0 : 0;
+        String framebufferHash = String.format("%08X", Jchip.getFramebufferHash(emulator.getDisplay()));
+        try {
+            emulator.close();
+        } catch (Exception e) {
+            Logger.warn("Failed to close emulator for ROM \"{}\": {}", configuration.romPath, e);
+        }
+        return new RunResult(configuration, emulator.getVariant(), status, frames, instructions, framebufferHash, mips, message);
+    }
+
+    private static boolean usesChip8Quirks(@Nullable Variant variant) {
+        return switch (variant) {
+            case HYBRID_CHIP_8, HYBRID_CHIP_8X, COSMAC_VIP -> false;
+            case null, default -> true;
+        };
+    }
+
+    private enum RunStatus {
+        OK,
+        EXITED,
+        INVALID_INSTRUCTION,
+        ERROR;
+
+        private boolean isFailure() {
+            return this == INVALID_INSTRUCTION || this == ERROR;
+        }
+
+    }
+
+    private record RunResult(
+            RunConfiguration configuration,
+            @Nullable Variant variant,
+            RunStatus status,
+            int frames,
+            long instructions,
+            @Nullable String framebufferHash,
+            double mips,
+            String message
+    ) {
+
+        private String toReportLine(Path romDirectory) {
+            return String.join("\t",
+                    romDirectory.relativize(this.configuration.romPath).toString(),
+                    this.variant != null ? this.variant.getSerializedString() : "-",
+                    this.configuration.describe(),
+                    this.status.name(),
+                    String.valueOf(this.frames),
+                    String.valueOf(this.instructions),
+                    this.framebufferHash != null ? this.framebufferHash : "-",
+                    String.format("%.2f", this.mips),
+                    this.message.replaceAll("\\s+", " ").trim()
+            );
+        }
+
+    }
+
+    private record QuirkSet(
+            boolean doVFReset,
+            Chip8EmulatorSettings.MemoryIncrementQuirk memoryIncrementQuirk,
+            boolean doDisplayWait,
+            boolean doClipping,
+            boolean doShiftVXInPlace,
+            boolean doJumpWithVX
+    ) {
+
+        private static List<QuirkSet> getAllCombinations() {
+            List<QuirkSet> quirkSets = new ArrayList<>();
+            for (Chip8EmulatorSettings.MemoryIncrementQuirk memoryIncrementQuirk : Chip8EmulatorSettings.MemoryIncrementQuirk.values()) {
+                for (int flags = 0; flags < 32; flags++) {
+                    quirkSets.add(new QuirkSet(
+                            (flags & 1) != 0,
+                            memoryIncrementQuirk,
+                            (flags & 2) != 0,
+                            (flags & 4) != 0,
+                            (flags & 8) != 0,
+                            (flags & 16) != 0
+                    ));
+                }
+            }
+            return quirkSets;
+        }
+
+        private String describe() {
+            return "vf_reset=" + this.doVFReset
+                    + ",i_increment=" + this.memoryIncrementQuirk.getSerializedString()
+                    + ",display_wait=" + this.doDisplayWait
+                    + ",clipping=" + this.doClipping
+                    + ",shift_vx_in_place=" + this.doShiftVXInPlace
+                    + ",jump_with_vx=" + this.doJumpWithVX;
+        }
+
+    }
+
+    private static final class RunConfiguration implements EmulatorInitializer {
+
+        private final Path romPath;
+
+        @Nullable
+        private final RomImage romImage;
+
+        @Nullable
+        private final EmulatorException romError;
+
+        @Nullable
+        private final Variant variant;
+
+        @Nullable
+        private final QuirkSet quirkSet;
+
+        private RunConfiguration(Path romPath, RomImage romImage, @Nullable Variant variant, @Nullable QuirkSet quirkSet) {
+            this.romPath = romPath;
+            this.romImage = romImage;
+            this.romError = null;
+            this.variant = variant;
+            this.quirkSet = quirkSet;
+        }
+
+        private RunConfiguration(Path romPath, EmulatorException romError) {
+            this.romPath = romPath;
+            this.romImage = null;
+            this.romError = romError;
+            this.variant = null;
+            this.quirkSet = null;
+        }
+
+        private String describe() {
+            return this.quirkSet != null ? this.quirkSet.describe() : "default";
+        }
+
+        @Override
+        public Optional<Path> getRomPath() {
+            return Optional.of(this.romPath);
+        }
+
+        @Override
+        public Optional<RomImage> getRomImage() {
+            return Optional.ofNullable(this.romImage);
+        }
+
+        @Override
+        public Optional<Variant> getVariant() {
+            return Optional.ofNullable(this.variant);
+        }
+
+        @Override
+        public Optional<DisplayAngle> getDisplayAngle() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<KeyboardLayout> getKeyboardLayout() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Boolean> useVariantQuirks() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Integer> getInstructionsPerFrame() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ColorPalette> getColorPalette() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Boolean> doVFReset() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::doVFReset);
+        }
+
+        @Override
+        public Optional<Chip8EmulatorSettings.MemoryIncrementQuirk> getMemoryIncrementQuirk() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::memoryIncrementQuirk);
+        }
+
+        @Override
+        public Optional<Boolean> doDisplayWait() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::doDisplayWait);
+        }
+
+        @Override
+        public Optional<Boolean> doClipping() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::doClipping);
+        }
+
+        @Override
+        public Optional<Boolean> doShiftVXInPlace() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::doShiftVXInPlace);
+        }
+
+        @Override
+        public Optional<Boolean> doJumpWithVX() {
+            return Optional.ofNullable(this.quirkSet).map(QuirkSet::doJumpWithVX);
+        }
+
+    }
+
+}
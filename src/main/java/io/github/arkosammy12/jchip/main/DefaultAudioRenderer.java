@@ -8,27 +8,41 @@ import javax.sound.sampled.SourceDataLine;
 import static io.github.arkosammy12.jchip.main.Main.MAIN_FRAMERATE;
 import static io.github.arkosammy12.jchip.emulators.sound.SoundSystem.SAMPLE_RATE;
 
-import java.io.Closeable;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import org.tinylog.Logger;
 
-final class DefaultAudioRenderer implements AudioRenderer, Closeable {
+import java.util.Arrays;
+
+// Sound systems write each frame's samples straight into a preallocated ring, which is drained into the audio line
+// through buffers sized once per framerate, so that steady-state playback doesn't allocate anything.
+// Each drained frame is stretched or squeezed by a fraction of a percent depending on how far the line's fill level is from
+// the level it should be at when a frame arrives on time, so that the line stays near the latency target even when the audio
+// device's clock drifts from the system clock.
+final class DefaultAudioRenderer implements PacedAudioRenderer {
 
     private static final int BYTES_PER_SAMPLE = 2;
-    private static final int TARGET_FRAME_LATENCY = 3;
+    private static final int RING_FRAME_CAPACITY = 8;
+    // Largest fraction by which a frame's length is adjusted, small enough for the pitch change to go unnoticed
+    private static final double MAX_RATE_DELTA = 0.005;
 
     private int samplesPerFrame;
     private int bytesPerFrame;
+    private int targetFrameLatency = DEFAULT_TARGET_FRAME_LATENCY;
     private int targetByteLatency;
-    private byte[] emptySamples;
+    private double fractionalSamples;
+    private SampleRingBuffer samples;
+    private short[] frameSamples;
+    private byte[] frameBytes;
 
     private final SourceDataLine audioLine;
     private final FloatControl volumeControl;
-    private final Queue<byte[]> samples = new ConcurrentLinkedQueue<>();
     private boolean paused = true;
     private boolean muted = false;
     private boolean started = false;
 
+    // Only written by the emulator thread
+    private volatile long underrunCount;
+    private volatile long overrunCount;
+
     DefaultAudioRenderer(Jchip jchip) {
         try {
             AudioFormat format = new AudioFormat(SAMPLE_RATE, BYTES_PER_SAMPLE * 8, 1, true, true);
@@ -47,10 +61,12 @@ final class DefaultAudioRenderer implements AudioRenderer, Closeable {
         }
     }
 
+    @Override
     public boolean needsFrame() {
         return (this.audioLine.getBufferSize() - this.audioLine.available()) <= this.targetByteLatency;
     }
 
+    @Override
     public void setPaused(boolean paused) {
         this.paused = paused;
     }
@@ -60,50 +76,48 @@ final class DefaultAudioRenderer implements AudioRenderer, Closeable {
         this.muted = muted;
     }
 
-    void setFramerate(int framerate) {
+    @Override
+    public void setFramerate(int framerate) {
         this.samplesPerFrame = SAMPLE_RATE / framerate;
         this.bytesPerFrame = this.samplesPerFrame * BYTES_PER_SAMPLE;
-        this.targetByteLatency = this.bytesPerFrame * TARGET_FRAME_LATENCY;
-        this.emptySamples = new byte[this.bytesPerFrame];
+        this.targetByteLatency = this.bytesPerFrame * this.targetFrameLatency;
+        this.fractionalSamples = 0;
+        this.samples = new SampleRingBuffer(this.samplesPerFrame, RING_FRAME_CAPACITY);
+        this.frameSamples = new short[this.samplesPerFrame];
+        this.frameBytes = new byte[((int) Math.ceil(this.samplesPerFrame * (1 + MAX_RATE_DELTA)) + 1) * BYTES_PER_SAMPLE];
     }
 
     @Override
-    public int getSamplesPerFrame() {
-        return this.samplesPerFrame;
+    public void setTargetLatency(int frames) {
+        this.targetFrameLatency = Math.clamp(frames, 1, MAX_TARGET_FRAME_LATENCY);
+        this.targetByteLatency = this.bytesPerFrame * this.targetFrameLatency;
     }
 
     @Override
-    public void pushSamples8(byte[] buf) {
-        if (this.paused) {
-            return;
-        }
-        if (buf.length != this.samplesPerFrame) {
-            throw new IllegalArgumentException("Audio buffer sample size must be " + this.samplesPerFrame + "!");
-        }
-        byte[] buf16 = new byte[this.bytesPerFrame];
-        for (int i = 0; i < buf.length; i++) {
-            int sample16 = buf[i] * 256;
-            buf16[i * 2] = (byte) ((sample16 & 0xFF00) >>> 8);
-            buf16[(i * 2) + 1] = (byte) (sample16 & 0xFF);
-        }
-        this.samples.offer(buf16);
+    public long getUnderrunCount() {
+        return this.underrunCount;
+    }
+
+    @Override
+    public long getOverrunCount() {
+        return this.overrunCount;
     }
 
     @Override
-    public void pushSamples16(short[] buf) {
+    public int getSamplesPerFrame() {
+        return this.samplesPerFrame;
+    }
+
+    @Override
+    public AudioFrame borrowFrame() {
         if (this.paused) {
-            return;
+            return this.samples.discardFrame();
         }
-        if (buf.length != this.samplesPerFrame) {
-            throw new IllegalArgumentException("Audio buffer sample size must be " + this.samplesPerFrame + "!");
+        if (!this.samples.hasRoomForFrame()) {
+            this.overrunCount++;
+            return this.samples.discardFrame();
         }
-        byte[] buf16 = new byte[this.bytesPerFrame];
-        for (int i = 0; i < buf.length; i++) {
-            int sample16 = buf[i];
-            buf16[i * 2] = (byte) ((sample16 & 0xFF00) >>> 8);
-            buf16[(i * 2) + 1] = (byte) (sample16 & 0xFF);
-        }
-        this.samples.offer(buf16);
+        return this.samples.borrowFrame();
     }
 
     public void setVolume(int volume) {
@@ -121,14 +135,54 @@ final class DefaultAudioRenderer implements AudioRenderer, Closeable {
             this.started = true;
             return;
         }
-        byte[] samples = this.samples.poll();
-        if (samples == null || this.muted) {
-            samples = this.emptySamples;
+        int queuedBytes = this.audioLine.getBufferSize() - this.audioLine.available();
+        if (queuedBytes <= 0) {
+            this.underrunCount++;
+        }
+
+        // Frames without sound don't commit any samples, so whatever is missing is played as silence
+        short[] frameSamples = this.frameSamples;
+        int sampleCount = this.samples.read(frameSamples, this.samplesPerFrame);
+        if (this.muted) {
+            sampleCount = 0;
+        }
+        Arrays.fill(frameSamples, sampleCount, frameSamples.length, (short) 0);
+
+        // needsFrame lets the next frame in once the line drains to the target, so a frame that is on time gets here with the
+        // line somewhere within one frame below the target. The setpoint sits in the middle of that band, so that late frames
+        // produce more samples than the frame holds and early frames fewer.
+        int setpointBytes = this.targetByteLatency - (this.bytesPerFrame / 2);
+        double fillError = (double) (setpointBytes - queuedBytes) / this.targetByteLatency;
+        double ratio = 1 + MAX_RATE_DELTA * Math.clamp(fillError, -1.0, 1.0);
+        double outputSamples = this.samplesPerFrame * ratio + this.fractionalSamples;
+        int outputCount = (int) outputSamples;
+        this.fractionalSamples = outputSamples - outputCount;
+
+        byte[] frameBytes = this.frameBytes;
+        double step = (double) frameSamples.length / outputCount;
+        int lastIndex = frameSamples.length - 1;
+        for (int i = 0; i < outputCount; i++) {
+            double position = i * step;
+            int index = (int) position;
+            int current = frameSamples[index];
+            int next = frameSamples[Math.min(index + 1, lastIndex)];
+            int sample = current + (int) ((next - current) * (position - index));
+            frameBytes[i * 2] = (byte) (sample >>> 8);
+            frameBytes[(i * 2) + 1] = (byte) sample;
         }
-        this.audioLine.write(samples, 0, samples.length);
+        int outputBytes = outputCount * BYTES_PER_SAMPLE;
+        if (this.audioLine.available() < outputBytes) {
+            // The write below is going to block until the device catches up
+            this.overrunCount++;
+        }
+        this.audioLine.write(frameBytes, 0, outputBytes);
     }
 
+    @Override
     public void close() {
+        if (this.underrunCount > 0 || this.overrunCount > 0) {
+            Logger.info("Audio line had {} underruns and {} overruns", this.underrunCount, this.overrunCount);
+        }
         this.audioLine.stop();
         this.audioLine.flush();
         this.audioLine.close();
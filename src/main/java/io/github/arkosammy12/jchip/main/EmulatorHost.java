@@ -0,0 +1,29 @@
+package io.github.arkosammy12.jchip.main;
+
+import io.github.arkosammy12.jchip.config.DataManager;
+import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+
+import java.util.Optional;
+
+// Everything an emulator instance needs from the application running it. Jchip is the host for the emulator
+// shown in the main window, while batch runs give each instance its own host so they can run side by side.
+public interface EmulatorHost {
+
+    AudioRenderer getAudioRenderer();
+
+    Chip8Database getDatabase();
+
+    DataManager getDataManager();
+
+    Optional<KeyboardLayout> getKeyboardLayout();
+
+    boolean isHeadless();
+
+    Jchip.State getState();
+
+    void onBreakpoint();
+
+    void stop();
+
+}
@@ -0,0 +1,62 @@
+package io.github.arkosammy12.jchip.main;
+
+import static io.github.arkosammy12.jchip.main.Main.MAIN_FRAMERATE;
+import static io.github.arkosammy12.jchip.emulators.sound.SoundSystem.SAMPLE_RATE;
+
+// Discards every sample without opening an audio device, and never holds back the next frame.
+final class HeadlessAudioRenderer implements PacedAudioRenderer {
+
+    private int samplesPerFrame;
+    private SampleRingBuffer samples;
+
+    HeadlessAudioRenderer() {
+        this.setFramerate(MAIN_FRAMERATE);
+    }
+
+    @Override
+    public boolean needsFrame() {
+        return true;
+    }
+
+    @Override
+    public void setPaused(boolean paused) {}
+
+    @Override
+    public void setFramerate(int framerate) {
+        this.samplesPerFrame = SAMPLE_RATE / framerate;
+        this.samples = new SampleRingBuffer(this.samplesPerFrame, 1);
+    }
+
+    @Override
+    public void setTargetLatency(int frames) {}
+
+    @Override
+    public long getUnderrunCount() {
+        return 0;
+    }
+
+    @Override
+    public long getOverrunCount() {
+        return 0;
+    }
+
+    @Override
+    public int getSamplesPerFrame() {
+        return this.samplesPerFrame;
+    }
+
+    @Override
+    public AudioFrame borrowFrame() {
+        return this.samples.discardFrame();
+    }
+
+    @Override
+    public void setVolume(int volume) {}
+
+    @Override
+    public void setMuted(boolean muted) {}
+
+    @Override
+    public void close() {}
+
+}
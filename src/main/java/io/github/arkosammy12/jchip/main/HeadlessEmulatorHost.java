@@ -0,0 +1,73 @@
+package io.github.arkosammy12.jchip.main;
+
+import io.github.arkosammy12.jchip.config.DataManager;
+import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.util.Variant;
+
+import java.util.Optional;
+
+// Host for emulator instances that run without a window or audio device, such as batch runs and benchmarks.
+// Each host owns its audio renderer and transient data, so instances only share the read-only ROM database.
+public final class HeadlessEmulatorHost implements EmulatorHost {
+
+    private final Chip8Database database;
+    private final HeadlessAudioRenderer audioRenderer = new HeadlessAudioRenderer();
+    private final DataManager dataManager = new DataManager(false);
+    private boolean stopped;
+
+    public HeadlessEmulatorHost(Chip8Database database) {
+        this.database = database;
+    }
+
+    public Emulator createEmulator(EmulatorInitializer initializer) {
+        Emulator emulator = Variant.getEmulator(this, initializer);
+        this.audioRenderer.setFramerate(emulator.getFramerate());
+        return emulator;
+    }
+
+    public boolean isStopped() {
+        return this.stopped;
+    }
+
+    @Override
+    public AudioRenderer getAudioRenderer() {
+        return this.audioRenderer;
+    }
+
+    @Override
+    public Chip8Database getDatabase() {
+        return this.database;
+    }
+
+    @Override
+    public DataManager getDataManager() {
+        return this.dataManager;
+    }
+
+    @Override
+    public Optional<KeyboardLayout> getKeyboardLayout() {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public Jchip.State getState() {
+        return this.stopped ? Jchip.State.STOPPED : Jchip.State.RUNNING;
+    }
+
+    @Override
+    public void onBreakpoint() {}
+
+    @Override
+    public void stop() {
+        this.stopped = true;
+    }
+
+}
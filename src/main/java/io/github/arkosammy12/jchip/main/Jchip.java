@@ -5,9 +5,15 @@ import io.github.arkosammy12.jchip.config.CLIArgs;
 import io.github.arkosammy12.jchip.config.DataManager;
 import io.github.arkosammy12.jchip.config.database.Chip8Database;
 import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.cpu.Chip8Processor;
+import io.github.arkosammy12.jchip.emulators.video.Display;
 import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import io.github.arkosammy12.jchip.util.FastForwardSpeed;
 import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.util.FrameLimiter;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.emulators.state.RewindBuffer;
+import io.github.arkosammy12.jchip.emulators.state.SaveState;
 import org.jetbrains.annotations.Nullable;
 import org.tinylog.Logger;
 import picocli.CommandLine;
@@ -16,14 +22,19 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
 
 import static io.github.arkosammy12.jchip.main.Main.MAIN_FRAMERATE;
 
-public class Jchip {
+public class Jchip implements EmulatorHost {
 
     private MainWindow mainWindow;
     private volatile Emulator currentEmulator;
@@ -34,20 +45,30 @@ public class Jchip {
     private final List<ShutdownListener> shutdownListeners = new CopyOnWriteArrayList<>();
 
     private final Queue<State> queuedStates = new ConcurrentLinkedQueue<>();
+    private final Queue<EmulatorTask> queuedEmulatorTasks = new ConcurrentLinkedQueue<>();
     private volatile State currentState = State.STOPPED;
     private volatile boolean running = true;
+    private volatile boolean rewinding = false;
+    private volatile boolean fastForwarding = false;
+    private volatile FastForwardSpeed fastForwardSpeed = FastForwardSpeed.X4;
+    private volatile long executedFrames = 0;
 
     private final FrameLimiter pacer = new FrameLimiter(MAIN_FRAMERATE, true, true);
     private final DataManager dataManager = new DataManager();
     private final Chip8Database database = new Chip8Database();
-    private final DefaultAudioRenderer audioRenderer = new DefaultAudioRenderer(this);
+    private final PacedAudioRenderer audioRenderer;
+    private final RewindBuffer rewindBuffer = new RewindBuffer(RewindBuffer.DEFAULT_CAPACITY_MEGABYTES * 1024L * 1024L);
 
+    @Nullable
+    private final CLIArgs headlessArgs;
+
+    @Nullable
     private final Thread emulatorThread;
 
     Jchip(String[] args) {
         this.installEDTExceptionHandler();
+        CLIArgs cliArgs = null;
         try {
-            CLIArgs cliArgs;
             if (args.length > 0) {
                 cliArgs = new CLIArgs();
                 CommandLine cli = new CommandLine(cliArgs);
@@ -62,10 +83,26 @@ public class Jchip {
                         System.exit(exitCodeOnVersionHelp);
                     }
                 }
-            } else {
-                cliArgs = null;
             }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to initialize jchip: " + e);
+        }
 
+        if (cliArgs != null && cliArgs.isHeadless()) {
+            System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+            this.headlessArgs = cliArgs;
+            this.audioRenderer = new HeadlessAudioRenderer();
+            this.emulatorThread = null;
+            this.currentEmulator = Variant.getEmulator(this, cliArgs);
+            this.audioRenderer.setFramerate(this.currentEmulator.getFramerate());
+            return;
+        }
+
+        this.headlessArgs = null;
+        this.audioRenderer = new DefaultAudioRenderer(this);
+        this.dataManager.getAudioLatency().ifPresent(this.audioRenderer::setTargetLatency);
+        try {
+            final CLIArgs finalCliArgs = cliArgs;
             SwingUtilities.invokeAndWait(() -> {
                 FlatOneDarkIJTheme.setup();
 
@@ -103,9 +140,9 @@ public class Jchip {
                 this.mainWindow.accept(this.dataManager);
             });
 
-            if (cliArgs != null) {
-                SwingUtilities.invokeAndWait(() -> this.mainWindow.accept(cliArgs));
-                this.currentEmulator = Variant.getEmulator(this, cliArgs);
+            if (finalCliArgs != null) {
+                SwingUtilities.invokeAndWait(() -> this.mainWindow.accept(finalCliArgs));
+                this.currentEmulator = Variant.getEmulator(this, finalCliArgs);
                 this.reset(false);
             }
             SwingUtilities.invokeLater(() -> this.mainWindow.setVisible(true));
@@ -122,18 +159,34 @@ public class Jchip {
         return this.mainWindow;
     }
 
+    @Override
+    public boolean isHeadless() {
+        return this.headlessArgs != null;
+    }
+
+    @Override
     public Chip8Database getDatabase() {
         return this.database;
     }
 
+    @Override
     public AudioRenderer getAudioRenderer() {
         return this.audioRenderer;
     }
 
+    @Override
     public DataManager getDataManager() {
         return this.dataManager;
     }
 
+    @Override
+    public Optional<KeyboardLayout> getKeyboardLayout() {
+        if (this.mainWindow == null) {
+            return Optional.empty();
+        }
+        return this.mainWindow.getSettingsBar().getKeyboardLayout();
+    }
+
     public void addStateChangedListener(StateChangedListener l) {
         this.stateChangedListeners.add(l);
     }
@@ -150,12 +203,17 @@ public class Jchip {
         this.shutdownListeners.add(l);
     }
 
+    @Override
     public State getState() {
         return this.currentState;
     }
 
     public void start() throws Exception {
-        this.emulatorThread.start();
+        if (this.headlessArgs != null) {
+            this.runHeadless(this.headlessArgs.getHeadlessFrames());
+            return;
+        }
+        Objects.requireNonNull(this.emulatorThread).start();
         while (this.running) {
             if (!this.pacer.isFrameReady(true)) {
                 continue;
@@ -168,11 +226,17 @@ public class Jchip {
         while (this.running) {
             try {
                 if (!this.audioRenderer.needsFrame()) {
-                    Thread.sleep(1);
+                    // With an unlimited fast forward speed, the time spent waiting on the audio line is filled with skipped frames instead
+                    if (this.fastForwarding && this.fastForwardSpeed.isUnlimited() && this.currentState.isRunning() && !this.rewinding) {
+                        this.runSkippedFrame();
+                    } else {
+                        Thread.sleep(1);
+                    }
                     continue;
                 }
                 State oldState = this.updateState();
                 State newState = this.getState();
+                this.runQueuedEmulatorTasks();
                 switch (newState) {
                     case STOPPED, PAUSED, PAUSED_STOPPED -> onIdle();
                     case RESETTING_AND_RUNNING -> onResetting(false);
@@ -195,6 +259,37 @@ public class Jchip {
         }
     }
 
+    // Runs the emulator loaded from the CLI arguments as fast as possible for the given amount of frames,
+    // then reports the final framebuffer hash and the achieved throughput on the standard output.
+    private void runHeadless(int frames) {
+        Emulator emulator = Objects.requireNonNull(this.currentEmulator);
+        long instructionsAtStart = getInstructionCounter(emulator);
+        long ipfInstructions = 0;
+        int executedFrames = 0;
+        long startTime = System.nanoTime();
+        while (executedFrames < frames) {
+            emulator.executeFrame();
+            ipfInstructions += emulator.getCurrentInstructionsPerFrame();
+            executedFrames++;
+            if (this.queuedStates.contains(State.STOPPING)) {
+                break;
+            }
+        }
+        long wallTime = System.nanoTime() - startTime;
+
+        long instructionsAtEnd = getInstructionCounter(emulator);
+        long instructions = instructionsAtEnd >= 0 ? instructionsAtEnd - instructionsAtStart : ipfInstructions;
+        double seconds = wallTime / 1_000_000_000.0;
+        double mips = seconds > 0 ? (instructions / seconds) / 1_000_000.0 : 0;
+
+        System.out.println("Variant: " + emulator.getVariant().getDisplayName());
+        System.out.println("Frames: " + executedFrames);
+        System.out.println("Instructions: " + instructions);
+        System.out.printf("Framebuffer hash: %08X%n", getFramebufferHash(emulator.getDisplay()));
+        System.out.printf("MIPS: %.2f%n", mips);
+        System.out.printf("Wall time: %.3f ms%n", wallTime / 1_000_000.0);
+    }
+
     public void reset(boolean startPaused) {
         this.enqueueState(startPaused ? State.RESETTING_AND_PAUSING : State.RESETTING_AND_RUNNING);
     }
@@ -207,6 +302,7 @@ public class Jchip {
         }
     }
 
+    @Override
     public void stop() {
         this.enqueueState(State.STOPPING);
     }
@@ -219,6 +315,64 @@ public class Jchip {
         this.enqueueState(State.STEPPING_CYCLE);
     }
 
+    public void setFastForwarding(boolean fastForwarding) {
+        this.fastForwarding = fastForwarding;
+    }
+
+    public void setFastForwardSpeed(@Nullable FastForwardSpeed fastForwardSpeed) {
+        this.fastForwardSpeed = fastForwardSpeed != null ? fastForwardSpeed : FastForwardSpeed.X4;
+    }
+
+    // Total amount of frames executed by the emulator thread, including those skipped while fast forwarding
+    public long getExecutedFrames() {
+        return this.executedFrames;
+    }
+
+    public void setRewinding(boolean rewinding) {
+        this.rewinding = rewinding;
+    }
+
+    // A size of 0 disables rewinding, and takes effect on the next captured frame
+    public void setRewindBufferSize(int megabytes) {
+        this.rewindBuffer.setCapacity(Math.clamp(megabytes, 0, RewindBuffer.MAX_CAPACITY_MEGABYTES) * 1024L * 1024L);
+    }
+
+    // Save states are taken on the emulator thread in between frames, so that they always capture a consistent state
+    public void saveState() {
+        this.queuedEmulatorTasks.offer(emulator -> {
+            Path path = SaveState.getDefaultPath(this.dataManager.getSaveStateDirectory(), emulator);
+            SaveState.write(emulator, path);
+            Logger.info("Saved state to \"{}\"", path);
+        });
+    }
+
+    public void loadState() {
+        this.queuedEmulatorTasks.offer(emulator -> {
+            Path path = SaveState.getDefaultPath(this.dataManager.getSaveStateDirectory(), emulator);
+            SaveState.read(emulator, path);
+            emulator.getDisplay().flush();
+            Logger.info("Loaded state from \"{}\"", path);
+        });
+    }
+
+    private void runQueuedEmulatorTasks() {
+        EmulatorTask task;
+        while ((task = this.queuedEmulatorTasks.poll()) != null) {
+            Emulator emulator = this.currentEmulator;
+            if (emulator == null) {
+                continue;
+            }
+            try {
+                task.run(emulator);
+            } catch (IOException | EmulatorException e) {
+                Logger.error("Error while handling save state: {}", e);
+                if (this.mainWindow != null) {
+                    this.mainWindow.showExceptionDialog(e);
+                }
+            }
+        }
+    }
+
     private void onIdle() {
         this.audioRenderer.setPaused(true);
     }
@@ -228,6 +382,7 @@ public class Jchip {
             this.currentEmulator.close();
             this.currentEmulator = null;
         }
+        this.rewindBuffer.clear();
         this.audioRenderer.setPaused(true);
         this.audioRenderer.setFramerate(MAIN_FRAMERATE);
         this.enqueueState(State.STOPPED);
@@ -237,6 +392,7 @@ public class Jchip {
         if (this.currentEmulator != null) {
             this.currentEmulator.close();
         }
+        this.rewindBuffer.clear();
         this.audioRenderer.setPaused(true);
         this.currentEmulator = Variant.getEmulator(this, this.mainWindow.getSettingsBar());
         this.audioRenderer.setFramerate(this.currentEmulator.getFramerate());
@@ -248,7 +404,42 @@ public class Jchip {
             return;
         }
         this.audioRenderer.setPaused(false);
+        // While rewinding, frames are paced as usual but walk back through the buffer instead of executing
+        if (this.rewinding) {
+            if (this.rewindBuffer.rewind(this.currentEmulator)) {
+                this.currentEmulator.getDisplay().flush();
+            }
+            return;
+        }
+        if (this.fastForwarding) {
+            for (int i = 1; i < this.fastForwardSpeed.getMultiplier(); i++) {
+                this.runSkippedFrame();
+            }
+        }
         this.currentEmulator.executeFrame();
+        this.executedFrames++;
+        this.rewindBuffer.capture(this.currentEmulator);
+    }
+
+    // Skipped frames run without being presented and without their audio, which is dropped rather than queued up,
+    // so that the audio line keeps playing in real time while fast forwarding. They aren't captured by the rewind buffer
+    // either: it keeps one state per presented frame, so rewinding walks back over a fast forwarded stretch as quickly
+    // as it was played.
+    private void runSkippedFrame() {
+        Emulator emulator = this.currentEmulator;
+        if (emulator == null) {
+            return;
+        }
+        Display<?> display = emulator.getDisplay();
+        this.audioRenderer.setPaused(true);
+        display.setPresenting(false);
+        try {
+            emulator.executeFrame();
+            this.executedFrames++;
+        } finally {
+            display.setPresenting(true);
+            this.audioRenderer.setPaused(false);
+        }
     }
 
     private void onSteppingFrame() {
@@ -257,6 +448,8 @@ public class Jchip {
         }
         this.audioRenderer.setPaused(true);
         this.currentEmulator.executeFrame();
+        this.executedFrames++;
+        this.rewindBuffer.capture(this.currentEmulator);
         this.enqueueState(State.PAUSED);
     }
 
@@ -269,13 +462,18 @@ public class Jchip {
         this.enqueueState(State.PAUSED);
     }
 
+    @Override
     public void onBreakpoint() {
-        this.mainWindow.onBreakpoint();
+        if (this.mainWindow != null) {
+            this.mainWindow.onBreakpoint();
+        }
     }
 
     void onShutdown() throws Exception {
         try {
-            this.emulatorThread.join();
+            if (this.emulatorThread != null) {
+                this.emulatorThread.join();
+            }
         } catch (InterruptedException _) {}
         if (this.currentEmulator != null) {
             this.currentEmulator.close();
@@ -286,7 +484,9 @@ public class Jchip {
         }
         this.audioRenderer.close();
         this.notifyShutdownListeners();
-        this.dataManager.save();
+        if (!this.isHeadless()) {
+            this.dataManager.save();
+        }
     }
 
     private State updateState() {
@@ -330,6 +530,32 @@ public class Jchip {
         this.queuedStates.offer(newState);
     }
 
+    static long getInstructionCounter(Emulator emulator) {
+        if (emulator.getProcessor() instanceof Chip8Processor<?> chip8Processor) {
+            return chip8Processor.getInstructionCounter();
+        }
+        return -1;
+    }
+
+    static long getFramebufferHash(Display<?> display) {
+        int width = display.getImageWidth();
+        int[] renderBuffer = new int[width * display.getImageHeight()];
+        display.populateRenderBuffer(renderBuffer);
+        CRC32 crc = new CRC32();
+        byte[] row = new byte[width * 4];
+        for (int y = 0; y < display.getImageHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                int argb = renderBuffer[y * width + x];
+                row[x * 4] = (byte) (argb >>> 24);
+                row[x * 4 + 1] = (byte) (argb >>> 16);
+                row[x * 4 + 2] = (byte) (argb >>> 8);
+                row[x * 4 + 3] = (byte) argb;
+            }
+            crc.update(row);
+        }
+        return crc.getValue();
+    }
+
     private void installEDTExceptionHandler() {
         Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> {
             if (SwingUtilities.isEventDispatchThread()) {
@@ -394,4 +620,10 @@ public class Jchip {
 
     }
 
+    private interface EmulatorTask {
+
+        void run(Emulator emulator) throws IOException;
+
+    }
+
 }
@@ -5,6 +5,7 @@ import org.tinylog.Logger;
 
 import java.awt.*;
 import java.awt.desktop.QuitStrategy;
+import java.util.Arrays;
 
 public class Main {
 
@@ -15,6 +16,11 @@ public class Main {
 
     static void main(String[] args) throws Exception {
 
+        if (args.length > 0 && args[0].equals("batch")) {
+            System.setProperty("java.awt.headless", Boolean.TRUE.toString());
+            System.exit(BatchRunner.execute(Arrays.copyOfRange(args, 1, args.length)));
+        }
+
         if (SystemInfo.isMacOS) {
             System.setProperty("apple.awt.application.appearance", "system");
             System.setProperty("apple.awt.application.name", "jchip");
@@ -0,0 +1,26 @@
+package io.github.arkosammy12.jchip.main;
+
+import java.io.Closeable;
+
+// The audio renderer owned by Jchip, which also decides when the emulator thread should run its next frame.
+interface PacedAudioRenderer extends AudioRenderer, Closeable {
+
+    boolean needsFrame();
+
+    void setPaused(boolean paused);
+
+    void setFramerate(int framerate);
+
+    // Sets how many frames worth of samples to keep queued on the audio device
+    void setTargetLatency(int frames);
+
+    // Times the audio device ran out of samples to play
+    long getUnderrunCount();
+
+    // Times samples were produced faster than the audio device could take them
+    long getOverrunCount();
+
+    @Override
+    void close();
+
+}
@@ -0,0 +1,97 @@
+package io.github.arkosammy12.jchip.main;
+
+// Preallocated ring of 16-bit PCM samples. Sound systems write into it while a frame runs, and the renderer drains it
+// once the frame is done, so both sides are on the emulator thread and the positions don't need any synchronization.
+// Positions only ever increase and are masked into the array, so the ring is full when they are a capacity apart.
+final class SampleRingBuffer {
+
+    private final short[] samples;
+    private final int mask;
+    private final int frameLength;
+    private long writePosition;
+    private long readPosition;
+
+    // Reused for every frame, since only one frame is ever borrowed at a time
+    private final BorrowedFrame frame = new BorrowedFrame();
+    // Target of frames that have nowhere to go, so they can be written like any other frame and then dropped
+    private final short[] discardedSamples;
+
+    SampleRingBuffer(int frameLength, int frameCapacity) {
+        this.samples = new short[nextPowerOfTwo(frameLength * frameCapacity)];
+        this.mask = this.samples.length - 1;
+        this.frameLength = frameLength;
+        this.discardedSamples = new short[nextPowerOfTwo(frameLength)];
+    }
+
+    boolean hasRoomForFrame() {
+        return this.writePosition + this.frameLength - this.readPosition <= this.samples.length;
+    }
+
+    // Borrows the next frame in the ring, or a frame that is dropped on commit if the ring can't fit it
+    AudioFrame borrowFrame() {
+        if (!this.hasRoomForFrame()) {
+            return this.discardFrame();
+        }
+        return this.frame.reset(this.samples, this.mask, this.writePosition, true);
+    }
+
+    // Borrows a frame that is dropped on commit
+    AudioFrame discardFrame() {
+        return this.frame.reset(this.discardedSamples, this.discardedSamples.length - 1, 0, false);
+    }
+
+    // Moves up to length of the oldest committed samples into the destination, and returns how many were moved
+    int read(short[] destination, int length) {
+        int count = (int) Math.min(length, this.writePosition - this.readPosition);
+        int start = (int) this.readPosition & this.mask;
+        int firstPart = Math.min(count, this.samples.length - start);
+        System.arraycopy(this.samples, start, destination, 0, firstPart);
+        System.arraycopy(this.samples, 0, destination, firstPart, count - firstPart);
+        this.readPosition += count;
+        return count;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private final class BorrowedFrame implements AudioFrame {
+
+        private short[] target;
+        private int targetMask;
+        private long start;
+        private boolean publish;
+
+        private BorrowedFrame reset(short[] target, int targetMask, long start, boolean publish) {
+            this.target = target;
+            this.targetMask = targetMask;
+            this.start = start;
+            this.publish = publish;
+            return this;
+        }
+
+        @Override
+        public int getSampleCount() {
+            return frameLength;
+        }
+
+        @Override
+        public void setSample8(int index, int sample) {
+            this.target[(int) (this.start + index) & this.targetMask] = (short) (sample << 8);
+        }
+
+        @Override
+        public void setSample16(int index, int sample) {
+            this.target[(int) (this.start + index) & this.targetMask] = (short) sample;
+        }
+
+        @Override
+        public void commit() {
+            if (this.publish) {
+                writePosition = this.start + frameLength;
+            }
+        }
+
+    }
+
+}
@@ -1,7 +1,9 @@
 package io.github.arkosammy12.jchip.ui;
 
 import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
 import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.InstructionRateGovernor;
 import net.miginfocom.layout.AC;
 import net.miginfocom.layout.CC;
 import net.miginfocom.layout.LC;
@@ -19,23 +21,29 @@ public class InfoBar extends JPanel {
     private final JTextField mipsField = createField();
     private final JTextField frameTimeField = createField();
     private final JTextField fpsField = createField();
+    private final JTextField speedField = createField();
+
+    private final Jchip jchip;
 
     private long lastWindowTitleUpdate = 0;
     private long lastFrameTime = System.nanoTime();
     private int framesSinceLastUpdate = 0;
     private long totalIpfSinceLastUpdate = 0;
     private double totalFrameTimeSinceLastUpdate = 0;
+    private long executedFramesAtLastUpdate = 0;
 
     public InfoBar(Jchip jchip) {
-        MigLayout migLayout = new MigLayout(new LC().insets("1"), new AC().gap("5").gap("5").gap("5").gap("5").gap("5"), new AC());
+        MigLayout migLayout = new MigLayout(new LC().insets("1"), new AC().gap("5").gap("5").gap("5").gap("5").gap("5").gap("5"), new AC());
         super(migLayout);
+        this.jchip = jchip;
 
         this.add(createScrollPanel(variantField, "The variant used by the currently running ROM."), new CC().grow().push());
         this.add(createScrollPanel(romTitleField, "The name or file name of the currently running ROM."), new CC().grow().push());
-        this.add(createScrollPanel(ipfField, "The current IPF value average."), new CC().grow().push());
+        this.add(createScrollPanel(ipfField, "The current IPF value average. Shows the configured IPF as well when it is being lowered to keep up with the framerate."), new CC().grow().push());
         this.add(createScrollPanel(mipsField, "The current MIPS value average."), new CC().grow().push());
         this.add(createScrollPanel(frameTimeField, "The current frame time value average, in milliseconds."), new CC().grow().push());
         this.add(createScrollPanel(fpsField, "The current frames per second value average."), new CC().grow().push());
+        this.add(createScrollPanel(speedField, "The current emulation speed relative to real time, including frames skipped while fast forwarding."), new CC().grow().push());
 
         jchip.addStateChangedListener((emulator, _, newState) -> {
             if (emulator == null || newState.isStopping()) {
@@ -65,6 +73,7 @@ public class InfoBar extends JPanel {
         this.framesSinceLastUpdate = 0;
         this.totalIpfSinceLastUpdate = 0;
         this.totalFrameTimeSinceLastUpdate = 0;
+        this.executedFramesAtLastUpdate = this.jchip.getExecutedFrames();
         SwingUtilities.invokeLater(() -> {
             this.variantField.setText("");
 
@@ -74,6 +83,7 @@ public class InfoBar extends JPanel {
             this.mipsField.setText("");
             this.frameTimeField.setText("");
             this.fpsField.setText("");
+            this.speedField.setText("");
             this.revalidate();
             this.repaint();
         });
@@ -106,6 +116,8 @@ public class InfoBar extends JPanel {
         long averageIpf = 0;
         double averageFrameTimeMs = 0;
         double mips = 0;
+        double speed = 0;
+        String ipfText = "";
 
         if (deltaTime >= 1_000_000_000L) {
             updateStatsNow = true;
@@ -113,7 +125,19 @@ public class InfoBar extends JPanel {
             fps = framesSinceLastUpdate / (deltaTime / 1_000_000_000.0);
             averageIpf = totalIpfSinceLastUpdate / framesSinceLastUpdate;
             averageFrameTimeMs = (totalFrameTimeSinceLastUpdate / framesSinceLastUpdate) / 1_000_000.0;
-            mips = (averageIpf * fps) / 1_000_000.0;
+            long executedFrames = this.jchip.getExecutedFrames();
+            double executedFps = (executedFrames - executedFramesAtLastUpdate) / (deltaTime / 1_000_000_000.0);
+            mips = (averageIpf * executedFps) / 1_000_000.0;
+            speed = executedFps / emulator.getFramerate();
+            executedFramesAtLastUpdate = executedFrames;
+
+            ipfText = "IPF: " + averageIpf;
+            if (emulator instanceof Chip8Emulator chip8Emulator) {
+                InstructionRateGovernor governor = chip8Emulator.getGovernor();
+                if (governor.isLimiting()) {
+                    ipfText += " / " + governor.getTargetInstructionsPerFrame();
+                }
+            }
 
             framesSinceLastUpdate = 0;
             totalIpfSinceLastUpdate = 0;
@@ -127,9 +151,10 @@ public class InfoBar extends JPanel {
             final String fRomTitle = romTitle;
             final String fVariantName = variantName;
             final double fFps = fps;
-            final long fAverageIpf = averageIpf;
             final double fAverageFrameTimeMs = averageFrameTimeMs;
             final double fMips = mips;
+            final double fSpeed = speed;
+            final String fIpfText = ipfText;
 
             SwingUtilities.invokeLater(() -> {
                 if (fUpdateTitle) {
@@ -138,10 +163,11 @@ public class InfoBar extends JPanel {
                 }
 
                 if (fUpdateStats) {
-                    this.ipfField.setText("IPF: " + fAverageIpf);
+                    this.ipfField.setText(fIpfText);
                     this.mipsField.setText("MIPS: " + String.format("%.2f", fMips));
                     this.frameTimeField.setText("Frame time: " + String.format("%.2f ms", fAverageFrameTimeMs));
                     this.fpsField.setText("FPS: " + String.format("%.2f", fFps));
+                    this.speedField.setText("Speed: " + String.format("%.2fx", fSpeed));
                 }
 
                 this.revalidate();
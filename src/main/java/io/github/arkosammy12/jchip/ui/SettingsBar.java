@@ -2,6 +2,7 @@ package io.github.arkosammy12.jchip.ui;
 
 import io.github.arkosammy12.jchip.main.Jchip;
 import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.main.MainWindow;
 import io.github.arkosammy12.jchip.ui.menus.*;
@@ -41,8 +42,8 @@ public class SettingsBar extends JMenuBar implements EmulatorInitializer {
     }
 
     @Override
-    public Optional<byte[]> getRawRom() {
-        return this.fileMenu.getRawRom();
+    public Optional<RomImage> getRomImage() {
+        return this.fileMenu.getRomImage();
     }
 
     @Override
@@ -227,7 +227,7 @@ public class DebuggerPanel extends JPanel implements EmulatorInitializerConsumer
         if (emulator == null) {
             return;
         }
-        Jchip.State state = emulator.getEmulatorSettings().getJchip().getState();
+        Jchip.State state = emulator.getEmulatorSettings().getHost().getState();
         boolean updateChangeHighlights = state.isRunning() || state.isStepping();
         SwingUtilities.invokeLater(() -> {
             if (!this.isShowing()) {
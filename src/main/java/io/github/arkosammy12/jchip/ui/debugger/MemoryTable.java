@@ -5,6 +5,7 @@ import io.github.arkosammy12.jchip.emulators.Emulator;
 import io.github.arkosammy12.jchip.emulators.bus.Bus;
 import io.github.arkosammy12.jchip.main.MainWindow;
 import io.github.arkosammy12.jchip.emulators.bus.BusView;
+import io.github.arkosammy12.jchip.emulators.bus.WriteTracker;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,6 +33,12 @@ public class MemoryTable extends JTable {
 
     private int @Nullable [] bytes;
 
+    // Lets frames that didn't write to the visible rows skip repainting them
+    @Nullable
+    private volatile WriteTracker writeTracker;
+    private long lastUpdateEpoch = -1;
+    private boolean highlightsPending = false;
+
     public MemoryTable(Jchip jchip) {
         super();
         this.model = new Model();
@@ -96,7 +103,17 @@ public class MemoryTable extends JTable {
 
     private void onResetting(@NotNull Emulator emulator) {
         BusView busView = emulator.getBusView();
+        WriteTracker writeTracker = null;
+        if (busView instanceof Bus bus) {
+            writeTracker = bus.getWriteTracker();
+            if (writeTracker == null) {
+                writeTracker = new WriteTracker(busView.getMemorySize());
+                bus.setWriteTracker(writeTracker);
+            }
+        }
+        this.writeTracker = writeTracker;
         SwingUtilities.invokeLater(() -> {
+            this.lastUpdateEpoch = -1;
             this.model.memory = busView;
             this.bytes = new int[busView.getMemorySize()];
             this.rebuildTable();
@@ -104,6 +121,7 @@ public class MemoryTable extends JTable {
     }
 
     private void onStopping() {
+        this.writeTracker = null;
         SwingUtilities.invokeLater(() -> {
             this.bytes = null;
             this.model.clear();
@@ -116,13 +134,13 @@ public class MemoryTable extends JTable {
         if (emulator == null) {
             return;
         }
-        Jchip.State state = emulator.getEmulatorSettings().getJchip().getState();
+        Jchip.State state = emulator.getEmulatorSettings().getHost().getState();
         boolean updateChangeHighlights = state.isRunning() || state.isStepping();
         SwingUtilities.invokeLater(() -> {
             if (!this.isShowing()) {
                 return;
             }
-            if (updateChangeHighlights && this.bytes != null) {
+            if (this.bytes != null) {
                 JViewport vp = (JViewport) getParent();
                 Rectangle view = vp.getViewRect();
 
@@ -132,12 +150,28 @@ public class MemoryTable extends JTable {
                 int startIdx = firstRow * model.bytesPerRow;
                 int endIdx = Math.min((lastRow + 1) * model.bytesPerRow, bytes.length);
 
-                for (int i = startIdx; i < endIdx; i++) {
-                    if ((bytes[i] & CHANGED_FLAG) != 0) {
-                        bytes[i] |= HIGHLIGHT_FLAG;
-                    } else {
-                        bytes[i] &= ~HIGHLIGHT_FLAG;
+                WriteTracker writeTracker = this.writeTracker;
+                if (writeTracker != null && startIdx < endIdx) {
+                    long epoch = writeTracker.getEpoch();
+                    boolean written = this.lastUpdateEpoch < 0 || writeTracker.isRangeWrittenSince(startIdx, endIdx - startIdx, this.lastUpdateEpoch);
+                    this.lastUpdateEpoch = epoch;
+                    if (!written && !this.highlightsPending) {
+                        return;
+                    }
+                }
+
+                if (updateChangeHighlights) {
+                    boolean highlightsPending = false;
+                    for (int i = startIdx; i < endIdx; i++) {
+                        if ((bytes[i] & CHANGED_FLAG) != 0) {
+                            bytes[i] |= HIGHLIGHT_FLAG;
+                            highlightsPending = true;
+                        } else if ((bytes[i] & HIGHLIGHT_FLAG) != 0) {
+                            bytes[i] &= ~HIGHLIGHT_FLAG;
+                            highlightsPending = true;
+                        }
                     }
+                    this.highlightsPending = highlightsPending;
                 }
             }
             this.model.update();
@@ -3,6 +3,7 @@ package io.github.arkosammy12.jchip.ui.menus;
 import io.github.arkosammy12.jchip.main.Jchip;
 import io.github.arkosammy12.jchip.config.DataManager;
 import io.github.arkosammy12.jchip.config.Serializable;
+import io.github.arkosammy12.jchip.config.initializers.ApplicationInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializerConsumer;
 import io.github.arkosammy12.jchip.main.MainWindow;
@@ -10,12 +11,15 @@ import io.github.arkosammy12.jchip.ui.util.EnumMenu;
 import io.github.arkosammy12.jchip.ui.util.NumberOnlyTextField;
 import io.github.arkosammy12.jchip.util.Variant;
 import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.FastForwardSpeed;
 import io.github.arkosammy12.jchip.emulators.video.BuiltInColorPalette;
 import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+import java.awt.KeyboardFocusManager;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
 import java.awt.event.InputEvent;
@@ -31,11 +35,15 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
     private final JMenuItem stopButton = new JMenuItem("Stop");
     private final JMenuItem stepFrameButton = new JMenuItem("Step Frame");
     private final JMenuItem stepCycleButton = new JMenuItem("Step Cycle");
+    private final JRadioButtonMenuItem fastForwardButton = new JRadioButtonMenuItem("Fast Forward");
+    private final JMenuItem saveStateButton = new JMenuItem("Save State");
+    private final JMenuItem loadStateButton = new JMenuItem("Load State");
 
     private final QuirksMenu quirksMenu;
     private final EnumMenu<Variant> variantMenu;
     private final EnumMenu<BuiltInColorPalette> colorPaletteMenu;
     private final EnumMenu<DisplayAngle> displayAngleMenu;
+    private final EnumMenu<FastForwardSpeed> fastForwardSpeedMenu;
 
     private final JTextField instructionsPerFrameField;
 
@@ -81,6 +89,36 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
         this.stepCycleButton.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_C, InputEvent.CTRL_DOWN_MASK, true));
         this.stepCycleButton.setEnabled(false);
 
+        this.fastForwardButton.addChangeListener(_ -> jchip.setFastForwarding(this.fastForwardButton.isSelected()));
+        this.fastForwardButton.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_T, InputEvent.CTRL_DOWN_MASK, true));
+        this.fastForwardButton.setSelected(false);
+
+        this.fastForwardSpeedMenu = new EnumMenu<>("Fast Forward Speed", FastForwardSpeed.class, false);
+        this.fastForwardSpeedMenu.addStateListener(jchip::setFastForwardSpeed);
+        this.fastForwardSpeedMenu.setState(FastForwardSpeed.X4);
+        this.fastForwardSpeedMenu.setToolTipText("How fast ROMs run while fast forwarding. Audio is dropped for the frames that are skipped.");
+
+        this.saveStateButton.addActionListener(_ -> jchip.saveState());
+        this.saveStateButton.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F5, 0, true));
+        this.saveStateButton.setEnabled(false);
+
+        this.loadStateButton.addActionListener(_ -> jchip.loadState());
+        this.loadStateButton.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_F8, 0, true));
+        this.loadStateButton.setEnabled(false);
+
+        // Rewinding lasts for as long as the key is held, which menu accelerators can't express, so the key is watched globally instead.
+        // Text fields are skipped so that Backspace still edits them.
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(e -> {
+            if (e.getKeyCode() != KeyEvent.VK_BACK_SPACE || e.getComponent() instanceof JTextComponent) {
+                return false;
+            }
+            switch (e.getID()) {
+                case KeyEvent.KEY_PRESSED -> jchip.setRewinding(true);
+                case KeyEvent.KEY_RELEASED -> jchip.setRewinding(false);
+            }
+            return false;
+        });
+
         this.quirksMenu = new QuirksMenu(jchip);
         this.variantMenu = new EnumMenu<>("Variant", Variant.class, true);
         this.variantMenu.setMnemonic(KeyEvent.VK_V);
@@ -170,6 +208,13 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
         this.add(stopButton);
         this.add(stepFrameButton);
         this.add(stepCycleButton);
+        this.add(fastForwardButton);
+        this.add(fastForwardSpeedMenu);
+
+        this.addSeparator();
+
+        this.add(saveStateButton);
+        this.add(loadStateButton);
 
         this.addSeparator();
 
@@ -188,23 +233,31 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
                 switch (newState) {
                     case RUNNING -> { // Loaded rom state
                         this.stopButton.setEnabled(true);
+                        this.saveStateButton.setEnabled(true);
+                        this.loadStateButton.setEnabled(true);
                         this.stepFrameButton.setEnabled(false);
                         this.stepCycleButton.setEnabled(false);
                         mainWindow.setTitleSection(2, "Running");
                     }
                     case PAUSED -> { // Loaded rom state
                         this.stopButton.setEnabled(true);
+                        this.saveStateButton.setEnabled(true);
+                        this.loadStateButton.setEnabled(true);
                         this.stepFrameButton.setEnabled(true);
                         this.stepCycleButton.setEnabled(true);
                         mainWindow.setTitleSection(2, "Paused");
                     }
                     case PAUSED_STOPPED -> { // No loaded rom state
+                        this.saveStateButton.setEnabled(false);
+                        this.loadStateButton.setEnabled(false);
                         this.stepFrameButton.setEnabled(false);
                         this.stepCycleButton.setEnabled(false);
                         mainWindow.setTitleSection(2, "Stopped (Paused)");
                     }
                     case STOPPED -> { // No loaded rom state
                         this.stopButton.setEnabled(false);
+                        this.saveStateButton.setEnabled(false);
+                        this.loadStateButton.setEnabled(false);
                         this.pauseButton.setSelected(false);
                         this.stepFrameButton.setEnabled(false);
                         this.stepCycleButton.setEnabled(false);
@@ -225,6 +278,7 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
             });
             dataManager.putPersistent(DataManager.DISPLAY_ANGLE, Serializable.serialize(this.getDisplayAngle().orElse(null)));
             dataManager.putPersistent(DataManager.INSTRUCTIONS_PER_FRAME, String.valueOf(this.getInstructionsPerFrame().orElse(-1)));
+            dataManager.putPersistent(DataManager.FAST_FORWARD_SPEED, Serializable.serialize(this.fastForwardSpeedMenu.getState().orElse(null)));
         });
     }
 
@@ -281,6 +335,9 @@ public class EmulatorMenu extends JMenu implements EmulatorInitializerConsumer {
             this.instructionsPerFrame = val;
             this.instructionsPerFrameField.setText(String.valueOf(val));
         });
+        if (initializer instanceof ApplicationInitializer applicationInitializer) {
+            applicationInitializer.getFastForwardSpeed().ifPresent(this.fastForwardSpeedMenu::setState);
+        }
     }
 
 }
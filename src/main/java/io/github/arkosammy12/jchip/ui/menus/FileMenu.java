@@ -7,7 +7,7 @@ import io.github.arkosammy12.jchip.config.*;
 import io.github.arkosammy12.jchip.config.initializers.ApplicationInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializerConsumer;
-import io.github.arkosammy12.jchip.config.settings.EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
 import io.github.arkosammy12.jchip.main.MainWindow;
 import org.apache.commons.collections4.queue.CircularFifoQueue;
 import org.tinylog.Logger;
@@ -18,7 +18,6 @@ import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -29,7 +28,7 @@ public class FileMenu extends JMenu implements EmulatorInitializerConsumer {
 
     private final MainWindow mainWindow;
     private final AtomicReference<Path> romPath = new AtomicReference<>(null);
-    private final AtomicReference<byte[]> rawRom = new AtomicReference<>(null);
+    private final AtomicReference<RomImage> romImage = new AtomicReference<>(null);
     private Path currentDirectory;
 
     private final JMenu openRecentMenu;
@@ -115,17 +114,14 @@ public class FileMenu extends JMenu implements EmulatorInitializerConsumer {
         return Optional.ofNullable(this.romPath.get());
     }
 
-    public Optional<byte[]> getRawRom() {
-        byte[] val = this.rawRom.get();
-        if (val == null) {
-            return Optional.empty();
-        }
-        return Optional.of(Arrays.copyOf(val, val.length));
+    // Every reset of the same file shares one image, which is only read again if the file changed on disk
+    public Optional<RomImage> getRomImage() {
+        return Optional.ofNullable(this.romImage.updateAndGet(romImage -> romImage != null ? romImage.refresh() : null));
     }
 
     @Override
     public void accept(EmulatorInitializer initializer) {
-        initializer.getRawRom().ifPresent(rawRom -> this.rawRom.set(Arrays.copyOf(rawRom, rawRom.length)));
+        initializer.getRomImage().ifPresent(this.romImage::set);
         initializer.getRomPath().map(Path::toAbsolutePath).ifPresent(this::loadFile);
         if (initializer instanceof ApplicationInitializer applicationInitializer) {
             applicationInitializer.getRecentFiles().ifPresent(recentFiles -> {
@@ -148,7 +144,7 @@ public class FileMenu extends JMenu implements EmulatorInitializerConsumer {
 
     private void loadFile(Path filePath) {
         this.romPath.set(filePath);
-        this.rawRom.set(EmulatorSettings.readRawRom(filePath));
+        this.romImage.set(RomImage.open(filePath));
         this.mainWindow.setTitleSection(1, filePath.getFileName().toString());
     }
 
@@ -6,6 +6,7 @@ import io.github.arkosammy12.jchip.config.Serializable;
 import io.github.arkosammy12.jchip.config.initializers.ApplicationInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializerConsumer;
+import io.github.arkosammy12.jchip.emulators.state.RewindBuffer;
 import io.github.arkosammy12.jchip.main.MainWindow;
 import io.github.arkosammy12.jchip.ui.util.EnumMenu;
 import io.github.arkosammy12.jchip.util.KeyboardLayout;
@@ -19,6 +20,7 @@ public class SettingsMenu extends JMenu implements EmulatorInitializerConsumer {
 
     private final JSlider volumeSlider;
     private final JRadioButtonMenuItem muteButton;
+    private final JSlider rewindBufferSlider;
 
     private final EnumMenu<KeyboardLayout> keyboardLayoutMenu;
 
@@ -46,6 +48,19 @@ public class SettingsMenu extends JMenu implements EmulatorInitializerConsumer {
         this.muteButton.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_M, InputEvent.CTRL_DOWN_MASK, true));
         this.muteButton.setSelected(false);
 
+        JMenu rewindBufferMenu = new JMenu("Rewind Buffer (MB)");
+        rewindBufferMenu.setToolTipText("Memory reserved for rewinding while holding Backspace. Set to 0 to disable rewinding.");
+        this.rewindBufferSlider = new JSlider(0, RewindBuffer.MAX_CAPACITY_MEGABYTES, RewindBuffer.DEFAULT_CAPACITY_MEGABYTES);
+        this.rewindBufferSlider.setPaintTrack(true);
+        this.rewindBufferSlider.setPaintTicks(true);
+        this.rewindBufferSlider.setPaintLabels(true);
+        this.rewindBufferSlider.setMajorTickSpacing(128);
+        this.rewindBufferSlider.setMinorTickSpacing(32);
+        this.rewindBufferSlider.addChangeListener(_ -> jchip.setRewindBufferSize(this.rewindBufferSlider.getValue()));
+        JPanel rewindBufferPanel = new JPanel();
+        rewindBufferPanel.add(this.rewindBufferSlider);
+        rewindBufferMenu.add(rewindBufferPanel);
+
         this.keyboardLayoutMenu = new EnumMenu<>("Keyboard Layout", KeyboardLayout.class, false);
         this.keyboardLayoutMenu.setState(KeyboardLayout.QWERTY);
         this.keyboardLayoutMenu.setMnemonic(KeyEvent.VK_K);
@@ -58,6 +73,8 @@ public class SettingsMenu extends JMenu implements EmulatorInitializerConsumer {
         this.add(volumeMenu);
         this.add(muteButton);
         this.addSeparator();
+        this.add(rewindBufferMenu);
+        this.addSeparator();
         this.add(keyboardLayoutMenu);
         this.addSeparator();
         this.add(showInfoBarButton);
@@ -66,6 +83,7 @@ public class SettingsMenu extends JMenu implements EmulatorInitializerConsumer {
             DataManager dataManager = jchip.getDataManager();
             dataManager.putPersistent(DataManager.VOLUME, String.valueOf(this.volumeSlider.getValue()));
             dataManager.putPersistent(DataManager.MUTED, String.valueOf(this.muteButton.isSelected()));
+            dataManager.putPersistent(DataManager.REWIND_BUFFER_SIZE, String.valueOf(this.rewindBufferSlider.getValue()));
             dataManager.putPersistent(DataManager.SHOW_INFO_BAR, String.valueOf(this.showInfoBarButton.isSelected()));
             dataManager.putPersistent(DataManager.KEYBOARD_LAYOUT, Serializable.serialize(this.getKeyboardLayout().orElse(null)));
         });
@@ -81,6 +99,7 @@ public class SettingsMenu extends JMenu implements EmulatorInitializerConsumer {
         if (initializer instanceof ApplicationInitializer applicationInitializer) {
             applicationInitializer.getVolume().ifPresent(this.volumeSlider::setValue);
             applicationInitializer.getMuted().ifPresent(this.muteButton::setSelected);
+            applicationInitializer.getRewindBufferSize().ifPresent(this.rewindBufferSlider::setValue);
             applicationInitializer.getShowingInfoBar().ifPresent(this.showInfoBarButton::setSelected);
         }
     }
@@ -11,11 +11,28 @@ import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.io.Closeable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+// Frames are handed from the emulator thread to the render thread through three buffers without any locking.
+// The emulator thread always owns one buffer to write into, the render thread owns the one it is copying from, and the third
+// one holds the newest complete frame. Both sides trade their buffer for that one with a single atomic swap, so the emulator
+// never waits on presentation, and the render thread always presents the newest frame, dropping any it didn't get to.
 public class DisplayRenderer extends JPanel implements Closeable {
 
+    private static final int FRESH_FRAME = 1 << 2;
+    private static final int BUFFER_INDEX_MASK = FRESH_FRAME - 1;
+
     private final Display<?> display;
-    private final int[][] renderBuffer;
+    private final FrameBuffer[] frameBuffers = new FrameBuffer[3];
+    // Index of the buffer holding the newest complete frame, with FRESH_FRAME set until the render thread takes it
+    private final AtomicInteger readyBuffer = new AtomicInteger(2);
+    // Only touched by the emulator thread
+    private int writeBuffer = 0;
+    private int unpresentedRowStart;
+    private int unpresentedRowEnd;
+    // Only touched by the render thread
+    private int presentBuffer = 1;
 
     private final int displayWidth;
     private final int displayHeight;
@@ -26,11 +43,7 @@ public class DisplayRenderer extends JPanel implements Closeable {
     private final AffineTransform drawTransform = new AffineTransform();
 
     private final Thread renderThread;
-    private final Object renderLock = new Object();
-    protected final Object renderBufferLock = new Object();
-
     private volatile boolean running = true;
-    private boolean frameRequested = false;
 
     private int lastWidth = -1;
     private int lastHeight = -1;
@@ -41,7 +54,11 @@ public class DisplayRenderer extends JPanel implements Closeable {
         this.displayHeight = display.getImageHeight();
         this.displayAngle = display.getDisplayAngle();
 
-        this.renderBuffer = new int[displayWidth][displayHeight];
+        for (int i = 0; i < this.frameBuffers.length; i++) {
+            this.frameBuffers[i] = new FrameBuffer(displayWidth * displayHeight, displayHeight);
+        }
+        this.unpresentedRowStart = 0;
+        this.unpresentedRowEnd = displayHeight;
         this.bufferedImage = new BufferedImage(displayWidth, displayHeight, BufferedImage.TYPE_INT_ARGB);
 
         switch (displayAngle) {
@@ -105,52 +122,86 @@ public class DisplayRenderer extends JPanel implements Closeable {
         this.lastHeight = h;
     }
 
-    public void updateRenderBuffer() {
-        synchronized (this.renderBufferLock) {
-            this.display.populateRenderBuffer(this.renderBuffer);
+    // Called from the emulator thread with the image rows that changed since the last call
+    public void updateRenderBuffer(int fromRow, int toRow) {
+        FrameBuffer frame = this.frameBuffers[this.writeBuffer];
+        // The buffer may have missed the changes of the frames written while it was away, so those rows are brought up to date too
+        int populateStart = Math.min(frame.staleRowStart, fromRow);
+        int populateEnd = Math.max(frame.staleRowEnd, toRow);
+        this.display.populateRenderBuffer(frame.pixels, populateStart, populateEnd);
+
+        // Rows changed since the last frame the render thread took. Frames that end up dropped pass their rows on to the next one.
+        this.unpresentedRowStart = Math.min(this.unpresentedRowStart, fromRow);
+        this.unpresentedRowEnd = Math.max(this.unpresentedRowEnd, toRow);
+        frame.changedRowStart = this.unpresentedRowStart;
+        frame.changedRowEnd = this.unpresentedRowEnd;
+        frame.staleRowStart = this.displayHeight;
+        frame.staleRowEnd = 0;
+        for (FrameBuffer other : this.frameBuffers) {
+            if (other != frame) {
+                other.staleRowStart = Math.min(other.staleRowStart, fromRow);
+                other.staleRowEnd = Math.max(other.staleRowEnd, toRow);
+            }
+        }
+
+        int previous = this.readyBuffer.getAndSet(this.writeBuffer | FRESH_FRAME);
+        this.writeBuffer = previous & BUFFER_INDEX_MASK;
+        if ((previous & FRESH_FRAME) == 0) {
+            // The render thread took the previous frame, so only the rows of this one are still unpresented
+            this.unpresentedRowStart = fromRow;
+            this.unpresentedRowEnd = toRow;
         }
     }
 
     public void requestFrame() {
-        synchronized (this.renderLock) {
-            this.frameRequested = true;
-            this.renderLock.notify();
-        }
+        LockSupport.unpark(this.renderThread);
     }
 
     private void renderLoop() {
         while (this.running) {
-            synchronized (this.renderLock) {
-                while (this.running && !this.frameRequested) {
-                    try {
-                        this.renderLock.wait();
-                    } catch (InterruptedException _) {}
-                }
-                this.frameRequested = false;
+            LockSupport.park(this);
+            if (this.running) {
+                this.renderFrame();
             }
-            this.renderFrame();
         }
     }
 
+    // Wakeups without a new frame since the last one, such as while the display isn't changing, skip both the copy and the repaint
     private void renderFrame() {
-        int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
-        synchronized (renderBufferLock) {
-            for (int y = 0; y < displayHeight; y++) {
-                int base = y * displayWidth;
-                for (int x = 0; x < displayWidth; x++) {
-                    pixels[base + x] = renderBuffer[x][y];
-                }
-            }
+        if ((this.readyBuffer.get() & FRESH_FRAME) == 0) {
+            return;
         }
-        SwingUtilities.invokeLater(this::repaint);
+        this.presentBuffer = this.readyBuffer.getAndSet(this.presentBuffer) & BUFFER_INDEX_MASK;
+        FrameBuffer frame = this.frameBuffers[this.presentBuffer];
+        int fromRow = frame.changedRowStart;
+        int toRow = frame.changedRowEnd;
+        int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
+        copyToImage(frame.pixels, pixels, fromRow * this.displayWidth, toRow * this.displayWidth);
+        SwingUtilities.invokeLater(() -> this.repaintRows(fromRow, toRow));
+    }
+
+    private void repaintRows(int fromRow, int toRow) {
+        this.updateTransformIfNeeded();
+        Rectangle bounds = this.drawTransform.createTransformedShape(new Rectangle(0, fromRow, this.displayWidth, toRow - fromRow)).getBounds();
+        // Pad by a pixel to cover rounding at the edges of the scaled rows
+        bounds.grow(1, 1);
+        this.repaint(bounds);
+    }
+
+    // The render buffer already has the row-major layout of the image data, so this is a single bulk copy
+    public static void copyToImage(int[] renderBuffer, int[] pixels) {
+        copyToImage(renderBuffer, pixels, 0, pixels.length);
+    }
+
+    // Copies the pixels in [from, to) of the render buffer into the image data
+    public static void copyToImage(int[] renderBuffer, int[] pixels, int from, int to) {
+        System.arraycopy(renderBuffer, from, pixels, from, to - from);
     }
 
     @Override
     public void close() {
         this.running = false;
-        synchronized (this.renderLock) {
-            this.renderLock.notifyAll();
-        }
+        LockSupport.unpark(this.renderThread);
         if (this.renderThread != null) {
             try {
                 this.renderThread.join();
@@ -158,4 +209,22 @@ public class DisplayRenderer extends JPanel implements Closeable {
         }
     }
 
+    private static final class FrameBuffer {
+
+        private final int[] pixels;
+        // Rows whose contents are older than the latest frame. Only touched by the emulator thread.
+        private int staleRowStart;
+        private int staleRowEnd;
+        // Rows that differ from the last frame the render thread took, published along with the pixels
+        private int changedRowStart;
+        private int changedRowEnd;
+
+        private FrameBuffer(int size, int height) {
+            this.pixels = new int[size];
+            this.staleRowStart = 0;
+            this.staleRowEnd = height;
+        }
+
+    }
+
 }
@@ -3,16 +3,20 @@ package io.github.arkosammy12.jchip.ui.util;
 import io.github.arkosammy12.jchip.util.DisplayNameProvider;
 
 import javax.swing.*;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 public class EnumMenu<E extends Enum<E> & DisplayNameProvider> extends JMenu {
 
     private volatile E state = null;
     private final Map<E, JRadioButtonMenuItem> buttonMap = new HashMap<>();
     private final JRadioButtonMenuItem unspecifiedItem;
+    private final List<Consumer<E>> stateListeners = new ArrayList<>();
 
     public EnumMenu(String name, Class<E> enumClass, boolean withUnspecifiedOption) {
         super(name);
@@ -20,7 +24,7 @@ public class EnumMenu<E extends Enum<E> & DisplayNameProvider> extends JMenu {
         ButtonGroup buttonGroup = new ButtonGroup();
         if (withUnspecifiedOption) {
             JRadioButtonMenuItem unspecifiedItem = new JRadioButtonMenuItem("Unspecified");
-            unspecifiedItem.addActionListener(_ -> this.state = null);
+            unspecifiedItem.addActionListener(_ -> this.updateState(null));
             unspecifiedItem.setSelected(true);
             buttonGroup.add(unspecifiedItem);
             this.unspecifiedItem = unspecifiedItem;
@@ -30,7 +34,7 @@ public class EnumMenu<E extends Enum<E> & DisplayNameProvider> extends JMenu {
         }
         for (E enumConstant : enumClass.getEnumConstants()) {
             JRadioButtonMenuItem item = new JRadioButtonMenuItem(enumConstant.getDisplayName());
-            item.addActionListener(_ -> this.state = enumConstant);
+            item.addActionListener(_ -> this.updateState(enumConstant));
             buttonGroup.add(item);
             this.buttonMap.put(enumConstant, item);
             this.add(item);
@@ -38,7 +42,7 @@ public class EnumMenu<E extends Enum<E> & DisplayNameProvider> extends JMenu {
     }
 
     public void setState(E val) {
-        this.state = val;
+        this.updateState(val);
         for (Map.Entry<E, JRadioButtonMenuItem> map : this.buttonMap.entrySet()) {
             map.getValue().setSelected(false);
         }
@@ -58,4 +62,16 @@ public class EnumMenu<E extends Enum<E> & DisplayNameProvider> extends JMenu {
         return Optional.ofNullable(this.state);
     }
 
+    // Listeners are called on the EDT with the new state, which is null for the unspecified option
+    public void addStateListener(Consumer<E> listener) {
+        this.stateListeners.add(listener);
+    }
+
+    private void updateState(E val) {
+        this.state = val;
+        for (Consumer<E> listener : this.stateListeners) {
+            listener.accept(val);
+        }
+    }
+
 }
@@ -0,0 +1,41 @@
+package io.github.arkosammy12.jchip.util;
+
+import io.github.arkosammy12.jchip.config.Serializable;
+
+public enum FastForwardSpeed implements DisplayNameProvider, Serializable {
+    X2("2x", 2, "2x"),
+    X4("4x", 4, "4x"),
+    X8("8x", 8, "8x"),
+    X16("16x", 16, "16x"),
+    UNLIMITED("Unlimited", 0, "unlimited");
+
+    private final String displayName;
+    private final int multiplier;
+    private final String identifier;
+
+    FastForwardSpeed(String displayName, int multiplier, String identifier) {
+        this.displayName = displayName;
+        this.multiplier = multiplier;
+        this.identifier = identifier;
+    }
+
+    // Amount of frames executed per presented frame, or 0 if frames run back to back for as long as the host allows
+    public int getMultiplier() {
+        return this.multiplier;
+    }
+
+    public boolean isUnlimited() {
+        return this.multiplier <= 0;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return this.displayName;
+    }
+
+    @Override
+    public String getSerializedString() {
+        return this.identifier;
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.arkosammy12.jchip.util;
+
+import java.util.random.RandomGenerator;
+
+// Random number generator whose entire state is a single long that can be read back and restored,
+// unlike java.util.Random which keeps its seed private. Used so that save states reproduce random draws exactly.
+public final class SplitMix64 implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMix64() {
+        this(System.nanoTime() ^ Thread.currentThread().threadId() * GOLDEN_GAMMA);
+    }
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    public long getState() {
+        return this.state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (this.state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (this.nextLong() >>> 32);
+    }
+
+}
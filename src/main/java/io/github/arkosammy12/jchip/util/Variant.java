@@ -1,6 +1,6 @@
 package io.github.arkosammy12.jchip.util;
 
-import io.github.arkosammy12.jchip.main.Jchip;
+import io.github.arkosammy12.jchip.main.EmulatorHost;
 import io.github.arkosammy12.jchip.config.Serializable;
 import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
 import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
@@ -23,15 +23,15 @@ public enum Variant implements DisplayNameProvider, Serializable {
     XO_CHIP("xo-chip", "XO-CHIP", Chip8EmulatorSettings::new),
     MEGA_CHIP("mega-chip", "MEGA-CHIP", Chip8EmulatorSettings::new),
     HYPERWAVE_CHIP_64("hyperwave-chip-64", "HyperWaveCHIP-64", Chip8EmulatorSettings::new),
-    HYBRID_CHIP_8("hybrid-chip-8", "HYBRID CHIP-8", (jchip, settings) -> new CosmacVipEmulatorSettings(jchip, CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8, settings)),
-    HYBRID_CHIP_8X("hybrid-chip-8x", "HYBRID CHIP-8X", (jchip, settings) -> new CosmacVipEmulatorSettings(jchip, CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8X, settings)),
-    COSMAC_VIP("cosmac-vip", "COSMAC-VIP", (jchip, settings) -> new CosmacVipEmulatorSettings(jchip, CosmacVipEmulatorSettings.Chip8Interpreter.NONE, settings));
+    HYBRID_CHIP_8("hybrid-chip-8", "HYBRID CHIP-8", (host, settings) -> new CosmacVipEmulatorSettings(host, CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8, settings)),
+    HYBRID_CHIP_8X("hybrid-chip-8x", "HYBRID CHIP-8X", (host, settings) -> new CosmacVipEmulatorSettings(host, CosmacVipEmulatorSettings.Chip8Interpreter.CHIP_8X, settings)),
+    COSMAC_VIP("cosmac-vip", "COSMAC-VIP", (host, settings) -> new CosmacVipEmulatorSettings(host, CosmacVipEmulatorSettings.Chip8Interpreter.NONE, settings));
 
     private final String identifier;
     private final String displayName;
-    private final BiFunction<Jchip, EmulatorInitializer, ? extends EmulatorSettings> initializer;
+    private final BiFunction<EmulatorHost, EmulatorInitializer, ? extends EmulatorSettings> initializer;
 
-    Variant(String identifier, String displayName, BiFunction<Jchip, EmulatorInitializer, ? extends EmulatorSettings> initializer) {
+    Variant(String identifier, String displayName, BiFunction<EmulatorHost, EmulatorInitializer, ? extends EmulatorSettings> initializer) {
         this.identifier = identifier;
         this.displayName = displayName;
         this.initializer = initializer;
@@ -42,12 +42,12 @@ public enum Variant implements DisplayNameProvider, Serializable {
         return this.displayName;
     }
 
-    public static Emulator getEmulator(Jchip jchip, EmulatorInitializer mainInitializer) {
+    public static Emulator getEmulator(EmulatorHost host, EmulatorInitializer mainInitializer) {
         Optional<Variant> optionalVariant = mainInitializer.getVariant();
         if (optionalVariant.isPresent()) {
-            return optionalVariant.get().initializer.apply(jchip, mainInitializer).getEmulator();
+            return optionalVariant.get().initializer.apply(host, mainInitializer).getEmulator();
         }
-        return new Chip8EmulatorSettings(jchip, mainInitializer).getEmulator();
+        return new Chip8EmulatorSettings(host, mainInitializer).getEmulator();
     }
 
     public static Variant getVariantForIdentifier(String identifier) {
@@ -0,0 +1,117 @@
+package io.github.arkosammy12.jchip;
+
+import io.github.arkosammy12.jchip.config.database.Chip8Database;
+import io.github.arkosammy12.jchip.config.initializers.EmulatorInitializer;
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.config.settings.RomImage;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.video.ColorPalette;
+import io.github.arkosammy12.jchip.main.HeadlessEmulatorHost;
+import io.github.arkosammy12.jchip.util.DisplayAngle;
+import io.github.arkosammy12.jchip.util.KeyboardLayout;
+import io.github.arkosammy12.jchip.util.Variant;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+// Emulator settings for ROMs assembled by tests, with the variant's own quirks. The ROM database is loaded once and shared by every test.
+public final class TestInitializer implements EmulatorInitializer {
+
+    private static final Chip8Database DATABASE = new Chip8Database();
+
+    private final Variant variant;
+    private final RomImage rom;
+
+    public TestInitializer(Variant variant, byte[] rom) {
+        this.variant = variant;
+        this.rom = RomImage.of(rom);
+    }
+
+    public static Emulator createEmulator(Variant variant, byte[] rom) {
+        return new HeadlessEmulatorHost(DATABASE).createEmulator(new TestInitializer(variant, rom));
+    }
+
+    public static Emulator createEmulator(Variant variant, int... instructions) {
+        return createEmulator(variant, assemble(instructions));
+    }
+
+    public static byte[] assemble(int... instructions) {
+        byte[] rom = new byte[instructions.length * 2];
+        for (int i = 0; i < instructions.length; i++) {
+            rom[i * 2] = (byte) (instructions[i] >>> 8);
+            rom[i * 2 + 1] = (byte) instructions[i];
+        }
+        return rom;
+    }
+
+    @Override
+    public Optional<Path> getRomPath() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<RomImage> getRomImage() {
+        return Optional.of(this.rom);
+    }
+
+    @Override
+    public Optional<Variant> getVariant() {
+        return Optional.of(this.variant);
+    }
+
+    @Override
+    public Optional<DisplayAngle> getDisplayAngle() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<KeyboardLayout> getKeyboardLayout() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> useVariantQuirks() {
+        return Optional.of(true);
+    }
+
+    @Override
+    public Optional<Integer> getInstructionsPerFrame() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ColorPalette> getColorPalette() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doVFReset() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Chip8EmulatorSettings.MemoryIncrementQuirk> getMemoryIncrementQuirk() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doDisplayWait() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doClipping() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doShiftVXInPlace() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Boolean> doJumpWithVX() {
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.arkosammy12.jchip.config.settings;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RomImageTest {
+
+    private static final byte[] ROM = {0x12, 0x00, (byte) 0xA2, 0x34};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void imageIsUnaffectedByLaterChangesToTheFile() throws Exception {
+        Path path = this.directory.resolve("rom.ch8");
+        Files.write(path, ROM);
+        RomImage image = RomImage.open(path);
+        int crc32 = image.getCrc32();
+        String sha1Hash = image.getSha1Hash();
+
+        Files.write(path, new byte[] {0x00, 0x00});
+        assertArrayEquals(ROM, image.toByteArray());
+        assertEquals(crc32, image.getCrc32());
+        assertEquals(sha1Hash, image.getSha1Hash());
+
+        byte[] memory = new byte[8];
+        image.copyTo(1, memory, 4, 3);
+        assertArrayEquals(new byte[] {0, 0, 0, 0, 0x00, (byte) 0xA2, 0x34, 0}, memory);
+    }
+
+    @Test
+    void refreshReadsTheFileAgainOnlyWhenItChanged() throws Exception {
+        Path path = this.directory.resolve("rom.ch8");
+        Files.write(path, ROM);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.parse("2024-01-01T00:00:00Z")));
+        RomImage image = RomImage.open(path);
+        assertSame(image, image.refresh());
+
+        Files.write(path, new byte[] {0x00, (byte) 0xE0});
+        Files.setLastModifiedTime(path, FileTime.from(Instant.parse("2024-01-02T00:00:00Z")));
+        RomImage refreshed = image.refresh();
+        assertNotSame(image, refreshed);
+        assertArrayEquals(new byte[] {0x00, (byte) 0xE0}, refreshed.toByteArray());
+        assertArrayEquals(ROM, image.toByteArray());
+    }
+
+    @Test
+    void openedFilesHashLikeTheirContents() throws Exception {
+        Path path = this.directory.resolve("rom.ch8");
+        Files.write(path, ROM);
+        RomImage image = RomImage.open(path);
+        assertEquals(RomImage.of(ROM).getCrc32(), image.getCrc32());
+        assertEquals(RomImage.of(ROM).getSha1Hash(), image.getSha1Hash());
+
+        Path emptyPath = this.directory.resolve("empty.ch8");
+        Files.write(emptyPath, new byte[0]);
+        RomImage emptyImage = RomImage.open(emptyPath);
+        assertEquals(0, emptyImage.getLength());
+        assertEquals(RomImage.of(new byte[0]).getSha1Hash(), emptyImage.getSha1Hash());
+    }
+
+    @Test
+    void imagesOfEqualDataHashEqually() {
+        byte[] data = ROM.clone();
+        RomImage image = RomImage.of(data);
+        data[0] = 0;
+        assertEquals(RomImage.of(ROM).getCrc32(), image.getCrc32());
+        assertEquals(RomImage.of(ROM).getSha1Hash(), image.getSha1Hash());
+        assertEquals(ROM.length, image.getLength());
+        assertEquals(0xA2, image.readByte(2));
+    }
+
+}
@@ -0,0 +1,70 @@
+package io.github.arkosammy12.jchip.emulators;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CosmacVipEmulatorTest {
+
+    private static final int SEEDS = 40;
+    private static final int FRAMES = 60;
+    private static final int ROM_LENGTH = 0x400;
+
+    // With the disassembler enabled the emulator steps through every machine cycle, which is what the fast path has to reproduce
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"COSMAC_VIP", "HYBRID_CHIP_8", "HYBRID_CHIP_8X"})
+    void fastPathMatchesSteppingEveryCycle(Variant variant) throws Exception {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            byte[] rom = createRandomRom(variant, seed);
+            try (Emulator fastEmulator = TestInitializer.createEmulator(variant, rom); Emulator steppedEmulator = TestInitializer.createEmulator(variant, rom)) {
+                steppedEmulator.getDisassembler().setEnabled(true);
+                for (int frame = 0; frame < FRAMES; frame++) {
+                    String message = "seed " + seed + ", frame " + frame;
+                    String fastError = runFrame(fastEmulator);
+                    String steppedError = runFrame(steppedEmulator);
+                    assertEquals(steppedError, fastError, message);
+                    assertArrayEquals(captureState(steppedEmulator), captureState(fastEmulator), message);
+                    if (fastError != null) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // Raw VIP programs start by turning the display on, so that its interrupts, DMA and EF1 edges are there to be crossed.
+    // Interpreted programs get that from the interpreter, and are random CHIP-8 code that also calls into random machine code.
+    private static byte[] createRandomRom(Variant variant, long seed) {
+        byte[] rom = new byte[ROM_LENGTH];
+        new Random(seed).nextBytes(rom);
+        if (variant == Variant.COSMAC_VIP) {
+            rom[0] = 0x69; // INP 1
+        }
+        return rom;
+    }
+
+    @Nullable
+    private static String runFrame(Emulator emulator) {
+        try {
+            emulator.executeFrame();
+            return null;
+        } catch (RuntimeException e) {
+            return e.toString();
+        }
+    }
+
+    private static byte[] captureState(Emulator emulator) {
+        StateWriter writer = new StateWriter();
+        emulator.saveState(writer);
+        return writer.toByteArray();
+    }
+
+}
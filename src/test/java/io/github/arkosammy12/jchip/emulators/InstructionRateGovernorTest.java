@@ -0,0 +1,74 @@
+package io.github.arkosammy12.jchip.emulators;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstructionRateGovernorTest {
+
+    private static final int TARGET_IPF = 100_000;
+    private static final int FRAMERATE = 60;
+    private static final long MILLISECOND = 1_000_000;
+
+    @Test
+    void isolatedSlowFramesKeepTheTargetIpf() {
+        InstructionRateGovernor governor = new InstructionRateGovernor(TARGET_IPF, FRAMERATE, true);
+        for (int i = 0; i < 100; i++) {
+            boolean slow = i % 4 == 3;
+            runFrame(governor, slow ? 200 : 50, MILLISECOND);
+            assertEquals(TARGET_IPF, governor.getInstructionsPerFrame());
+        }
+        assertEquals(25, governor.getOverBudgetFrames());
+        assertEquals(0, governor.getLimitedFrames());
+    }
+
+    @Test
+    void sustainedOverrunsLowerTheIpfUntilFramesFit() {
+        InstructionRateGovernor governor = new InstructionRateGovernor(TARGET_IPF, FRAMERATE, true);
+        for (int i = 0; i < 7; i++) {
+            runFrame(governor, 200, MILLISECOND);
+        }
+        assertFalse(governor.isLimiting());
+        for (int i = 0; i < 60; i++) {
+            runFrame(governor, 200, MILLISECOND);
+        }
+        // The overhead average approaches the real overhead from below, so frames settle just above the budget
+        assertTrue(governor.isLimiting());
+        assertTrue(governor.getLastFrameTime() < governor.getFrameBudget() * 1.01);
+
+        // Once the host is fast again, the IPF climbs back to the target
+        for (int i = 0; i < 200; i++) {
+            runFrame(governor, 50, MILLISECOND);
+        }
+        assertEquals(TARGET_IPF, governor.getInstructionsPerFrame());
+    }
+
+    @Test
+    void overheadThatDoesNotFitTheBudgetKeepsTheTargetIpf() {
+        InstructionRateGovernor governor = new InstructionRateGovernor(TARGET_IPF, FRAMERATE, true);
+        for (int i = 0; i < 100; i++) {
+            runFrame(governor, 10, 20 * MILLISECOND);
+        }
+        assertEquals(100, governor.getOverBudgetFrames());
+        assertEquals(TARGET_IPF, governor.getInstructionsPerFrame());
+    }
+
+    @Test
+    void disabledGovernorAlwaysRunsTheTargetIpf() {
+        InstructionRateGovernor governor = new InstructionRateGovernor(TARGET_IPF, FRAMERATE, false);
+        for (int i = 0; i < 100; i++) {
+            runFrame(governor, 1000, MILLISECOND);
+        }
+        assertEquals(TARGET_IPF, governor.getInstructionsPerFrame());
+    }
+
+    // Runs a frame of the governor's current IPF at the given host cost per instruction and fixed frame overhead
+    private static void runFrame(InstructionRateGovernor governor, long instructionCost, long frameOverhead) {
+        int instructions = governor.getInstructionsPerFrame();
+        long executionTime = instructions * instructionCost;
+        governor.onFrame(instructions, executionTime, executionTime + frameOverhead);
+    }
+
+}
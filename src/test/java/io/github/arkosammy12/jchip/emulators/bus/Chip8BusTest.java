@@ -0,0 +1,81 @@
+package io.github.arkosammy12.jchip.emulators.bus;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Chip8BusTest {
+
+    private static final int CODE_ADDRESS = 0x300;
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    void writeByteReplacesFetchedInstruction(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            bus.writeByte(CODE_ADDRESS, 0x61);
+            bus.writeByte(CODE_ADDRESS + 1, 0x23);
+            assertEquals(0x6123, fetchInstruction(bus, CODE_ADDRESS));
+
+            bus.writeByte(CODE_ADDRESS + 1, 0x45);
+            assertEquals(0x6145, fetchInstruction(bus, CODE_ADDRESS));
+            bus.writeByte(CODE_ADDRESS, 0x72);
+            assertEquals(0x7245, fetchInstruction(bus, CODE_ADDRESS));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    void writeBytesReplacesFetchedInstructions(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            // The run starts on the second byte of an instruction and ends on the first byte of another
+            int pageEnd = CODE_ADDRESS + 0xFF;
+            bus.writeBytes(CODE_ADDRESS - 2, new byte[0x104], 0, 0x104);
+            assertEquals(0x0000, fetchInstruction(bus, CODE_ADDRESS - 1));
+            assertEquals(0x0000, fetchInstruction(bus, pageEnd));
+
+            bus.writeBytes(CODE_ADDRESS - 1, new byte[] {0x12, 0x34}, 0, 2);
+            assertEquals(0x1234, fetchInstruction(bus, CODE_ADDRESS - 1));
+            assertEquals(0x3400, fetchInstruction(bus, CODE_ADDRESS));
+
+            bus.writeBytes(pageEnd, new int[] {0xA5, 0x5A}, 0, 2);
+            assertEquals(0xA55A, fetchInstruction(bus, pageEnd));
+            assertEquals(0x3400, fetchInstruction(bus, CODE_ADDRESS));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    void copyReplacesFetchedInstructions(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            bus.writeBytes(CODE_ADDRESS, new byte[] {0x61, 0x23, 0x62, 0x34}, 0, 4);
+            assertEquals(0x6123, fetchInstruction(bus, CODE_ADDRESS));
+            assertEquals(0x2362, fetchInstruction(bus, CODE_ADDRESS + 1));
+
+            // Disjoint ranges take the bulk path
+            bus.writeBytes(CODE_ADDRESS + 0x80, new byte[] {0x71, 0x01}, 0, 2);
+            bus.copy(CODE_ADDRESS + 0x80, CODE_ADDRESS + 1, 2);
+            assertEquals(0x6171, fetchInstruction(bus, CODE_ADDRESS));
+            assertEquals(0x7101, fetchInstruction(bus, CODE_ADDRESS + 1));
+            assertEquals(0x0134, fetchInstruction(bus, CODE_ADDRESS + 2));
+
+            // Overlapping ranges copy byte by byte, repeating the source
+            bus.copy(CODE_ADDRESS, CODE_ADDRESS + 1, 3);
+            assertEquals(0x6161, fetchInstruction(bus, CODE_ADDRESS));
+            assertEquals(0x6161, fetchInstruction(bus, CODE_ADDRESS + 2));
+        }
+    }
+
+    // Reads the instruction word the same way Chip8Processor.cycle does
+    private static int fetchInstruction(Chip8Bus bus, int address) {
+        return (bus.readByte(address) << 8) | bus.readByte(address + 1);
+    }
+
+}
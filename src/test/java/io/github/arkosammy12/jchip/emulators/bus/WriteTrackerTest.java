@@ -0,0 +1,106 @@
+package io.github.arkosammy12.jchip.emulators.bus;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.state.StateReader;
+import io.github.arkosammy12.jchip.emulators.state.StateWriter;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteTrackerTest {
+
+    private static final int CODE_ADDRESS = 0x300;
+    private static final int ROUNDS = 2000;
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "XO_CHIP", "MEGA_CHIP"})
+    void logsOldAndNewValuesOfEveryWrite(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            WriteTracker writeTracker = new WriteTracker(bus.getMemorySize(), 16);
+            bus.setWriteTracker(writeTracker);
+            long startEpoch = writeTracker.getEpoch();
+
+            bus.writeByte(CODE_ADDRESS, 0x12);
+            bus.writeBytes(CODE_ADDRESS, new byte[] {0x34, 0x56}, 0, 2);
+            bus.writeBytes(CODE_ADDRESS + 1, new int[] {0x78}, 0, 1);
+
+            assertEquals(startEpoch + 4, writeTracker.getEpoch());
+            assertTrue(writeTracker.isPageWrittenSince(CODE_ADDRESS >>> WriteTracker.PAGE_SHIFT, startEpoch));
+            assertFalse(writeTracker.isPageWrittenSince((CODE_ADDRESS >>> WriteTracker.PAGE_SHIFT) + 1, startEpoch));
+
+            List<String> writes = new ArrayList<>();
+            assertTrue(writeTracker.forEachWriteSince(startEpoch, (address, oldValue, newValue) -> writes.add(Integer.toHexString(address) + ":" + oldValue + "->" + newValue)));
+            assertEquals(List.of("300:0->18", "300:18->52", "301:0->86", "301:86->120"), writes);
+        }
+    }
+
+    @Test
+    void loadStateStampsPagesAndBreaksTheWriteLog() throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(Variant.CHIP_8, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            bus.writeByte(CODE_ADDRESS, 0x12);
+            StateWriter writer = new StateWriter();
+            bus.saveState(writer);
+
+            WriteTracker writeTracker = new WriteTracker(bus.getMemorySize(), 16);
+            bus.setWriteTracker(writeTracker);
+            long startEpoch = writeTracker.getEpoch();
+            bus.loadState(new StateReader(ByteBuffer.wrap(writer.toByteArray())));
+
+            assertTrue(writeTracker.isRangeWrittenSince(CODE_ADDRESS, 1, startEpoch));
+            assertFalse(writeTracker.forEachWriteSince(startEpoch, (_, _, _) -> {}));
+            long loadedEpoch = writeTracker.getEpoch();
+            bus.writeByte(CODE_ADDRESS, 0x34);
+            assertTrue(writeTracker.forEachWriteSince(loadedEpoch, (_, _, _) -> {}));
+        }
+    }
+
+    // A reader that takes the epoch and then reads memory must see every write the epoch covers.
+    // Each round writes increasing values to one address, so the byte read can never be older than the epoch read before it.
+    @Test
+    void epochNeverCoversWritesThatAreNotStoredYet() throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(Variant.CHIP_8, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            AtomicReference<String> failure = new AtomicReference<>();
+            for (int round = 0; round < ROUNDS && failure.get() == null; round++) {
+                bus.writeByte(CODE_ADDRESS, 0);
+                WriteTracker writeTracker = new WriteTracker(bus.getMemorySize());
+                bus.setWriteTracker(writeTracker);
+                AtomicBoolean writing = new AtomicBoolean(true);
+                Thread reader = Thread.ofPlatform().start(() -> {
+                    while (writing.get()) {
+                        long epoch = writeTracker.getEpoch();
+                        int value = bus.readByte(CODE_ADDRESS);
+                        if (value < epoch) {
+                            failure.compareAndSet(null, "Read " + value + " after epoch " + epoch);
+                            return;
+                        }
+                    }
+                });
+                for (int value = 1; value <= 0xFF; value++) {
+                    bus.writeByte(CODE_ADDRESS, value);
+                }
+                writing.set(false);
+                reader.join();
+                bus.setWriteTracker(null);
+            }
+            assertNull(failure.get());
+        }
+    }
+
+}
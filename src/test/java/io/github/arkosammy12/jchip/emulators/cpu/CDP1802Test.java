@@ -0,0 +1,399 @@
+package io.github.arkosammy12.jchip.emulators.cpu;
+
+import io.github.arkosammy12.jchip.emulators.bus.Bus;
+import io.github.arkosammy12.jchip.emulators.bus.WriteTracker;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CDP1802Test {
+
+    private static final int SEEDS = 300;
+    private static final int MAX_INSTRUCTIONS = 5000;
+
+    // Runs random memory through the handler table and through a reference that decodes opcodes the way the nested switch did,
+    // comparing every register after each instruction. Idling is ended with an interrupt for as long as interrupts are enabled.
+    @Test
+    void handlerTableMatchesReferenceDecoder() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Random random = new Random(seed);
+            int[] memory = new int[0x10000];
+            for (int i = 0; i < memory.length; i++) {
+                memory[i] = random.nextInt(0x100);
+            }
+            TestSystemBus systemBus = new TestSystemBus(memory.clone());
+            CDP1802 processor = new CDP1802(systemBus);
+            ReferenceProcessor reference = new ReferenceProcessor(memory);
+
+            // Reset and initialization
+            processor.cycle();
+            processor.nextState();
+            processor.cycle();
+            processor.nextState();
+
+            for (int instruction = 0; instruction < MAX_INSTRUCTIONS; instruction++) {
+                String message = "seed " + seed + ", instruction " + instruction;
+                if (processor.isIdling()) {
+                    if (!processor.getIE()) {
+                        break;
+                    }
+                    systemBus.interrupting = true;
+                    runUntilFetch(processor);
+                    systemBus.interrupting = false;
+                    reference.interrupt();
+                    assertRegistersEqual(reference, processor, message);
+                    continue;
+                }
+                for (int i = 0; i < 4; i++) {
+                    boolean flag = random.nextBoolean();
+                    processor.setEF(i, flag);
+                    reference.externalFlags[i] = flag;
+                }
+                runUntilFetch(processor);
+                reference.execute();
+                assertRegistersEqual(reference, processor, message);
+                assertEquals(reference.idling, processor.isIdling(), message);
+            }
+            assertArrayEquals(reference.memory, systemBus.memory, "seed " + seed);
+            assertEquals(reference.outputs, systemBus.outputs, "seed " + seed);
+        }
+    }
+
+    private static void runUntilFetch(CDP1802 processor) {
+        do {
+            processor.cycle();
+            processor.nextState();
+        } while (processor.getCurrentState() != CDP1802.State.S0_FETCH && !processor.isIdling());
+    }
+
+    private static void assertRegistersEqual(ReferenceProcessor reference, CDP1802 processor, String message) {
+        for (int i = 0; i < 16; i++) {
+            assertEquals(reference.registers[i], processor.getR(i), message + ", R" + Integer.toHexString(i).toUpperCase());
+        }
+        assertEquals(reference.accumulator, processor.getD(), message + ", D");
+        assertEquals(reference.dataFlag, processor.getDF(), message + ", DF");
+        assertEquals(reference.auxiliaryHolding, processor.getB(), message + ", B");
+        assertEquals(reference.programCounterIndex, processor.getP(), message + ", P");
+        assertEquals(reference.dataPointerIndex, processor.getX(), message + ", X");
+        assertEquals(reference.temporary, processor.getT(), message + ", T");
+        assertEquals(reference.interruptEnable, processor.getIE(), message + ", IE");
+        assertEquals(reference.outputFlipFlop, processor.getQ(), message + ", Q");
+    }
+
+    // Input ports answer with a running count, so that both sides see the same values as long as they read the same ports in the same order
+    private static final class TestSystemBus implements CDP1802.SystemBus, Bus {
+
+        private final int[] memory;
+        private final List<Integer> outputs = new ArrayList<>();
+        private int inputCount;
+        private boolean interrupting;
+
+        private TestSystemBus(int[] memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public Bus getBus() {
+            return this;
+        }
+
+        @Override
+        public int readByte(int address) {
+            return this.memory[address & 0xFFFF];
+        }
+
+        @Override
+        public void writeByte(int address, int value) {
+            this.memory[address & 0xFFFF] = value & 0xFF;
+        }
+
+        @Override
+        public void setWriteTracker(@Nullable WriteTracker writeTracker) {}
+
+        @Override
+        @Nullable
+        public WriteTracker getWriteTracker() {
+            return null;
+        }
+
+        @Override
+        public int dispatchInput(int port) {
+            return (port * 0x25 + this.inputCount++) & 0xFF;
+        }
+
+        @Override
+        public void dispatchOutput(int port, int value) {
+            this.outputs.add((port << 8) | value);
+        }
+
+        @Override
+        public int dispatchDmaIn(int address) {
+            return 0xFF;
+        }
+
+        @Override
+        public void dispatchDmaOut(int address, int value) {}
+
+        @Override
+        public CDP1802.DmaStatus getDmaStatus() {
+            return CDP1802.DmaStatus.NONE;
+        }
+
+        @Override
+        public boolean anyInterrupting() {
+            return this.interrupting;
+        }
+
+    }
+
+    private static final class ReferenceProcessor {
+
+        private final int[] memory;
+        private final int[] registers = new int[16];
+        private final boolean[] externalFlags = new boolean[4];
+        private final List<Integer> outputs = new ArrayList<>();
+        private int inputCount;
+        private int accumulator;
+        private boolean dataFlag;
+        private int auxiliaryHolding;
+        private int programCounterIndex;
+        private int dataPointerIndex;
+        private int temporary;
+        private boolean interruptEnable = true;
+        private boolean outputFlipFlop;
+        private boolean idling;
+
+        private ReferenceProcessor(int[] memory) {
+            this.memory = memory;
+        }
+
+        private void interrupt() {
+            this.temporary = (this.dataPointerIndex << 4) | this.programCounterIndex;
+            this.interruptEnable = false;
+            this.programCounterIndex = 1;
+            this.dataPointerIndex = 2;
+            this.idling = false;
+        }
+
+        private void execute() {
+            int opcode = this.fetch();
+            int i = opcode >>> 4;
+            int n = opcode & 0xF;
+            switch (i) {
+                case 0x0 -> {
+                    if (n != 0) { // LDN
+                        this.accumulator = this.read(this.registers[n]);
+                    } else { // IDL
+                        this.idling = true;
+                    }
+                }
+                case 0x1 -> this.add(n, 1); // INC
+                case 0x2 -> this.add(n, -1); // DEC
+                case 0x3 -> { // BR, BQ, BZ, BDF, B1 to B4 and their negations, with NBR as the negation of BR
+                    if (this.shortBranchCondition(n & 7) != (n >= 8)) {
+                        int p = this.programCounterIndex;
+                        this.registers[p] = (this.registers[p] & 0xFF00) | this.read(this.registers[p]);
+                    } else {
+                        this.add(this.programCounterIndex, 1);
+                    }
+                }
+                case 0x4 -> { // LDA
+                    this.accumulator = this.read(this.registers[n]);
+                    this.add(n, 1);
+                }
+                case 0x5 -> this.write(this.registers[n], this.accumulator); // STR
+                case 0x6 -> {
+                    int x = this.dataPointerIndex;
+                    if (n == 0) { // IRX
+                        this.add(x, 1);
+                    } else if (n < 8) { // OUT
+                        this.outputs.add((n << 8) | this.read(this.registers[x]));
+                        this.add(x, 1);
+                    } else { // INP, with 68 reading the pulled up data bus
+                        int input = n == 8 ? 0xFF : ((n & 7) * 0x25 + this.inputCount++) & 0xFF;
+                        this.write(this.registers[x], input);
+                        this.accumulator = input;
+                    }
+                }
+                case 0x7 -> this.executeControl(n);
+                case 0x8 -> this.accumulator = this.registers[n] & 0xFF; // GLO
+                case 0x9 -> this.accumulator = this.registers[n] >>> 8; // GHI
+                case 0xA -> this.registers[n] = (this.registers[n] & 0xFF00) | this.accumulator; // PLO
+                case 0xB -> this.registers[n] = (this.accumulator << 8) | (this.registers[n] & 0xFF); // PHI
+                case 0xC -> this.executeLong(n);
+                case 0xD -> this.programCounterIndex = n; // SEP
+                case 0xE -> this.dataPointerIndex = n; // SEX
+                case 0xF -> this.executeArithmetic(n);
+            }
+        }
+
+        private void executeControl(int n) {
+            int x = this.dataPointerIndex;
+            switch (n) {
+                case 0x0, 0x1 -> { // RET, DIS
+                    int value = this.read(this.registers[x]);
+                    this.add(x, 1);
+                    this.dataPointerIndex = value >>> 4;
+                    this.programCounterIndex = value & 0xF;
+                    this.interruptEnable = n == 0;
+                }
+                case 0x2 -> { // LDXA
+                    this.accumulator = this.read(this.registers[x]);
+                    this.add(x, 1);
+                }
+                case 0x3 -> { // STXD
+                    this.write(this.registers[x], this.accumulator);
+                    this.add(x, -1);
+                }
+                case 0x6 -> { // SHRC
+                    int carry = this.dataFlag ? 0x80 : 0;
+                    this.dataFlag = (this.accumulator & 1) != 0;
+                    this.accumulator = carry | (this.accumulator >>> 1);
+                }
+                case 0x8 -> this.write(this.registers[x], this.temporary); // SAV
+                case 0x9 -> { // MARK
+                    this.temporary = (x << 4) | this.programCounterIndex;
+                    this.write(this.registers[2], this.temporary);
+                    this.dataPointerIndex = this.programCounterIndex;
+                    this.add(2, -1);
+                }
+                case 0xA -> this.outputFlipFlop = false; // REQ
+                case 0xB -> this.outputFlipFlop = true; // SEQ
+                case 0xE -> { // SHLC
+                    int carry = this.dataFlag ? 1 : 0;
+                    this.dataFlag = (this.accumulator & 0x80) != 0;
+                    this.accumulator = ((this.accumulator << 1) | carry) & 0xFF;
+                }
+                // ADC, SDB, SMB and their immediate forms
+                default -> this.executeAlu(n & 7, (n & 8) != 0, true);
+            }
+        }
+
+        private void executeArithmetic(int n) {
+            switch (n) {
+                case 0x0, 0x8 -> this.accumulator = this.readOperand(n); // LDX, LDI
+                case 0x6 -> { // SHR
+                    this.dataFlag = (this.accumulator & 1) != 0;
+                    this.accumulator >>>= 1;
+                }
+                case 0xE -> { // SHL
+                    this.dataFlag = (this.accumulator & 0x80) != 0;
+                    this.accumulator = (this.accumulator << 1) & 0xFF;
+                }
+                // OR, AND, XOR, ADD, SD, SM and their immediate forms
+                default -> this.executeAlu(n & 7, (n & 8) != 0, false);
+            }
+        }
+
+        private void executeAlu(int operation, boolean immediate, boolean withCarry) {
+            int operand = this.readOperand(immediate ? 8 : 0);
+            int carryIn = this.dataFlag ? 1 : 0;
+            switch (operation) {
+                case 0x1 -> this.accumulator |= operand;
+                case 0x2 -> this.accumulator &= operand;
+                case 0x3 -> this.accumulator ^= operand;
+                case 0x4 -> {
+                    int result = operand + this.accumulator + (withCarry ? carryIn : 0);
+                    this.dataFlag = result > 0xFF;
+                    this.accumulator = result & 0xFF;
+                }
+                case 0x5 -> {
+                    int result = operand - this.accumulator - (withCarry ? 1 - carryIn : 0);
+                    this.dataFlag = result >= 0;
+                    this.accumulator = result & 0xFF;
+                }
+                case 0x7 -> {
+                    int result = this.accumulator - operand - (withCarry ? 1 - carryIn : 0);
+                    this.dataFlag = result >= 0;
+                    this.accumulator = result & 0xFF;
+                }
+                default -> throw new IllegalStateException("Not an ALU operation: " + operation);
+            }
+        }
+
+        // Operands come from M(R(X)), or from M(R(P)) for the immediate forms in the upper half of the column
+        private int readOperand(int n) {
+            if (n < 8) {
+                return this.read(this.registers[this.dataPointerIndex]);
+            }
+            return this.fetch();
+        }
+
+        private void executeLong(int n) {
+            int p = this.programCounterIndex;
+            boolean isBranch = (n & 4) == 0 && n != 0x8;
+            if (isBranch) { // LBR, LBQ, LBZ, LBDF, LBNQ, LBNZ, LBNF
+                this.auxiliaryHolding = this.fetch();
+                boolean taken = this.longCondition(n & 3) != (n >= 8);
+                if (taken) {
+                    this.registers[p] = (this.auxiliaryHolding << 8) | this.read(this.registers[p]);
+                } else {
+                    this.add(p, 1);
+                }
+                return;
+            }
+            // NOP, NLBR and the long skips, which skip over the next two bytes
+            boolean skip = switch (n) {
+                case 0x4 -> false;
+                case 0x5 -> !this.outputFlipFlop;
+                case 0x6 -> this.accumulator != 0;
+                case 0x7 -> !this.dataFlag;
+                case 0x8 -> true;
+                case 0xC -> this.interruptEnable;
+                case 0xD -> this.outputFlipFlop;
+                case 0xE -> this.accumulator == 0;
+                case 0xF -> this.dataFlag;
+                default -> throw new IllegalStateException("Not a long skip: " + n);
+            };
+            if (skip) {
+                this.add(p, 2);
+            }
+        }
+
+        private boolean shortBranchCondition(int index) {
+            return switch (index) {
+                case 0 -> true;
+                case 1 -> this.outputFlipFlop;
+                case 2 -> this.accumulator == 0;
+                case 3 -> this.dataFlag;
+                default -> this.externalFlags[index - 4];
+            };
+        }
+
+        private boolean longCondition(int index) {
+            return switch (index) {
+                case 0 -> true;
+                case 1 -> this.outputFlipFlop;
+                case 2 -> this.accumulator == 0;
+                default -> this.dataFlag;
+            };
+        }
+
+        private int fetch() {
+            int p = this.programCounterIndex;
+            int value = this.read(this.registers[p]);
+            this.add(p, 1);
+            return value;
+        }
+
+        private void add(int index, int amount) {
+            this.registers[index] = (this.registers[index] + amount) & 0xFFFF;
+        }
+
+        private int read(int address) {
+            return this.memory[address & 0xFFFF];
+        }
+
+        private void write(int address, int value) {
+            this.memory[address & 0xFFFF] = value & 0xFF;
+        }
+
+    }
+
+}
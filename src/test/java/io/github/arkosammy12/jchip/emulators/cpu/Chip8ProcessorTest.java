@@ -0,0 +1,113 @@
+package io.github.arkosammy12.jchip.emulators.cpu;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.config.settings.Chip8EmulatorSettings;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Chip8ProcessorTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    void executesArithmeticAndMemoryOpcodes(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant,
+                0x6005, // V0 = 0x05
+                0x610A, // V1 = 0x0A
+                0x7101, // V1 += 0x01
+                0x8014, // V0 += V1
+                0x6203, // V2 = 0x03
+                0x8125, // V1 -= V2
+                0x6330, // V3 = 0x30
+                0x8307, // V3 = V0 - V3
+                0xA300, // I = 0x300
+                0xF01E, // I += V0
+                0x6499, // V4 = 0x99
+                0xF433, // BCD of V4 at I
+                0xF265, // Load V0 to V2 from I
+                0x121A  // Spin
+        )) {
+            Chip8Processor<?> processor = ((Chip8Emulator) emulator).getProcessor();
+            runInstructions(processor, 14);
+            assertEquals(0x21A, processor.getProgramCounter());
+            assertEquals(1, processor.getRegister(0x0));
+            assertEquals(5, processor.getRegister(0x1));
+            assertEquals(3, processor.getRegister(0x2));
+            assertEquals(0xE0, processor.getRegister(0x3));
+            assertEquals(0x99, processor.getRegister(0x4));
+            assertEquals(0, processor.getRegister(0xF));
+            assertEquals(14, processor.getInstructionCounter());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "SUPER_CHIP_MODERN", "XO_CHIP", "MEGA_CHIP", "HYPERWAVE_CHIP_64"})
+    void executesInstructionsStoredOverAlreadyExecutedCode(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant,
+                0x6500, // V5 = 0x00, replaced by V5 = 0x7F
+                0xA200, // I = 0x200
+                0x6065, // V0 = 0x65
+                0x617F, // V1 = 0x7F
+                0xF155, // Store V0 and V1 at I
+                0x1200  // Jump to 0x200
+        )) {
+            Chip8Processor<?> processor = ((Chip8Emulator) emulator).getProcessor();
+            runInstructions(processor, 6);
+            assertEquals(0x200, processor.getProgramCounter());
+            assertEquals(0, processor.getRegister(0x5));
+            runInstructions(processor, 1);
+            assertEquals(0x7F, processor.getRegister(0x5));
+        }
+    }
+
+    // Quirks are bound when the processor is created, so the quirky instructions are checked against the settings they were bound from.
+    // The variants cover both values of every quirk used here and all three memory increment quirks.
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "CHIP_48", "SUPER_CHIP_11", "XO_CHIP", "MEGA_CHIP"})
+    void appliesQuirksFromTheEmulatorSettings(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant,
+                0x6F01, // VF = 0x01
+                0x60C1, // V0 = 0xC1
+                0x6140, // V1 = 0x40
+                0x6204, // V2 = 0x04
+                0x8011, // V0 |= V1
+                0x8016, // V0 >>= V1
+                0xA300, // I = 0x300
+                0xF155, // Store V0 and V1 at I
+                0xB210  // Jump to 0x210 + V0
+        )) {
+            Chip8EmulatorSettings settings = ((Chip8Emulator) emulator).getEmulatorSettings();
+            Chip8Processor<?> processor = ((Chip8Emulator) emulator).getProcessor();
+
+            runInstructions(processor, 5);
+            assertEquals(settings.doVFReset() ? 0 : 1, processor.getRegister(0xF));
+
+            runInstructions(processor, 1);
+            int operand = settings.doShiftVXInPlace() ? 0xC1 : 0x40;
+            assertEquals(operand >>> 1, processor.getRegister(0x0));
+            assertEquals(operand & 1, processor.getRegister(0xF));
+
+            runInstructions(processor, 2);
+            int expectedIndexRegister = switch (settings.getMemoryIncrementQuirk()) {
+                case NONE -> 0x300;
+                case INCREMENT_X -> 0x301;
+                case INCREMENT_X_1 -> 0x302;
+            };
+            assertEquals(expectedIndexRegister, processor.getIndexRegister());
+
+            runInstructions(processor, 1);
+            assertEquals(0x210 + processor.getRegister(settings.doJumpWithVX() ? 0x2 : 0x0), processor.getProgramCounter());
+        }
+    }
+
+    private static void runInstructions(Chip8Processor<?> processor, int count) {
+        for (int i = 0; i < count; i++) {
+            processor.cycle();
+        }
+    }
+
+}
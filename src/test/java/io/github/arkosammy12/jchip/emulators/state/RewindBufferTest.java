@@ -0,0 +1,104 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.emulators.bus.Chip8Bus;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RewindBufferTest {
+
+    private static final int FRAMES = 150;
+    private static final int DATA_ADDRESS = 0x400;
+
+    // Frames mostly change one byte, which is stored as a delta. Every 40 frames a new page is written,
+    // which changes the length of the state and has to start a new keyframe.
+    @ParameterizedTest
+    @EnumSource(value = Variant.class, names = {"CHIP_8", "XO_CHIP", "MEGA_CHIP"})
+    void rewindRestoresEveryCapturedFrame(Variant variant) throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(variant, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            RewindBuffer rewindBuffer = new RewindBuffer(Long.MAX_VALUE);
+            List<byte[]> states = new ArrayList<>();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                bus.writeByte(DATA_ADDRESS + (frame / 40) * 0x100, frame + 1);
+                states.add(captureState(emulator));
+                rewindBuffer.capture(emulator);
+            }
+            assertEquals(FRAMES, rewindBuffer.size());
+            long keyframeSize = states.getLast().length;
+            assertTrue(rewindBuffer.getUsedBytes() < FRAMES * keyframeSize / 2, "Deltas were not used");
+
+            for (int frame = FRAMES - 2; frame >= 0; frame--) {
+                assertTrue(rewindBuffer.rewind(emulator));
+                assertArrayEquals(states.get(frame), captureState(emulator), "frame " + frame);
+            }
+            assertFalse(rewindBuffer.rewind(emulator));
+        }
+    }
+
+    @Test
+    void capturesAfterRewindingContinueFromTheRestoredFrame() throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(Variant.CHIP_8, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            RewindBuffer rewindBuffer = new RewindBuffer(Long.MAX_VALUE);
+            List<byte[]> states = new ArrayList<>();
+            for (int frame = 0; frame < 90; frame++) {
+                bus.writeByte(DATA_ADDRESS, frame);
+                states.add(captureState(emulator));
+                rewindBuffer.capture(emulator);
+            }
+            for (int i = 0; i < 45; i++) {
+                rewindBuffer.rewind(emulator);
+            }
+            bus.writeByte(DATA_ADDRESS + 1, 0xFF);
+            byte[] branchedState = captureState(emulator);
+            rewindBuffer.capture(emulator);
+            bus.writeByte(DATA_ADDRESS + 2, 0xFF);
+            rewindBuffer.capture(emulator);
+
+            assertTrue(rewindBuffer.rewind(emulator));
+            assertArrayEquals(branchedState, captureState(emulator));
+            assertTrue(rewindBuffer.rewind(emulator));
+            assertArrayEquals(states.get(44), captureState(emulator));
+        }
+    }
+
+    @Test
+    void capacityEvictsWholeKeyframes() throws Exception {
+        try (Emulator emulator = TestInitializer.createEmulator(Variant.CHIP_8, 0x1200)) {
+            Chip8Bus bus = ((Chip8Emulator) emulator).getBus();
+            long keyframeSize = captureState(emulator).length;
+            RewindBuffer rewindBuffer = new RewindBuffer(keyframeSize * 3);
+            for (int frame = 0; frame < 600; frame++) {
+                bus.writeByte(DATA_ADDRESS, frame);
+                rewindBuffer.capture(emulator);
+                assertTrue(rewindBuffer.getUsedBytes() <= rewindBuffer.getCapacity());
+            }
+            assertTrue(rewindBuffer.size() < 600);
+            int remaining = rewindBuffer.size();
+            for (int i = 1; i < remaining; i++) {
+                assertTrue(rewindBuffer.rewind(emulator));
+            }
+            assertFalse(rewindBuffer.rewind(emulator));
+        }
+    }
+
+    private static byte[] captureState(Emulator emulator) {
+        StateWriter writer = new StateWriter();
+        emulator.saveState(writer);
+        return writer.toByteArray();
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.github.arkosammy12.jchip.emulators.state;
+
+import io.github.arkosammy12.jchip.TestInitializer;
+import io.github.arkosammy12.jchip.emulators.Chip8Emulator;
+import io.github.arkosammy12.jchip.emulators.Emulator;
+import io.github.arkosammy12.jchip.exceptions.EmulatorException;
+import io.github.arkosammy12.jchip.util.Variant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SaveStateTest {
+
+    private static final int FRAMES = 30;
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    void loadingRestoresTheSavedState(Variant variant) throws Exception {
+        try (Emulator emulator = createEmulator(variant)) {
+            runFrames(emulator);
+            Path path = this.directory.resolve(variant.getSerializedString() + SaveState.FILE_EXTENSION);
+            SaveState.write(emulator, path);
+            byte[] savedState = captureState(emulator);
+
+            runFrames(emulator);
+            byte[] laterState = captureState(emulator);
+
+            SaveState.read(emulator, path);
+            assertArrayEquals(savedState, captureState(emulator));
+            runFrames(emulator);
+            assertArrayEquals(laterState, captureState(emulator));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    void failedLoadLeavesTheEmulatorUntouched(Variant variant) throws Exception {
+        try (Emulator emulator = createEmulator(variant)) {
+            runFrames(emulator);
+            Path path = this.directory.resolve(variant.getSerializedString() + SaveState.FILE_EXTENSION);
+            SaveState.write(emulator, path);
+            runFrames(emulator);
+            byte[] currentState = captureState(emulator);
+
+            // Cut the body in half while keeping the header consistent, so that loading fails partway through the components
+            byte[] file = Files.readAllBytes(path);
+            int bodyLengthOffset = 12 + variant.getSerializedString().getBytes(StandardCharsets.UTF_8).length + 4;
+            ByteBuffer header = ByteBuffer.wrap(file);
+            int bodyLength = header.getInt(bodyLengthOffset);
+            header.putInt(bodyLengthOffset, bodyLength / 2);
+            Files.write(path, Arrays.copyOf(file, file.length - (bodyLength - bodyLength / 2)));
+
+            assertThrows(EmulatorException.class, () -> SaveState.read(emulator, path));
+            assertArrayEquals(currentState, captureState(emulator));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Variant.class)
+    void trailingBytesAreRejected(Variant variant) throws Exception {
+        try (Emulator emulator = createEmulator(variant)) {
+            runFrames(emulator);
+            Path path = this.directory.resolve(variant.getSerializedString() + SaveState.FILE_EXTENSION);
+            SaveState.write(emulator, path);
+            runFrames(emulator);
+            byte[] currentState = captureState(emulator);
+
+            byte[] file = Files.readAllBytes(path);
+            int bodyLengthOffset = 12 + variant.getSerializedString().getBytes(StandardCharsets.UTF_8).length + 4;
+            ByteBuffer.wrap(file).putInt(bodyLengthOffset, ByteBuffer.wrap(file).getInt(bodyLengthOffset) + 4);
+            Files.write(path, Arrays.copyOf(file, file.length + 4));
+
+            assertThrows(EmulatorException.class, () -> SaveState.read(emulator, path));
+            assertArrayEquals(currentState, captureState(emulator));
+        }
+    }
+
+    @Test
+    void stackPointerIsMaskedOnLoad() throws Exception {
+        try (Emulator emulator = createEmulator(Variant.CHIP_8)) {
+            byte[] state = captureState(emulator);
+            // Instructions per frame and wait frames, then the registers, the stack, the program counter and the index register
+            int stackPointerOffset = 4 + 4 + 16 + 16 * 4 + 4 + 4;
+            ByteBuffer.wrap(state).putInt(stackPointerOffset, 0x1234);
+            emulator.loadState(new StateReader(ByteBuffer.wrap(state)));
+            assertEquals(0x4, ((Chip8Emulator) emulator).getProcessor().getStackPointer());
+        }
+    }
+
+    // Draws, stores, calls and sounds in a loop, so that every component has state of its own by the time it is saved
+    private static Emulator createEmulator(Variant variant) {
+        int start = variant == Variant.CHIP_8X ? 0x300 : 0x200;
+        return TestInitializer.createEmulator(variant,
+                0x6005,                   // V0 = 0x05
+                0xC1FF,                   // V1 = random
+                0x7201,                   // V2 += 0x01
+                0xA000 | (start + 0x100), // I = start + 0x100
+                0xF255,                   // Store V0 to V2 at I
+                0xD015,                   // Draw 5 rows at V0, V1
+                0xF218,                   // Sound timer = V2
+                0x2000 | (start + 0x12),  // Call the return below
+                0x1000 | (start + 0x02),  // Jump back to the second instruction
+                0x00EE                    // Return
+        );
+    }
+
+    private static void runFrames(Emulator emulator) {
+        for (int i = 0; i < FRAMES; i++) {
+            emulator.executeFrame();
+        }
+    }
+
+    private static byte[] captureState(Emulator emulator) {
+        StateWriter writer = new StateWriter();
+        emulator.saveState(writer);
+        return writer.toByteArray();
+    }
+
+}
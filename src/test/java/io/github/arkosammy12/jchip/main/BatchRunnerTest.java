@@ -0,0 +1,39 @@
+package io.github.arkosammy12.jchip.main;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unreadableRomIsReportedWithoutAbortingTheBatch() throws Exception {
+        Path roms = Files.createDirectory(this.directory.resolve("roms"));
+        // 1200: jump to itself
+        Files.write(roms.resolve("a.ch8"), new byte[] {0x12, 0x00});
+        try (RandomAccessFile file = new RandomAccessFile(roms.resolve("b.ch8").toFile(), "rw")) {
+            file.setLength(17 * 1024 * 1024);
+        }
+        Path report = this.directory.resolve("report.tsv");
+
+        int exitCode = BatchRunner.execute(new String[] {"-d", roms.toString(), "-v", "chip-8", "--frames", "10", "-t", "1", "-o", report.toString()});
+
+        List<String> lines = Files.readAllLines(report);
+        assertEquals(1, exitCode);
+        assertEquals(3, lines.size());
+        assertEquals("a.ch8", lines.get(1).split("\t")[0]);
+        assertEquals("OK", lines.get(1).split("\t")[3]);
+        assertEquals("b.ch8", lines.get(2).split("\t")[0]);
+        assertEquals("ERROR", lines.get(2).split("\t")[3]);
+    }
+
+}